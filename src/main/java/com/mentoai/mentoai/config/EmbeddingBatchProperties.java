@@ -0,0 +1,31 @@
+package com.mentoai.mentoai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gemini.embedding-batch")
+public class EmbeddingBatchProperties {
+
+    /**
+     * 동시 단건 임베딩 요청을 모아 batchEmbedContents로 보내는 마이크로 배칭 사용 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 한 번의 batchEmbedContents 호출에 담을 최대 텍스트 수 (Gemini 제한 100).
+     */
+    private Integer maxBatchSize = 32;
+
+    /**
+     * 첫 요청 이후 추가 요청을 기다리는 최대 시간(ms).
+     */
+    private Integer maxWaitMs = 5;
+
+    /**
+     * 동시에 진행할 수 있는 배치 호출 수.
+     */
+    private Integer concurrency = 4;
+}
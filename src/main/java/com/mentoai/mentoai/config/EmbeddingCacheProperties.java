@@ -0,0 +1,26 @@
+package com.mentoai.mentoai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gemini.embedding-cache")
+public class EmbeddingCacheProperties {
+
+    /**
+     * 임베딩 캐시 사용 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시에 보관할 최대 임베딩 수.
+     */
+    private Integer maxEntries = 2000;
+
+    /**
+     * 캐시 항목 유효 시간(초). 0 이하이면 만료 없음.
+     */
+    private Long ttlSeconds = 86400L;
+}
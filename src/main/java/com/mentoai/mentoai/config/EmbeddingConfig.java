@@ -0,0 +1,9 @@
+package com.mentoai.mentoai.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EmbeddingProviderProperties.class)
+public class EmbeddingConfig {
+}
@@ -0,0 +1,37 @@
+package com.mentoai.mentoai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "embedding.provider")
+public class EmbeddingProviderProperties {
+
+    /**
+     * 의미 검색(/search)에 사용할 임베딩 제공자 (gemini | local).
+     */
+    private String search = "gemini";
+
+    /**
+     * Qdrant 색인/검색에 사용할 임베딩 제공자 (gemini | local).
+     * 변경 시 기존 컬렉션을 같은 제공자로 재색인해야 합니다.
+     */
+    private String vectorStore = "gemini";
+
+    /**
+     * 로컬 해싱 임베딩 차원. Qdrant에 사용할 경우 qdrant.vector-dim과 같아야 합니다.
+     */
+    private Integer localDimension = 768;
+
+    /**
+     * 로컬 임베딩에 사용할 문자 n-gram 최소 길이.
+     */
+    private Integer localMinGram = 2;
+
+    /**
+     * 로컬 임베딩에 사용할 문자 n-gram 최대 길이.
+     */
+    private Integer localMaxGram = 3;
+}
@@ -0,0 +1,41 @@
+package com.mentoai.mentoai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gemini.circuit-breaker")
+public class GeminiCircuitBreakerProperties {
+
+    /**
+     * 서킷 브레이커 사용 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 실패율을 계산할 최근 호출 수.
+     */
+    private Integer windowSize = 20;
+
+    /**
+     * 실패율을 판단하기 위한 최소 호출 수.
+     */
+    private Integer minimumCalls = 10;
+
+    /**
+     * OPEN으로 전환할 실패율(%).
+     */
+    private Integer failureRateThreshold = 50;
+
+    /**
+     * OPEN 상태 유지 시간(ms). 이후 HALF_OPEN에서 시험 호출.
+     */
+    private Integer openDurationMs = 30000;
+
+    /**
+     * HALF_OPEN에서 허용할 시험 호출 수. 모두 성공하면 CLOSED.
+     */
+    private Integer halfOpenProbes = 2;
+}
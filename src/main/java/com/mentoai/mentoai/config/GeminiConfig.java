@@ -0,0 +1,15 @@
+package com.mentoai.mentoai.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({
+        EmbeddingCacheProperties.class,
+        EmbeddingBatchProperties.class,
+        ResponseCacheProperties.class,
+        GeminiTrafficProperties.class,
+        GeminiCircuitBreakerProperties.class
+})
+public class GeminiConfig {
+}
@@ -0,0 +1,66 @@
+package com.mentoai.mentoai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gemini.traffic")
+public class GeminiTrafficProperties {
+
+    /**
+     * 동시 호출 제한/요청률 제한 사용 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 사용자 요청 경로의 최대 동시 호출 수.
+     */
+    private Integer interactiveConcurrency = 16;
+
+    /**
+     * 적재/색인 작업의 최대 동시 호출 수.
+     */
+    private Integer backgroundConcurrency = 4;
+
+    /**
+     * 사용자 요청이 permit을 기다리는 최대 시간(ms). 넘기면 즉시 실패해 기존 fallback을 사용.
+     */
+    private Integer interactiveMaxWaitMs = 3000;
+
+    /**
+     * 적재/색인 작업이 permit을 기다리는 최대 시간(ms).
+     */
+    private Integer backgroundMaxWaitMs = 120000;
+
+    /**
+     * 분당 요청 수 한도 (RPM).
+     */
+    private Integer requestsPerMinute = 600;
+
+    /**
+     * 분당 토큰 한도 (TPM). 입력 길이로 추정한 토큰 + 예상 출력 토큰으로 계산.
+     */
+    private Integer tokensPerMinute = 1000000;
+
+    /**
+     * 텍스트 생성 호출 한 번의 예상 출력 토큰 수.
+     */
+    private Integer expectedOutputTokens = 1024;
+
+    /**
+     * 429 응답에 Retry-After가 없을 때 첫 대기 시간(ms). 연속 429마다 두 배로 증가.
+     */
+    private Integer backoffInitialMs = 1000;
+
+    /**
+     * 429 대기 시간 상한(ms).
+     */
+    private Integer backoffMaxMs = 60000;
+
+    /**
+     * 적재/색인 작업이 429를 받았을 때 재시도 횟수. 사용자 요청은 재시도하지 않고 fallback.
+     */
+    private Integer backgroundMaxRetries = 3;
+}
@@ -0,0 +1,74 @@
+package com.mentoai.mentoai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recommend.intent-classifier")
+public class IntentClassifierProperties {
+
+    /**
+     * 로컬 추천 의도 분류기 사용 여부. false면 기존처럼 항상 LLM으로 판별.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 모델 파일 위치 (Spring Resource 경로). file: 경로면 변경 시 자동으로 다시 로드.
+     */
+    private String modelLocation = "classpath:intent/recommend-intent-model.tsv";
+
+    /**
+     * 재학습 시 사용할 초기 예시 파일 위치.
+     */
+    private String seedLocation = "classpath:intent/recommend-intent-seed.tsv";
+
+    /**
+     * 재학습한 모델을 저장할 파일 경로. 비어 있으면 메모리에서만 교체.
+     */
+    private String modelOutputPath;
+
+    /**
+     * 추천 확률이 이 값 이하면 비추천으로 확정.
+     */
+    private Double lowerThreshold = 0.2;
+
+    /**
+     * 추천 확률이 이 값 이상이면 추천으로 확정. 두 임계값 사이는 LLM으로 판별.
+     */
+    private Double upperThreshold = 0.8;
+
+    /**
+     * 모델 파일 변경 확인 주기(ms).
+     */
+    private Long reloadIntervalMs = 60000L;
+
+    /**
+     * 채팅 로그 기반 재학습 cron. "-"면 자동 재학습 안 함.
+     */
+    private String retrainCron = "-";
+
+    /**
+     * 재학습에 사용할 최근 채팅 로그 최대 수.
+     */
+    private Integer historyLimit = 5000;
+
+    /**
+     * 학습 예시에서 한 클래스가 다른 클래스의 몇 배까지 채팅 로그 예시를 더할 수 있는지.
+     * 추천 경로 로그가 대부분이라 초과분은 오래된 로그부터 제외.
+     */
+    private Double historyMaxClassRatio = 3.0;
+
+    /**
+     * 문자 n-gram 최소/최대 길이 (단어 경계 표시 포함).
+     */
+    private Integer minGram = 2;
+
+    private Integer maxGram = 3;
+
+    /**
+     * 라플라스 스무딩 계수.
+     */
+    private Double alpha = 1.0;
+}
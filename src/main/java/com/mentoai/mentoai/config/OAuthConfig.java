@@ -7,8 +7,13 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class OAuthConfig {
 
+    private static final int READ_TIMEOUT_MS = 10000;
+
+    /**
+     * 범용 RestTemplate (Google OAuth, keep-alive ping). 공유 커넥션 풀을 사용합니다.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(OutboundHttpClientFactory outboundHttpClientFactory) {
+        return outboundHttpClientFactory.restTemplate("default", READ_TIMEOUT_MS);
     }
 }
@@ -0,0 +1,66 @@
+package com.mentoai.mentoai.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 공유 커넥션 풀 위에 클라이언트별 타임아웃을 적용한 RestTemplate/WebClient를 만듭니다.
+ * 블로킹(RestTemplate)과 논블로킹(WebClient) 호출이 같은 keep-alive 커넥션을 재사용합니다.
+ */
+public class OutboundHttpClientFactory {
+
+    private final ConnectionProvider connectionProvider;
+    private final OutboundHttpProperties properties;
+
+    public OutboundHttpClientFactory(ConnectionProvider connectionProvider, OutboundHttpProperties properties) {
+        this.connectionProvider = connectionProvider;
+        this.properties = properties;
+    }
+
+    /**
+     * @param client             클라이언트 이름 (http.outbound.clients.{name})
+     * @param defaultReadTimeout 클라이언트별 설정이 없을 때의 응답 타임아웃(ms). null이면 제한 없음
+     */
+    public RestTemplate restTemplate(String client, Integer defaultReadTimeout) {
+        return new RestTemplate(new ReactorClientHttpRequestFactory(httpClient(client, defaultReadTimeout)));
+    }
+
+    public WebClient webClient(WebClient.Builder builder, String client, Integer defaultReadTimeout) {
+        int maxInMemorySize = orDefault(properties.getMaxInMemorySizeKb(), 4096) * 1024;
+        return builder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient(client, defaultReadTimeout)))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                .build();
+    }
+
+    private HttpClient httpClient(String client, Integer defaultReadTimeout) {
+        OutboundHttpProperties.Client settings = properties.getClients().get(client);
+        Integer connectTimeout = settings != null && settings.getConnectTimeoutMs() != null
+                ? settings.getConnectTimeoutMs() : properties.getConnectTimeoutMs();
+        Integer readTimeout = settings != null && settings.getReadTimeoutMs() != null
+                ? settings.getReadTimeoutMs() : defaultReadTimeout;
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, orDefault(connectTimeout, 3000))
+                .compress(true);
+        if (properties.isHttp2Enabled()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        if (readTimeout != null && readTimeout > 0) {
+            httpClient = httpClient.responseTimeout(Duration.ofMillis(readTimeout));
+        }
+        return httpClient;
+    }
+
+    private static int orDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,79 @@
+package com.mentoai.mentoai.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 외부 API(Gemini, Qdrant, 데이터 엔지니어링 등) 호출용 HTTP 클라이언트 설정.
+ * 모든 RestTemplate/WebClient가 하나의 Reactor Netty 커넥션 풀(keep-alive, HTTP/2)을 공유하며,
+ * 연결/응답 타임아웃만 클라이언트별로 다릅니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboundHttpProperties.class)
+public class OutboundHttpConfig {
+
+    // Gemini 텍스트 생성은 응답이 길어 기본 응답 타임아웃을 넉넉히 설정
+    private static final int GEMINI_READ_TIMEOUT_MS = 60000;
+
+    @Bean
+    public OutboundPoolMetrics outboundPoolMetrics() {
+        return new OutboundPoolMetrics();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider outboundConnectionProvider(OutboundHttpProperties properties,
+                                                         OutboundPoolMetrics outboundPoolMetrics) {
+        return ConnectionProvider.builder("mentoai-outbound")
+                .maxConnections(orDefault(properties.getMaxConnections(), 100))
+                .pendingAcquireMaxCount(orDefault(properties.getPendingAcquireMaxCount(), 500))
+                .pendingAcquireTimeout(Duration.ofMillis(orDefault(properties.getPendingAcquireTimeoutMs(), 5000)))
+                .maxIdleTime(Duration.ofMillis(orDefault(properties.getMaxIdleTimeMs(), 30000)))
+                .maxLifeTime(Duration.ofMillis(orDefault(properties.getMaxLifeTimeMs(), 300000)))
+                .evictInBackground(Duration.ofMillis(orDefault(properties.getEvictInBackgroundMs(), 60000)))
+                .metrics(true, () -> outboundPoolMetrics)
+                .build();
+    }
+
+    @Bean
+    public OutboundHttpClientFactory outboundHttpClientFactory(ConnectionProvider outboundConnectionProvider,
+                                                               OutboundHttpProperties properties) {
+        return new OutboundHttpClientFactory(outboundConnectionProvider, properties);
+    }
+
+    @Bean
+    public RestTemplate geminiRestTemplate(OutboundHttpClientFactory outboundHttpClientFactory) {
+        return outboundHttpClientFactory.restTemplate("gemini", GEMINI_READ_TIMEOUT_MS);
+    }
+
+    /**
+     * Gemini 호출용. 스트리밍 응답이 있어 응답 타임아웃은 호출부에서 timeout 연산자로 지정합니다.
+     */
+    @Bean
+    public WebClient geminiWebClient(WebClient.Builder builder, OutboundHttpClientFactory outboundHttpClientFactory) {
+        return outboundHttpClientFactory.webClient(builder, "gemini", null);
+    }
+
+    @Bean
+    public WebClient qdrantWebClient(WebClient.Builder builder,
+                                     OutboundHttpClientFactory outboundHttpClientFactory,
+                                     QdrantProperties qdrantProperties) {
+        return outboundHttpClientFactory.webClient(builder, "qdrant", qdrantProperties.getTimeoutMs());
+    }
+
+    @Bean
+    public WebClient dataEngineeringWebClient(WebClient.Builder builder,
+                                              OutboundHttpClientFactory outboundHttpClientFactory,
+                                              DataEngineeringProperties dataEngineeringProperties) {
+        return outboundHttpClientFactory.webClient(builder, "dataeng", dataEngineeringProperties.getTimeoutMs());
+    }
+
+    private static int orDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+}
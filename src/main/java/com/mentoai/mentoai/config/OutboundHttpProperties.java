@@ -0,0 +1,79 @@
+package com.mentoai.mentoai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http.outbound")
+public class OutboundHttpProperties {
+
+    /**
+     * 공유 커넥션 풀의 호스트별 최대 커넥션 수.
+     */
+    private Integer maxConnections = 100;
+
+    /**
+     * 커넥션을 기다리는 요청의 최대 대기열 길이.
+     */
+    private Integer pendingAcquireMaxCount = 500;
+
+    /**
+     * 커넥션 획득 대기 타임아웃(ms).
+     */
+    private Integer pendingAcquireTimeoutMs = 5000;
+
+    /**
+     * 유휴 커넥션 유지 시간(ms). 서버/프록시의 keep-alive보다 짧게 설정.
+     */
+    private Integer maxIdleTimeMs = 30000;
+
+    /**
+     * 커넥션 최대 수명(ms).
+     */
+    private Integer maxLifeTimeMs = 300000;
+
+    /**
+     * 유휴/만료 커넥션을 백그라운드에서 정리하는 주기(ms).
+     */
+    private Integer evictInBackgroundMs = 60000;
+
+    /**
+     * 기본 TCP 연결 타임아웃(ms). 클라이언트별 설정이 없을 때 사용.
+     */
+    private Integer connectTimeoutMs = 3000;
+
+    /**
+     * TLS ALPN으로 HTTP/2를 협상할지 여부. 지원하지 않는 서버는 HTTP/1.1로 통신.
+     */
+    private boolean http2Enabled = true;
+
+    /**
+     * 응답 본문을 메모리에 버퍼링할 최대 크기(KB). 배치 임베딩 응답을 고려해 기본 4MB.
+     */
+    private Integer maxInMemorySizeKb = 4096;
+
+    /**
+     * 클라이언트별(gemini, qdrant, dataeng, default) 연결/응답 타임아웃.
+     */
+    private Map<String, Client> clients = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Client {
+
+        /**
+         * TCP 연결 타임아웃(ms).
+         */
+        private Integer connectTimeoutMs;
+
+        /**
+         * 응답 타임아웃(ms).
+         */
+        private Integer readTimeoutMs;
+    }
+}
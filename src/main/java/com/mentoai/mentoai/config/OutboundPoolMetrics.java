@@ -0,0 +1,56 @@
+package com.mentoai.mentoai.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공유 커넥션 풀의 호스트별 사용량. Micrometer 없이 Reactor Netty의 MeterRegistrar로 풀 상태를 받아 둡니다.
+ */
+@Slf4j
+public class OutboundPoolMetrics implements ConnectionProvider.MeterRegistrar {
+
+    private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(key(poolName, id, remoteAddress), metrics);
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(key(poolName, id, remoteAddress));
+    }
+
+    public Map<String, PoolSnapshot> snapshot() {
+        Map<String, PoolSnapshot> snapshot = new TreeMap<>();
+        pools.forEach((key, metrics) -> snapshot.put(key, new PoolSnapshot(
+                metrics.acquiredSize(),
+                metrics.idleSize(),
+                metrics.allocatedSize(),
+                metrics.pendingAcquireSize(),
+                metrics.maxAllocatedSize()
+        )));
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats-log-interval-ms:300000}")
+    public void logStats() {
+        snapshot().forEach((pool, stats) ->
+                log.info("Outbound pool [{}]: acquired={} idle={} allocated={}/{} pending={}",
+                        pool, stats.acquired(), stats.idle(), stats.allocated(), stats.maxAllocated(), stats.pending()));
+    }
+
+    private static String key(String poolName, String id, SocketAddress remoteAddress) {
+        return poolName + "@" + remoteAddress + "#" + id;
+    }
+
+    public record PoolSnapshot(int acquired, int idle, int allocated, int pending, int maxAllocated) {
+    }
+}
@@ -3,7 +3,6 @@ package com.mentoai.mentoai.config;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -11,16 +10,9 @@ import org.springframework.web.client.RestTemplate;
 public class QdrantConfig {
 
     @Bean
-    public RestTemplate qdrantRestTemplate(QdrantProperties properties) {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        int timeout = properties.getTimeoutMs() != null ? properties.getTimeoutMs() : 5000;
-        requestFactory.setConnectTimeout(timeout);
-        requestFactory.setReadTimeout(timeout);
-
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setRequestFactory(requestFactory);
-        return restTemplate;
+    public RestTemplate qdrantRestTemplate(QdrantProperties properties,
+                                           OutboundHttpClientFactory outboundHttpClientFactory) {
+        return outboundHttpClientFactory.restTemplate("qdrant", properties.getTimeoutMs());
     }
 }
 
-
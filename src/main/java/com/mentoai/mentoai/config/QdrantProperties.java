@@ -65,6 +65,169 @@ public class QdrantProperties {
      */
     private Integer timeoutMs = 5000;
 
+    /**
+     * 여러 컬렉션 동시 검색 시 컬렉션별 대기 시간(ms). 초과한 컬렉션은 제외하고 나머지 결과만 사용.
+     */
+    private Integer fanOutTimeoutMs = 3000;
+
+    /**
+     * 같은 컬렉션으로 동시에 들어온 검색을 /points/search/batch 한 번으로 묶을지 여부.
+     */
+    private boolean batchEnabled = true;
+
+    /**
+     * 같은 컬렉션에 전송 중인 검색이 있을 때, 배치로 묶기 위해 기다리는 시간(ms).
+     * 혼자 들어온 검색은 기다리지 않고 바로 전송.
+     */
+    private Integer batchWindowMs = 5;
+
+    /**
+     * 한 배치에 담을 최대 검색 수. 모이면 대기 시간 전이라도 바로 전송.
+     */
+    private Integer batchMaxSize = 16;
+
+    /**
+     * 전송 방식: rest(기본, JSON) 또는 grpc(바이너리 protobuf, HTTP/2 다중화).
+     */
+    private String transport = "rest";
+
+    /**
+     * gRPC 호스트 (지정되지 않으면 qdrant.url의 호스트 사용).
+     */
+    private String grpcHost;
+
+    /**
+     * gRPC 포트 (Qdrant 기본 6334).
+     */
+    private Integer grpcPort = 6334;
+
+    /**
+     * gRPC TLS 사용 여부 (지정되지 않으면 qdrant.url이 https일 때 사용).
+     */
+    private Boolean grpcTls;
+
+    /**
+     * gRPC 업서트 시 요청 하나에 담을 포인트 수.
+     */
+    private Integer grpcUpsertChunkSize = 64;
+
+    /**
+     * gRPC 업서트 청크를 동시에 보낼 최대 개수 (하나의 HTTP/2 연결에서 다중화).
+     */
+    private Integer grpcUpsertConcurrency = 4;
+
+    /**
+     * 활동 검색 조건(유형, 교내 여부, 상태, 태그, 마감)을 Qdrant payload 필터로 내려보낼지 여부.
+     */
+    private boolean payloadFilterEnabled = true;
+
+    /**
+     * 시작 시 활동 컬렉션에 payload 필드 인덱스를 만들지 여부.
+     */
+    private boolean createPayloadIndexes = true;
+
+    /**
+     * payload 필터 필드(type, campus, status, tags)가 모든 포인트에 채워진 것으로 확인된 활동 컬렉션.
+     * 외부에서 적재했거나 재색인 전인 포인트는 필드가 없어 필터를 그대로 통과하므로,
+     * 검색 대상 활동 컬렉션이 모두 여기 포함될 때만 후보 과다 조회를 줄입니다.
+     */
+    private java.util.List<String> payloadIndexedCollections = new java.util.ArrayList<>();
+
+    /**
+     * 시작 시 없는 활동/채용/프로필 컬렉션을 아래 설정으로 생성할지 여부.
+     */
+    private boolean bootstrapCollections = true;
+
+    /**
+     * 새 컬렉션의 거리 함수 (Cosine, Dot, Euclid, Manhattan).
+     */
+    private String distance = "Cosine";
+
+    /**
+     * 새 컬렉션의 HNSW 그래프 간선 수 m.
+     */
+    private Integer hnswM = 16;
+
+    /**
+     * 새 컬렉션의 HNSW 인덱스 구축 시 후보 수 ef_construct.
+     */
+    private Integer hnswEfConstruct = 100;
+
+    /**
+     * 원본 벡터를 디스크에 둘지 여부 (양자화 벡터는 메모리에 유지).
+     */
+    private boolean onDiskVectors = false;
+
+    /**
+     * 새 컬렉션에 int8 스칼라 양자화를 적용할지 여부.
+     */
+    private boolean quantizationEnabled = true;
+
+    /**
+     * 스칼라 양자화 범위 산정에 쓰는 분위수 (극단값 제외).
+     */
+    private Double quantizationQuantile = 0.99;
+
+    /**
+     * 양자화 벡터를 항상 메모리에 둘지 여부.
+     */
+    private boolean quantizationAlwaysRam = true;
+
+    /**
+     * 검색 시 기본 hnsw_ef (지정되지 않으면 Qdrant 기본값). 클수록 재현율이 높고 느려짐.
+     */
+    private Integer searchHnswEf;
+
+    /**
+     * 양자화 검색 후 원본 벡터로 다시 점수를 계산할지 여부.
+     */
+    private boolean searchRescore = true;
+
+    /**
+     * 양자화 검색 시 다시 점수를 매길 후보 배수.
+     */
+    private Double searchOversampling = 2.0;
+
+    /**
+     * 색인 요청(업서트, 삭제)을 백그라운드 writer에 모아 배치로 보낼지 여부. false면 호출 스레드에서 바로 전송.
+     */
+    private boolean indexWriterEnabled = true;
+
+    /**
+     * 색인 배치 하나에 담을 포인트 수. 모이면 플러시 주기 전이라도 바로 전송.
+     */
+    private Integer indexBatchSize = 256;
+
+    /**
+     * 대기 중인 색인 포인트를 플러시하는 주기(ms).
+     */
+    private Integer indexFlushIntervalMs = 500;
+
+    /**
+     * 대기 가능한 최대 포인트 수. 초과하면 호출 스레드가 플러시가 끝날 때까지 대기.
+     */
+    private Integer indexQueueCapacity = 10000;
+
+    /**
+     * 실패한 색인 배치의 최대 재시도 횟수.
+     */
+    private Integer indexMaxRetries = 3;
+
+    /**
+     * 색인 배치 재시도 첫 대기 시간(ms). 재시도마다 두 배로 증가.
+     */
+    private Integer indexRetryBackoffMs = 500;
+
+    /**
+     * 재시도까지 실패한 색인 요청을 큐에 다시 넣는 최대 횟수. 넘으면 dead-letter로 옮기고,
+     * 같은 컬렉션으로의 전송이 성공하면 다시 큐에 넣음.
+     */
+    private Integer indexMaxRequeues = 5;
+
+    public boolean isGrpcTransport() {
+        return "grpc".equalsIgnoreCase(transport);
+    }
+
     public String resolvedActivityCollection() {
         return firstNonBlank(collection, linkareerContest, linkareerGongmo);
     }
@@ -77,6 +240,16 @@ public class QdrantProperties {
         return nonBlankList(collection, linkareerContest, linkareerGongmo);
     }
 
+    /**
+     * 모든 활동 컬렉션에 payload 필터 필드가 채워져 있는지 여부.
+     */
+    public boolean activityPayloadFieldsIndexed() {
+        java.util.List<String> collections = activityCollections();
+        return !collections.isEmpty()
+                && payloadIndexedCollections != null
+                && payloadIndexedCollections.containsAll(collections);
+    }
+
     public java.util.List<String> jobCollections() {
         return nonBlankList(jobCollection, jobdaRecruit, jobdaDetail, collection);
     }
@@ -0,0 +1,52 @@
+package com.mentoai.mentoai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recommend.prompt")
+public class RagPromptProperties {
+
+    /**
+     * RAG 프롬프트 전체 토큰 예산 (추정치 기준).
+     */
+    private Integer maxTokens = 4000;
+
+    /**
+     * 사용자 프로필 요약에 쓸 토큰 예산.
+     */
+    private Integer profileTokenBudget = 300;
+
+    /**
+     * 후보 활동 하나당 토큰 예산. 넘으면 요약을 잘라냄.
+     */
+    private Integer candidateTokenBudget = 120;
+
+    /**
+     * 프롬프트에 넣을 최대 후보 수. 예산이 부족하면 순위가 낮은 후보부터 제외.
+     */
+    private Integer maxCandidates = 20;
+
+    /**
+     * 후보당 태그 최대 개수.
+     */
+    private Integer maxTagsPerCandidate = 5;
+
+    /**
+     * 프로필 요약에 포함할 최대 경험 수.
+     */
+    private Integer maxExperiences = 5;
+
+    /**
+     * 프로필 요약에 포함할 최대 기술 스택 수.
+     */
+    private Integer maxSkills = 10;
+
+    /**
+     * true면 의도 판별/추천/요약을 JSON 스키마 응답 하나로 받는 단일 호출 모드.
+     * false면 기존처럼 의도 판별, 추천, 요약을 각각 호출.
+     */
+    private boolean singleCall = true;
+}
@@ -0,0 +1,14 @@
+package com.mentoai.mentoai.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({
+        RagPromptProperties.class,
+        RecommendPipelineProperties.class,
+        IntentClassifierProperties.class,
+        RecommendationCacheProperties.class
+})
+public class RecommendConfig {
+}
@@ -0,0 +1,31 @@
+package com.mentoai.mentoai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recommend.pipeline")
+public class RecommendPipelineProperties {
+
+    /**
+     * 의도 판별(LLM)과 프로필/적합도/후보 검색을 동시에 실행할지 여부. false면 기존처럼 순차 실행.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 병렬 단계(LLM 의도 판별, 역할 적합도 계산)를 실행할 스레드 수.
+     */
+    private Integer concurrency = 8;
+
+    /**
+     * 대기 큐 크기. 가득 차면 호출 스레드에서 직접 실행해 순차 실행으로 물러남.
+     */
+    private Integer queueCapacity = 100;
+
+    /**
+     * 병렬 단계 결과를 기다리는 최대 시간(ms). 초과하면 의도 판별은 키워드 규칙, 적합도는 null로 대체.
+     */
+    private Long stageTimeoutMs = 10000L;
+}
@@ -0,0 +1,26 @@
+package com.mentoai.mentoai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recommend.result-cache")
+public class RecommendationCacheProperties {
+
+    /**
+     * 사용자별 추천 결과 캐시 사용 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시 유지 시간(초). 이벤트 무효화가 누락되어도 이 시간이 지나면 다시 계산.
+     */
+    private Long ttlSeconds = 600L;
+
+    /**
+     * 최대 캐시 항목 수.
+     */
+    private Integer maxEntries = 10000;
+}
@@ -16,7 +16,7 @@ import org.springframework.web.client.RestTemplate;
 @RequiredArgsConstructor
 public class RenderKeepAliveScheduler {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
 
     @Value("${keepalive.url:https://mentoai.onrender.com/healthz}")
     private String keepAliveUrl;
@@ -0,0 +1,46 @@
+package com.mentoai.mentoai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gemini.response-cache")
+public class ResponseCacheProperties {
+
+    /**
+     * generateText 응답 캐시 사용 여부. 호출부에서 캐시 옵션을 넘긴 경우에만 적용됩니다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 프롬프트 해시 기준(정확 일치) 캐시 최대 항목 수.
+     */
+    private Integer maxEntries = 1000;
+
+    /**
+     * 응답 캐시 유효 시간(초). 0 이하이면 만료 없음.
+     */
+    private Long ttlSeconds = 3600L;
+
+    /**
+     * 의미 유사도 기반 캐시 사용 여부.
+     */
+    private boolean semanticEnabled = false;
+
+    /**
+     * 의미 캐시 적중으로 판단할 최소 코사인 유사도.
+     */
+    private Double semanticThreshold = 0.95;
+
+    /**
+     * 호출부(namespace)별 의미 캐시 최대 항목 수.
+     */
+    private Integer semanticMaxEntries = 500;
+
+    /**
+     * 의미 캐시 키 임베딩에 사용할 제공자 (gemini | local).
+     */
+    private String semanticProvider = "gemini";
+}
@@ -11,6 +11,7 @@ import com.mentoai.mentoai.controller.dto.RecommendCalendarRequest;
 import com.mentoai.mentoai.entity.ActivityEntity;
 import com.mentoai.mentoai.entity.CalendarEventEntity;
 import com.mentoai.mentoai.service.RecommendService;
+import com.mentoai.mentoai.service.RecommendStreamService;
 import com.mentoai.mentoai.service.CalendarEventService;
 import com.mentoai.mentoai.service.JobRecommendationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,9 +22,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import com.mentoai.mentoai.security.UserPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 import java.util.Map;
@@ -36,6 +40,7 @@ import java.util.Map;
 public class RecommendController {
 
     private final RecommendService recommendService;
+    private final RecommendStreamService recommendStreamService;
     private final CalendarEventService calendarEventService;
     private final JobRecommendationService jobRecommendationService;
 
@@ -76,6 +81,16 @@ public class RecommendController {
         }
     }
 
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "RAG 기반 맞춤 추천 (스트리밍)",
+            description = "SSE로 검색 후보(candidates), LLM 생성 조각(token), 최종 추천 결과(result)를 순서대로 전송합니다. 실패 시 error 이벤트를 보냅니다.")
+    public Flux<ServerSentEvent<Object>> streamRecommendations(
+            @Valid @RequestBody RecommendRequest request) {
+        log.info("[/recommend/stream] Request received userId={}, query={}, topK={}",
+                request.userId(), request.query(), request.topK());
+        return recommendStreamService.stream(request);
+    }
+
     @PostMapping("/jobs")
     @Operation(summary = "사용자 맞춤 공고 추천", description = "벡터 검색을 이용해 사용자 프로필과 유사한 채용 공고를 추천합니다.")
     public ResponseEntity<JobRecommendResponse> recommendJobs(
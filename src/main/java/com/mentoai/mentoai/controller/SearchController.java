@@ -2,6 +2,7 @@ package com.mentoai.mentoai.controller;
 
 import com.mentoai.mentoai.controller.dto.SemanticSearchResponse;
 import com.mentoai.mentoai.controller.mapper.ActivityMapper;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
 import com.mentoai.mentoai.service.RecommendService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,6 +22,9 @@ import java.util.stream.Collectors;
 @Tag(name = "activities", description = "의미 기반 검색")
 public class SearchController {
 
+    // 응답에는 질의 임베딩 앞부분만 담음 (전체 768차원은 응답 크기만 키움)
+    private static final int QUERY_EMBEDDING_PREVIEW_SIZE = 16;
+
     private final RecommendService recommendService;
 
     @GetMapping("/search")
@@ -37,12 +41,12 @@ public class SearchController {
             throw new IllegalArgumentException("q 파라미터는 필수입니다.");
         }
 
-        List<RecommendService.SemanticSearchResult> results =
-                recommendService.semanticSearchWithScores(query, topK, userId != null ? userId.toString() : null);
+        RecommendService.SemanticSearchOutcome outcome =
+                recommendService.semanticSearchWithQueryEmbedding(query, topK, userId != null ? userId.toString() : null);
 
         SemanticSearchResponse response = new SemanticSearchResponse(
-                buildQueryEmbedding(query),
-                results.stream()
+                queryEmbeddingPreview(outcome.queryEmbedding()),
+                outcome.results().stream()
                         .map(result -> new SemanticSearchResponse.ResultItem(
                                 ActivityMapper.toResponse(result.activity()),
                                 result.score()
@@ -53,15 +57,11 @@ public class SearchController {
         return ResponseEntity.ok(response);
     }
 
-    private List<Double> buildQueryEmbedding(String query) {
-        return query.chars()
-                .limit(16)
-                .mapToDouble(ch -> (double) (ch % 97) / 96.0)
-                .boxed()
-                .collect(Collectors.toList());
+    private List<Double> queryEmbeddingPreview(EmbeddingVector queryEmbedding) {
+        if (queryEmbedding == null) {
+            return List.of();
+        }
+        List<Double> values = queryEmbedding.toList();
+        return List.copyOf(values.subList(0, Math.min(QUERY_EMBEDDING_PREVIEW_SIZE, values.size())));
     }
 }
-
-
-
-
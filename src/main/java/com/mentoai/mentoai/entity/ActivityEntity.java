@@ -1,6 +1,7 @@
 package com.mentoai.mentoai.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.mentoai.mentoai.service.RecommendationCacheEntityListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,6 +14,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "activities")
+@EntityListeners(RecommendationCacheEntityListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,8 +1,10 @@
 package com.mentoai.mentoai.entity;
 
+import com.mentoai.mentoai.service.RecommendationCacheEntityListener;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -20,6 +22,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "job_postings")
+@EntityListeners(RecommendationCacheEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -54,6 +54,18 @@ public class RecommendChatLogEntity {
     @Column(name = "model_name")
     private String modelName;
 
+    @Column(name = "prompt_token_estimate")
+    private Integer promptTokenEstimate;
+
+    @Column(name = "prompt_tokens")
+    private Integer promptTokens;
+
+    @Column(name = "output_tokens")
+    private Integer outputTokens;
+
+    @Column(name = "generation_latency_ms")
+    private Long generationLatencyMs;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
@@ -0,0 +1,46 @@
+package com.mentoai.mentoai.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "target_role_embeddings")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TargetRoleEmbeddingEntity {
+
+    @Id
+    @Column(name = "role_id")
+    private String roleId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "model_version", nullable = false, length = 100)
+    private String modelVersion;
+
+    @Column(nullable = false)
+    private Integer dimension;
+
+    // float32 리틀 엔디언 (EmbeddingVector.toBytes)
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] embedding;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+}
@@ -13,6 +13,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Component
@@ -24,6 +26,9 @@ public class DataEngineeringClient {
     @Qualifier("dataEngineeringRestTemplate")
     private final RestTemplate dataEngineeringRestTemplate;
 
+    @Qualifier("dataEngineeringWebClient")
+    private final WebClient dataEngineeringWebClient;
+
     public JobRequirementPayload fetchJobRequirements(JobPostingEntity jobPosting) {
         if (!properties.isEnabled() || !StringUtils.hasText(properties.getUrl())) {
             log.debug("Data engineering endpoint is disabled or not configured.");
@@ -31,12 +36,7 @@ public class DataEngineeringClient {
         }
 
         try {
-            JobRequirementRequest payload = new JobRequirementRequest(
-                    jobPosting.getLink(),
-                    jobPosting.getId(),
-                    jobPosting.getCompanyName(),
-                    jobPosting.getTitle()
-            );
+            JobRequirementRequest payload = toRequest(jobPosting);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -59,6 +59,40 @@ public class DataEngineeringClient {
         return JobRequirementPayload.empty();
     }
 
+    /**
+     * fetchJobRequirements의 논블로킹 버전. 실패하면 빈 payload를 발행합니다.
+     */
+    public Mono<JobRequirementPayload> fetchJobRequirementsAsync(JobPostingEntity jobPosting) {
+        if (!properties.isEnabled() || !StringUtils.hasText(properties.getUrl())) {
+            log.debug("Data engineering endpoint is disabled or not configured.");
+            return Mono.just(JobRequirementPayload.empty());
+        }
+
+        return dataEngineeringWebClient.post()
+                .uri(properties.getUrl())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(toRequest(jobPosting))
+                .retrieve()
+                .bodyToMono(JobRequirementResponse.class)
+                .mapNotNull(JobRequirementResponse::payload)
+                .filter(payload -> !payload.isEmpty())
+                .onErrorResume(ex -> {
+                    log.warn("Failed to fetch requirements from data engineering service for job {}: {}",
+                            jobPosting.getId(), ex.getMessage());
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(JobRequirementPayload.empty());
+    }
+
+    private JobRequirementRequest toRequest(JobPostingEntity jobPosting) {
+        return new JobRequirementRequest(
+                jobPosting.getLink(),
+                jobPosting.getId(),
+                jobPosting.getCompanyName(),
+                jobPosting.getTitle()
+        );
+    }
+
     public record JobRequirementRequest(String jobUrl, Long jobId, String companyName, String title) {
     }
 
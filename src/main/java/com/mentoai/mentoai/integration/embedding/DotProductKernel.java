@@ -0,0 +1,11 @@
+package com.mentoai.mentoai.integration.embedding;
+
+/**
+ * 같은 길이의 두 float 배열 내적 계산 커널.
+ */
+interface DotProductKernel {
+
+    double dot(float[] a, float[] b);
+
+    String name();
+}
@@ -0,0 +1,39 @@
+package com.mentoai.mentoai.integration.embedding;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 텍스트를 임베딩 벡터로 변환하는 구현체.
+ * 서로 다른 제공자의 벡터는 같은 공간에 있지 않으므로, 질의와 비교 대상은 반드시 같은 제공자로 임베딩해야 합니다.
+ */
+public interface EmbeddingProvider {
+
+    /**
+     * 설정에서 선택할 때 사용하는 이름 (예: gemini, local).
+     */
+    String name();
+
+    /**
+     * 저장된 임베딩이 같은 모델로 만들어졌는지 확인할 때 쓰는 식별자. 모델이나 차원이 바뀌면 값도 달라져야 합니다.
+     */
+    default String modelVersion() {
+        return name();
+    }
+
+    EmbeddingVector embed(String text);
+
+    /**
+     * 여러 텍스트를 임베딩합니다. 결과 맵의 키는 입력 텍스트이며, 실패한 텍스트는 포함되지 않을 수 있습니다.
+     */
+    default Map<String, EmbeddingVector> embedAll(List<String> texts) {
+        Map<String, EmbeddingVector> embeddings = new LinkedHashMap<>();
+        for (String text : texts) {
+            if (text != null && !text.isBlank() && !embeddings.containsKey(text)) {
+                embeddings.put(text, embed(text));
+            }
+        }
+        return embeddings;
+    }
+}
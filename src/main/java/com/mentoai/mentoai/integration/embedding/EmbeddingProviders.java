@@ -0,0 +1,59 @@
+package com.mentoai.mentoai.integration.embedding;
+
+import com.mentoai.mentoai.config.EmbeddingProviderProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 사용처별로 설정된 임베딩 제공자를 찾아 줍니다.
+ * 설정된 이름이 없으면 gemini 제공자를 사용합니다.
+ */
+@Slf4j
+@Component
+public class EmbeddingProviders {
+
+    private static final String DEFAULT_PROVIDER = "gemini";
+
+    private final Map<String, EmbeddingProvider> providersByName = new HashMap<>();
+    private final EmbeddingProviderProperties properties;
+
+    public EmbeddingProviders(List<EmbeddingProvider> providers, EmbeddingProviderProperties properties) {
+        for (EmbeddingProvider provider : providers) {
+            providersByName.put(provider.name().toLowerCase(Locale.ROOT), provider);
+        }
+        this.properties = properties;
+        log.info("Embedding providers: available={}, search={}, vectorStore={}",
+                providersByName.keySet(), properties.getSearch(), properties.getVectorStore());
+        for (String configured : List.of(String.valueOf(properties.getSearch()), String.valueOf(properties.getVectorStore()))) {
+            if (!providersByName.containsKey(configured.trim().toLowerCase(Locale.ROOT))) {
+                log.warn("Unknown embedding provider '{}', {} will be used instead", configured, DEFAULT_PROVIDER);
+            }
+        }
+    }
+
+    public EmbeddingProvider forUseCase(EmbeddingUseCase useCase) {
+        String configured = switch (useCase) {
+            case SEARCH -> properties.getSearch();
+            case VECTOR_STORE -> properties.getVectorStore();
+        };
+        return byName(configured);
+    }
+
+    public EmbeddingProvider byName(String name) {
+        String key = name != null && !name.isBlank() ? name.trim().toLowerCase(Locale.ROOT) : DEFAULT_PROVIDER;
+        EmbeddingProvider provider = providersByName.get(key);
+        if (provider != null) {
+            return provider;
+        }
+        EmbeddingProvider fallback = providersByName.get(DEFAULT_PROVIDER);
+        if (fallback == null) {
+            throw new IllegalStateException("No embedding provider available for: " + name);
+        }
+        return fallback;
+    }
+}
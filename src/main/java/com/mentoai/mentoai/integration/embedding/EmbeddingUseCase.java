@@ -0,0 +1,17 @@
+package com.mentoai.mentoai.integration.embedding;
+
+/**
+ * 임베딩 제공자를 선택하는 사용처 구분.
+ */
+public enum EmbeddingUseCase {
+
+    /**
+     * 검색어와 후보 활동을 모두 요청 시점에 임베딩해 JVM 안에서 비교하는 의미 검색.
+     */
+    SEARCH,
+
+    /**
+     * Qdrant 색인과 Qdrant 검색. 색인과 검색이 같은 제공자를 써야 하므로 하나로 묶습니다.
+     */
+    VECTOR_STORE
+}
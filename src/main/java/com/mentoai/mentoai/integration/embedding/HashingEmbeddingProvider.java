@@ -0,0 +1,142 @@
+package com.mentoai.mentoai.integration.embedding;
+
+import com.mentoai.mentoai.config.EmbeddingProviderProperties;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 네트워크 없이 JVM 안에서 동작하는 로컬 임베딩 제공자.
+ * 단어와 문자 n-gram을 해시해 고정 차원 벡터에 누적하는 feature hashing 방식이며,
+ * 한글은 음절 단위 n-gram과 조사 제거 어간을 함께 사용해 "데이터분석을"과 "데이터분석"이 가깝게 표현됩니다.
+ * Gemini 임베딩과는 다른 벡터 공간이므로 질의와 후보를 모두 이 제공자로 임베딩할 때만 의미가 있습니다.
+ */
+@Component
+public class HashingEmbeddingProvider implements EmbeddingProvider {
+
+    public static final String NAME = "local";
+
+    private static final int WORD_SEED = 0x9747b28c;
+    private static final float WORD_WEIGHT = 1.0f;
+    private static final float STEM_WEIGHT = 0.8f;
+    private static final float GRAM_WEIGHT = 0.5f;
+
+    // 길이가 긴 조사부터 검사
+    private static final String[] KOREAN_PARTICLES = {
+            "에서는", "으로는", "에서", "으로", "에게", "까지", "부터", "처럼", "하고",
+            "은", "는", "이", "가", "을", "를", "에", "의", "와", "과", "로", "도", "만"
+    };
+
+    private final int dimension;
+    private final int minGram;
+    private final int maxGram;
+
+    public HashingEmbeddingProvider(EmbeddingProviderProperties properties) {
+        this.dimension = properties.getLocalDimension() != null && properties.getLocalDimension() > 0
+                ? properties.getLocalDimension() : 768;
+        this.minGram = properties.getLocalMinGram() != null ? Math.max(1, properties.getLocalMinGram()) : 2;
+        this.maxGram = properties.getLocalMaxGram() != null ? Math.max(minGram, properties.getLocalMaxGram()) : 3;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String modelVersion() {
+        return NAME + ":hashing-v1:" + dimension + ":" + minGram + "-" + maxGram;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public EmbeddingVector embed(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Text is required.");
+        }
+        float[] values = new float[dimension];
+        for (String token : tokenize(text)) {
+            addFeature(values, token, 0, token.length(), WORD_SEED, WORD_WEIGHT);
+
+            String stem = stripKoreanParticle(token);
+            if (stem != null) {
+                addFeature(values, stem, 0, stem.length(), WORD_SEED, STEM_WEIGHT);
+            }
+
+            // 단어 경계 표시를 붙여 접두/접미 n-gram을 구분
+            String bounded = "<" + token + ">";
+            for (int n = minGram; n <= maxGram; n++) {
+                for (int start = 0; start + n <= bounded.length(); start++) {
+                    addFeature(values, bounded, start, start + n, n, GRAM_WEIGHT);
+                }
+            }
+        }
+        return EmbeddingVector.of(values).normalized();
+    }
+
+    private List<String> tokenize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(normalized.substring(start));
+        }
+        return tokens;
+    }
+
+    private String stripKoreanParticle(String token) {
+        if (token.length() < 2 || !isHangul(token.charAt(token.length() - 1))) {
+            return null;
+        }
+        for (String particle : KOREAN_PARTICLES) {
+            if (token.length() > particle.length() && token.endsWith(particle)) {
+                return token.substring(0, token.length() - particle.length());
+            }
+        }
+        return null;
+    }
+
+    private boolean isHangul(char ch) {
+        return ch >= '가' && ch <= '힣';
+    }
+
+    private void addFeature(float[] values, String source, int from, int to, int seed, float weight) {
+        int hash = hash(source, from, to, seed);
+        int index = (hash & Integer.MAX_VALUE) % dimension;
+        // 해시 충돌이 한쪽으로 쌓이지 않도록 부호도 해시로 결정
+        values[index] += (hash & 0x40000000) != 0 ? weight : -weight;
+    }
+
+    /**
+     * 문자 구간에 대한 FNV-1a 해시 + murmur3 finalizer. 부분 문자열을 만들지 않습니다.
+     */
+    private static int hash(String source, int from, int to, int seed) {
+        int h = 0x811c9dc5 ^ seed;
+        for (int i = from; i < to; i++) {
+            h ^= source.charAt(i);
+            h *= 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,34 @@
+package com.mentoai.mentoai.integration.embedding;
+
+/**
+ * Vector API를 사용할 수 없을 때의 기본 내적 커널.
+ * float 곱은 double에서 정확히 표현되므로 double로 누산해 768차원에서도 점수가 흔들리지 않게 합니다.
+ */
+final class ScalarDotProductKernel implements DotProductKernel {
+
+    @Override
+    public double dot(float[] a, float[] b) {
+        double sum0 = 0.0;
+        double sum1 = 0.0;
+        double sum2 = 0.0;
+        double sum3 = 0.0;
+        int i = 0;
+        int bound = a.length & ~3;
+        // 누산기를 나눠 루프 의존성을 줄임
+        for (; i < bound; i += 4) {
+            sum0 += (double) a[i] * b[i];
+            sum1 += (double) a[i + 1] * b[i + 1];
+            sum2 += (double) a[i + 2] * b[i + 2];
+            sum3 += (double) a[i + 3] * b[i + 3];
+        }
+        for (; i < a.length; i++) {
+            sum0 += (double) a[i] * b[i];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
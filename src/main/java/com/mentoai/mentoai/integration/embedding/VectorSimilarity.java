@@ -0,0 +1,169 @@
+package com.mentoai.mentoai.integration.embedding;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 임베딩 유사도 계산 유틸리티.
+ * JVM에 jdk.incubator.vector 모듈이 로드되어 있으면(--add-modules jdk.incubator.vector)
+ * SIMD 내적 커널을 사용하고, 없으면 스칼라 루프로 동작합니다.
+ */
+@Slf4j
+public final class VectorSimilarity {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String SIMD_KERNEL_CLASS = "com.mentoai.mentoai.integration.embedding.SimdDotProductKernel";
+
+    private static final DotProductKernel KERNEL = selectKernel();
+
+    private VectorSimilarity() {
+    }
+
+    /**
+     * 후보 인덱스와 유사도 점수.
+     */
+    public record ScoredIndex(int index, double score) {
+    }
+
+    public static String kernelName() {
+        return KERNEL.name();
+    }
+
+    public static double dot(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Vector dimensions must match");
+        }
+        return KERNEL.dot(a, b);
+    }
+
+    /**
+     * 코사인 유사도. 두 벡터가 모두 단위 벡터이면 내적 한 번으로 계산합니다.
+     */
+    public static double cosine(EmbeddingVector a, EmbeddingVector b) {
+        a.checkDimension(b);
+        if (a.isUnit() && b.isUnit()) {
+            return KERNEL.dot(a.values(), b.values());
+        }
+        return cosine(a.values(), b.values());
+    }
+
+    public static double cosine(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Vector dimensions must match");
+        }
+        double dot = KERNEL.dot(a, b);
+        double normA = KERNEL.dot(a, a);
+        double normB = KERNEL.dot(b, b);
+        if (normA == 0.0 || normB == 0.0) {
+            return 0.0;
+        }
+        return dot / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+
+    /**
+     * 질의 벡터 1개와 후보 N개를 비교해 점수가 높은 순으로 최대 k개를 반환합니다.
+     * 후보 중 null이거나 차원이 다른 벡터는 건너뜁니다.
+     *
+     * @param minScore 이 값 미만의 후보는 제외
+     */
+    public static List<ScoredIndex> topK(EmbeddingVector query,
+                                         List<EmbeddingVector> candidates,
+                                         int k,
+                                         double minScore) {
+        if (query == null || candidates == null || candidates.isEmpty() || k <= 0) {
+            return List.of();
+        }
+        EmbeddingVector unitQuery = query.normalized();
+        float[] q = unitQuery.values();
+        int capacity = Math.min(k, candidates.size());
+
+        // 크기 k의 최소 힙 (루트가 현재 k개 중 가장 낮은 점수)
+        int[] heapIndex = new int[capacity];
+        double[] heapScore = new double[capacity];
+        int heapSize = 0;
+
+        for (int i = 0; i < candidates.size(); i++) {
+            EmbeddingVector candidate = candidates.get(i);
+            if (candidate == null || candidate.dimension() != q.length) {
+                continue;
+            }
+            double score = candidate.isUnit()
+                    ? KERNEL.dot(q, candidate.values())
+                    : cosine(unitQuery, candidate);
+            if (score < minScore) {
+                continue;
+            }
+            if (heapSize < capacity) {
+                heapIndex[heapSize] = i;
+                heapScore[heapSize] = score;
+                siftUp(heapIndex, heapScore, heapSize++);
+            } else if (score > heapScore[0]) {
+                heapIndex[0] = i;
+                heapScore[0] = score;
+                siftDown(heapIndex, heapScore, heapSize);
+            }
+        }
+
+        List<ScoredIndex> result = new ArrayList<>(heapSize);
+        for (int i = 0; i < heapSize; i++) {
+            result.add(new ScoredIndex(heapIndex[i], heapScore[i]));
+        }
+        result.sort(Collections.reverseOrder((x, y) -> Double.compare(x.score(), y.score())));
+        return result;
+    }
+
+    private static void siftUp(int[] index, double[] score, int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (score[parent] <= score[position]) {
+                break;
+            }
+            swap(index, score, parent, position);
+            position = parent;
+        }
+    }
+
+    private static void siftDown(int[] index, double[] score, int size) {
+        int position = 0;
+        while (true) {
+            int left = position * 2 + 1;
+            if (left >= size) {
+                break;
+            }
+            int right = left + 1;
+            int smallest = right < size && score[right] < score[left] ? right : left;
+            if (score[position] <= score[smallest]) {
+                break;
+            }
+            swap(index, score, position, smallest);
+            position = smallest;
+        }
+    }
+
+    private static void swap(int[] index, double[] score, int i, int j) {
+        int tmpIndex = index[i];
+        index[i] = index[j];
+        index[j] = tmpIndex;
+        double tmpScore = score[i];
+        score[i] = score[j];
+        score[j] = tmpScore;
+    }
+
+    private static DotProductKernel selectKernel() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                DotProductKernel kernel = (DotProductKernel) Class.forName(SIMD_KERNEL_CLASS)
+                        .getDeclaredConstructor()
+                        .newInstance();
+                log.info("Vector similarity kernel: {}", kernel.name());
+                return kernel;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.warn("Failed to load SIMD similarity kernel, falling back to scalar: {}", e.getMessage());
+            }
+        }
+        return new ScalarDotProductKernel();
+    }
+}
@@ -1,6 +1,7 @@
 package com.mentoai.mentoai.integration.qdrant;
 
-import java.util.List;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+
 import java.util.Map;
 
 /**
@@ -12,7 +13,7 @@ import java.util.Map;
  */
 public record ActivityVectorPayload(
         String pointId,
-        List<Double> vector,
+        EmbeddingVector vector,
         Map<String, Object> payload
 ) {
 }
@@ -0,0 +1,436 @@
+package com.mentoai.mentoai.integration.qdrant;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.protobuf.Timestamp;
+import com.mentoai.mentoai.config.QdrantProperties;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import io.qdrant.client.QdrantGrpcClient;
+import io.qdrant.client.grpc.Collections;
+import io.qdrant.client.grpc.JsonWithInt;
+import io.qdrant.client.grpc.Points;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Qdrant gRPC 전송 (qdrant.transport=grpc).
+ * 벡터를 float 배열 그대로 protobuf로 보내고, 하나의 HTTP/2 채널에서 요청을 다중화합니다.
+ * QdrantClient가 REST 대신 이 전송을 사용하므로 호출부 API와 결과 형식은 같습니다.
+ * Qdrant gRPC에는 클라이언트 스트리밍 업서트가 없으므로 큰 업서트는 청크로 나눠 동시에 보냅니다.
+ */
+@Slf4j
+public class GrpcQdrantTransport implements AutoCloseable {
+
+    private final io.qdrant.client.QdrantClient client;
+    private final int upsertChunkSize;
+    private final int upsertConcurrency;
+    private final QdrantSearchParams searchParams;
+
+    public GrpcQdrantTransport(QdrantGrpcClient grpcClient, int upsertChunkSize, int upsertConcurrency) {
+        this(grpcClient, upsertChunkSize, upsertConcurrency, QdrantSearchParams.DEFAULT);
+    }
+
+    public GrpcQdrantTransport(QdrantGrpcClient grpcClient,
+                               int upsertChunkSize,
+                               int upsertConcurrency,
+                               QdrantSearchParams searchParams) {
+        this.client = new io.qdrant.client.QdrantClient(grpcClient);
+        this.upsertChunkSize = Math.max(1, upsertChunkSize);
+        this.upsertConcurrency = Math.max(1, upsertConcurrency);
+        this.searchParams = searchParams;
+    }
+
+    /**
+     * qdrant.* 설정으로 gRPC 채널을 만듭니다. 호스트와 TLS 여부는 지정되지 않으면 qdrant.url에서 유도합니다.
+     */
+    public static GrpcQdrantTransport fromProperties(QdrantProperties properties) {
+        URI url = properties.getUrl() != null ? URI.create(properties.getUrl()) : null;
+        String host = properties.getGrpcHost() != null && !properties.getGrpcHost().isBlank()
+                ? properties.getGrpcHost()
+                : url != null ? url.getHost() : null;
+        if (host == null) {
+            throw new IllegalStateException("qdrant.grpc-host or qdrant.url is required for gRPC transport");
+        }
+        boolean tls = properties.getGrpcTls() != null
+                ? properties.getGrpcTls()
+                : url != null && "https".equalsIgnoreCase(url.getScheme());
+        int port = Optional.ofNullable(properties.getGrpcPort()).orElse(6334);
+
+        QdrantGrpcClient.Builder builder = QdrantGrpcClient.newBuilder(host, port, tls)
+                .withTimeout(Duration.ofMillis(Optional.ofNullable(properties.getTimeoutMs()).orElse(5000)));
+        if (properties.getApiKey() != null && !properties.getApiKey().isBlank()) {
+            builder.withApiKey(properties.getApiKey());
+        }
+        log.info("Qdrant gRPC transport enabled: {}:{} (tls={})", host, port, tls);
+        return new GrpcQdrantTransport(
+                builder.build(),
+                Optional.ofNullable(properties.getGrpcUpsertChunkSize()).orElse(64),
+                Optional.ofNullable(properties.getGrpcUpsertConcurrency()).orElse(4),
+                QdrantSearchParams.fromProperties(properties));
+    }
+
+    public Mono<List<QdrantSearchResult>> search(String collection, QdrantSearchRequest request) {
+        return Mono.defer(() -> toMono(client.searchAsync(searchPoints(collection, request))))
+                .map(GrpcQdrantTransport::toSearchResults);
+    }
+
+    public Mono<List<List<QdrantSearchResult>>> searchBatch(String collection, List<QdrantSearchRequest> requests) {
+        return Mono.defer(() -> {
+                    List<Points.SearchPoints> searches = requests.stream()
+                            .map(request -> searchPoints(collection, request))
+                            .toList();
+                    return toMono(client.searchBatchAsync(collection, searches, null));
+                })
+                .map(batches -> batches.stream()
+                        .map(batch -> toSearchResults(batch.getResultList()))
+                        .toList());
+    }
+
+    public Mono<Void> upsert(String collection, List<ActivityVectorPayload> payloads, Integer expectedDim) {
+        return upsert(collection, payloads, expectedDim, true).then();
+    }
+
+    /**
+     * 청크 단위로 업서트하고 가장 큰 operation_id를 돌려줍니다.
+     */
+    public Mono<Long> upsert(String collection,
+                             List<ActivityVectorPayload> payloads,
+                             Integer expectedDim,
+                             boolean wait) {
+        List<Points.PointStruct> points = payloads.stream()
+                .map(payload -> toPointStruct(payload, expectedDim))
+                .toList();
+        List<List<Points.PointStruct>> chunks = new ArrayList<>();
+        for (int start = 0; start < points.size(); start += upsertChunkSize) {
+            chunks.add(points.subList(start, Math.min(points.size(), start + upsertChunkSize)));
+        }
+        return Flux.fromIterable(chunks)
+                .flatMap(chunk -> Mono.defer(() -> toMono(client.upsertAsync(Points.UpsertPoints.newBuilder()
+                        .setCollectionName(collection)
+                        .setWait(wait)
+                        .addAllPoints(chunk)
+                        .build()))), upsertConcurrency)
+                .map(Points.UpdateResult::getOperationId)
+                .reduce(Math::max);
+    }
+
+    public Mono<Void> delete(String collection, List<String> pointIds) {
+        return Mono.defer(() -> toMono(client.deleteAsync(collection, pointIds.stream()
+                        .map(GrpcQdrantTransport::toPointId)
+                        .toList())))
+                .then();
+    }
+
+    public Mono<Boolean> collectionExists(String collection) {
+        return Mono.defer(() -> toMono(client.collectionExistsAsync(collection)));
+    }
+
+    public Mono<Void> createCollection(String collection, int vectorSize, QdrantProperties properties) {
+        Collections.CreateCollection.Builder request = Collections.CreateCollection.newBuilder()
+                .setCollectionName(collection)
+                .setVectorsConfig(Collections.VectorsConfig.newBuilder()
+                        .setParams(Collections.VectorParams.newBuilder()
+                                .setSize(vectorSize)
+                                .setDistance(toDistance(properties.getDistance()))
+                                .setOnDisk(properties.isOnDiskVectors())))
+                .setHnswConfig(Collections.HnswConfigDiff.newBuilder()
+                        .setM(Optional.ofNullable(properties.getHnswM()).orElse(16))
+                        .setEfConstruct(Optional.ofNullable(properties.getHnswEfConstruct()).orElse(100)));
+        if (properties.isQuantizationEnabled()) {
+            request.setQuantizationConfig(Collections.QuantizationConfig.newBuilder()
+                    .setScalar(Collections.ScalarQuantization.newBuilder()
+                            .setType(Collections.QuantizationType.Int8)
+                            .setQuantile(Optional.ofNullable(properties.getQuantizationQuantile()).orElse(0.99).floatValue())
+                            .setAlwaysRam(properties.isQuantizationAlwaysRam())));
+        }
+        return Mono.defer(() -> toMono(client.createCollectionAsync(request.build()))).then();
+    }
+
+    public Mono<Void> createPayloadIndex(String collection, String fieldName, String fieldSchema) {
+        Collections.PayloadSchemaType schemaType = switch (fieldSchema.toLowerCase(Locale.ROOT)) {
+            case "keyword" -> Collections.PayloadSchemaType.Keyword;
+            case "integer" -> Collections.PayloadSchemaType.Integer;
+            case "float" -> Collections.PayloadSchemaType.Float;
+            case "bool" -> Collections.PayloadSchemaType.Bool;
+            case "datetime" -> Collections.PayloadSchemaType.Datetime;
+            case "text" -> Collections.PayloadSchemaType.Text;
+            default -> throw new IllegalArgumentException("Unsupported payload index schema: " + fieldSchema);
+        };
+        return Mono.defer(() -> toMono(client.createPayloadIndexAsync(
+                        collection, fieldName, schemaType, null, true, null, null)))
+                .then();
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private Points.SearchPoints searchPoints(String collection, QdrantSearchRequest request) {
+        Points.SearchPoints.Builder builder = Points.SearchPoints.newBuilder()
+                .setCollectionName(collection)
+                .addAllVector(toFloatList(request.embedding()))
+                .setLimit(request.topK())
+                .setWithPayload(Points.WithPayloadSelector.newBuilder().setEnable(true).build());
+        if (request.filter() != null && !request.filter().isEmpty()) {
+            builder.setFilter(toFilter(request.filter()));
+        }
+        Points.SearchParams params = toSearchParams(request);
+        if (params != null) {
+            builder.setParams(params);
+        }
+        return builder.build();
+    }
+
+    private Points.SearchParams toSearchParams(QdrantSearchRequest request) {
+        Integer hnswEf = searchParams.effectiveHnswEf(request);
+        if (hnswEf == null && !searchParams.quantizationEnabled()) {
+            return null;
+        }
+        Points.SearchParams.Builder params = Points.SearchParams.newBuilder();
+        if (hnswEf != null) {
+            params.setHnswEf(hnswEf);
+        }
+        if (searchParams.quantizationEnabled()) {
+            Points.QuantizationSearchParams.Builder quantization = Points.QuantizationSearchParams.newBuilder()
+                    .setRescore(searchParams.rescore());
+            if (searchParams.oversampling() != null) {
+                quantization.setOversampling(searchParams.oversampling());
+            }
+            params.setQuantization(quantization);
+        }
+        return params.build();
+    }
+
+    private Points.PointStruct toPointStruct(ActivityVectorPayload payload, Integer expectedDim) {
+        if (expectedDim != null && payload.vector() != null && payload.vector().dimension() != expectedDim) {
+            log.warn("Vector dimension mismatch for point {}. expected={}, actual={}",
+                    payload.pointId(), expectedDim, payload.vector().dimension());
+        }
+        Points.PointStruct.Builder point = Points.PointStruct.newBuilder()
+                .setId(toPointId(payload.pointId()))
+                .setVectors(Points.Vectors.newBuilder()
+                        .setVector(Points.Vector.newBuilder().addAllData(toFloatList(payload.vector())))
+                        .build());
+        if (payload.payload() != null) {
+            payload.payload().forEach((key, value) -> point.putPayload(key, toValue(value)));
+        }
+        return point.build();
+    }
+
+    private static Collections.Distance toDistance(String distance) {
+        return switch (Optional.ofNullable(distance).orElse("Cosine").toLowerCase(Locale.ROOT)) {
+            case "cosine" -> Collections.Distance.Cosine;
+            case "dot" -> Collections.Distance.Dot;
+            case "euclid" -> Collections.Distance.Euclid;
+            case "manhattan" -> Collections.Distance.Manhattan;
+            default -> throw new IllegalArgumentException("Unsupported Qdrant distance: " + distance);
+        };
+    }
+
+    private static List<Float> toFloatList(EmbeddingVector vector) {
+        float[] values = vector.toArray();
+        List<Float> list = new ArrayList<>(values.length);
+        for (float value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    /**
+     * REST와 같은 규칙: 숫자면 정수 ID, 아니면 UUID 문자열로 보냅니다 (형식 검증은 Qdrant가 수행).
+     */
+    private static Points.PointId toPointId(String pointId) {
+        try {
+            return Points.PointId.newBuilder().setNum(Long.parseUnsignedLong(pointId)).build();
+        } catch (NumberFormatException e) {
+            return Points.PointId.newBuilder().setUuid(pointId).build();
+        }
+    }
+
+    private static String fromPointId(Points.PointId pointId) {
+        return pointId.hasNum() ? Long.toUnsignedString(pointId.getNum()) : pointId.getUuid();
+    }
+
+    private static List<QdrantSearchResult> toSearchResults(List<Points.ScoredPoint> points) {
+        return points.stream()
+                .map(point -> new QdrantSearchResult(
+                        point.hasId() ? fromPointId(point.getId()) : null,
+                        point.getScore(),
+                        fromPayload(point.getPayloadMap())
+                ))
+                .toList();
+    }
+
+    private static Map<String, Object> fromPayload(Map<String, JsonWithInt.Value> payload) {
+        Map<String, Object> converted = new LinkedHashMap<>();
+        payload.forEach((key, value) -> converted.put(key, fromValue(value)));
+        return converted;
+    }
+
+    private static Object fromValue(JsonWithInt.Value value) {
+        return switch (value.getKindCase()) {
+            case DOUBLE_VALUE -> value.getDoubleValue();
+            case INTEGER_VALUE -> value.getIntegerValue();
+            case STRING_VALUE -> value.getStringValue();
+            case BOOL_VALUE -> value.getBoolValue();
+            case STRUCT_VALUE -> fromPayload(value.getStructValue().getFieldsMap());
+            case LIST_VALUE -> value.getListValue().getValuesList().stream()
+                    .map(GrpcQdrantTransport::fromValue)
+                    .toList();
+            default -> null;
+        };
+    }
+
+    private static JsonWithInt.Value toValue(Object value) {
+        JsonWithInt.Value.Builder builder = JsonWithInt.Value.newBuilder();
+        if (value == null) {
+            builder.setNullValue(JsonWithInt.NullValue.NULL_VALUE);
+        } else if (value instanceof Boolean bool) {
+            builder.setBoolValue(bool);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            builder.setIntegerValue(((Number) value).longValue());
+        } else if (value instanceof Number number) {
+            builder.setDoubleValue(number.doubleValue());
+        } else if (value instanceof Map<?, ?> map) {
+            JsonWithInt.Struct.Builder struct = JsonWithInt.Struct.newBuilder();
+            map.forEach((key, nested) -> struct.putFields(String.valueOf(key), toValue(nested)));
+            builder.setStructValue(struct);
+        } else if (value instanceof Collection<?> collection) {
+            JsonWithInt.ListValue.Builder list = JsonWithInt.ListValue.newBuilder();
+            collection.forEach(item -> list.addValues(toValue(item)));
+            builder.setListValue(list);
+        } else {
+            builder.setStringValue(value.toString());
+        }
+        return builder.build();
+    }
+
+    /**
+     * REST JSON 필터(must/should/must_not, match value/any, range, is_empty, 중첩 필터)를 protobuf Filter로 변환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    static Points.Filter toFilter(Map<String, Object> filter) {
+        Points.Filter.Builder builder = Points.Filter.newBuilder();
+        for (Map.Entry<String, Object> clause : filter.entrySet()) {
+            if (!(clause.getValue() instanceof Collection<?> conditions)) {
+                throw new IllegalArgumentException("Unsupported Qdrant filter clause: " + clause.getKey());
+            }
+            for (Object condition : conditions) {
+                Points.Condition converted = toCondition((Map<String, Object>) condition);
+                switch (clause.getKey()) {
+                    case "must" -> builder.addMust(converted);
+                    case "should" -> builder.addShould(converted);
+                    case "must_not" -> builder.addMustNot(converted);
+                    default -> throw new IllegalArgumentException("Unsupported Qdrant filter clause: " + clause.getKey());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Points.Condition toCondition(Map<String, Object> condition) {
+        if (condition.get("is_empty") instanceof Map<?, ?> isEmpty) {
+            return Points.Condition.newBuilder()
+                    .setIsEmpty(Points.IsEmptyCondition.newBuilder().setKey(String.valueOf(isEmpty.get("key"))))
+                    .build();
+        }
+        Object key = condition.get("key");
+        if (key == null) {
+            // 중첩 필터
+            return Points.Condition.newBuilder().setFilter(toFilter(condition)).build();
+        }
+        Points.FieldCondition.Builder field = Points.FieldCondition.newBuilder().setKey(key.toString());
+        if (condition.get("match") instanceof Map<?, ?> match) {
+            field.setMatch(toMatch((Map<String, Object>) match));
+        } else if (condition.get("range") instanceof Map<?, ?> range) {
+            applyRange(field, (Map<String, Object>) range);
+        } else {
+            throw new IllegalArgumentException("Unsupported Qdrant field condition: " + condition);
+        }
+        return Points.Condition.newBuilder().setField(field).build();
+    }
+
+    private static Points.Match toMatch(Map<String, Object> match) {
+        Points.Match.Builder builder = Points.Match.newBuilder();
+        Object value = match.get("value");
+        if (value instanceof Boolean bool) {
+            return builder.setBoolean(bool).build();
+        }
+        if (value instanceof Number number) {
+            return builder.setInteger(number.longValue()).build();
+        }
+        if (value != null) {
+            return builder.setKeyword(value.toString()).build();
+        }
+        if (match.get("any") instanceof Collection<?> any) {
+            if (!any.isEmpty() && any.stream().allMatch(Number.class::isInstance)) {
+                return builder.setIntegers(Points.RepeatedIntegers.newBuilder()
+                        .addAllIntegers(any.stream().map(item -> ((Number) item).longValue()).toList())).build();
+            }
+            return builder.setKeywords(Points.RepeatedStrings.newBuilder()
+                    .addAllStrings(any.stream().map(String::valueOf).toList())).build();
+        }
+        throw new IllegalArgumentException("Unsupported Qdrant match: " + match);
+    }
+
+    private static void applyRange(Points.FieldCondition.Builder field, Map<String, Object> range) {
+        boolean datetime = range.values().stream().anyMatch(String.class::isInstance);
+        if (datetime) {
+            Points.DatetimeRange.Builder builder = Points.DatetimeRange.newBuilder();
+            Optional.ofNullable(range.get("gt")).map(GrpcQdrantTransport::toTimestamp).ifPresent(builder::setGt);
+            Optional.ofNullable(range.get("gte")).map(GrpcQdrantTransport::toTimestamp).ifPresent(builder::setGte);
+            Optional.ofNullable(range.get("lt")).map(GrpcQdrantTransport::toTimestamp).ifPresent(builder::setLt);
+            Optional.ofNullable(range.get("lte")).map(GrpcQdrantTransport::toTimestamp).ifPresent(builder::setLte);
+            field.setDatetimeRange(builder);
+            return;
+        }
+        Points.Range.Builder builder = Points.Range.newBuilder();
+        Optional.ofNullable(range.get("gt")).map(GrpcQdrantTransport::toDouble).ifPresent(builder::setGt);
+        Optional.ofNullable(range.get("gte")).map(GrpcQdrantTransport::toDouble).ifPresent(builder::setGte);
+        Optional.ofNullable(range.get("lt")).map(GrpcQdrantTransport::toDouble).ifPresent(builder::setLt);
+        Optional.ofNullable(range.get("lte")).map(GrpcQdrantTransport::toDouble).ifPresent(builder::setLte);
+        field.setRange(builder);
+    }
+
+    private static Double toDouble(Object value) {
+        return ((Number) value).doubleValue();
+    }
+
+    private static Timestamp toTimestamp(Object value) {
+        Instant instant = OffsetDateTime.parse(value.toString()).toInstant();
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    private static <T> Mono<T> toMono(ListenableFuture<T> future) {
+        return Mono.create(sink -> {
+            future.addListener(() -> {
+                try {
+                    sink.success(future.get());
+                } catch (ExecutionException e) {
+                    sink.error(e.getCause() != null ? e.getCause() : e);
+                } catch (Exception e) {
+                    sink.error(e);
+                }
+            }, Runnable::run);
+            sink.onCancel(() -> future.cancel(false));
+        });
+    }
+}
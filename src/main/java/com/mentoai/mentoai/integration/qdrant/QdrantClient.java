@@ -1,6 +1,9 @@
 package com.mentoai.mentoai.integration.qdrant;
 
 import com.mentoai.mentoai.config.QdrantProperties;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
@@ -10,19 +13,30 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
  * Qdrant REST API thin-client.
  * 향후 Recommend/Activity 서비스에서 해당 컴포넌트를 주입받아 사용합니다.
+ * {@code *Async} 메서드는 같은 API를 WebClient로 호출하며 서블릿 스레드를 점유하지 않습니다.
+ * 여러 컬렉션 검색은 컬렉션별 마이크로 배처를 거쳐 동시 요청과 함께 /points/search/batch로 전송됩니다.
+ * qdrant.transport=grpc이면 같은 API를 {@link GrpcQdrantTransport}로 처리합니다.
  */
 @Slf4j
 @Component
@@ -30,8 +44,40 @@ import java.util.stream.Collectors;
 public class QdrantClient {
 
     private final RestTemplate qdrantRestTemplate;
+    private final WebClient qdrantWebClient;
     private final QdrantProperties properties;
 
+    // 비활성화 또는 초기화 전에는 null이며 검색마다 개별 요청
+    private QdrantSearchBatcher searchBatcher;
+
+    // qdrant.transport=grpc일 때만 생성, 그 외에는 REST 사용
+    private GrpcQdrantTransport grpcTransport;
+
+    private QdrantSearchParams searchParams = QdrantSearchParams.DEFAULT;
+
+    @PostConstruct
+    void initTransport() {
+        searchParams = QdrantSearchParams.fromProperties(properties);
+        if (properties.isGrpcTransport()) {
+            grpcTransport = GrpcQdrantTransport.fromProperties(properties);
+        }
+        if (!properties.isBatchEnabled()) {
+            return;
+        }
+        searchBatcher = new QdrantSearchBatcher(
+                this::searchAsync,
+                this::searchBatchAsync,
+                Optional.ofNullable(properties.getBatchWindowMs()).orElse(5),
+                Optional.ofNullable(properties.getBatchMaxSize()).orElse(16));
+    }
+
+    @PreDestroy
+    void closeTransport() {
+        if (grpcTransport != null) {
+            grpcTransport.close();
+        }
+    }
+
     /**
      * 활동 임베딩을 Qdrant 컬렉션에 업서트합니다.
      */
@@ -46,24 +92,53 @@ public class QdrantClient {
             return;
         }
 
+        if (grpcTransport != null) {
+            upsertVectorsAsync(payloads, collection, expectedDim).block();
+            return;
+        }
+
         String resolvedCollection = resolveCollection(collection);
         ensureCollectionConfigured(resolvedCollection);
 
         String endpoint = collectionUrl(resolvedCollection, "/points?wait=true");
-        Map<String, Object> body = Map.of(
-                "points", payloads.stream()
-                        .map(payload -> toPointRequest(payload, expectedDim))
-                        .collect(Collectors.toList())
-        );
+        execute(endpoint, HttpMethod.PUT, upsertBody(payloads, expectedDim));
+    }
+
+    public Mono<Void> upsertVectorsAsync(List<ActivityVectorPayload> payloads,
+                                         String collection,
+                                         Integer expectedDim) {
+        return upsertVectorsAsync(payloads, collection, expectedDim, true).then();
+    }
 
-        execute(endpoint, HttpMethod.PUT, body);
+    /**
+     * 업서트 후 Qdrant operation_id를 돌려줍니다.
+     * wait=false이면 WAL 기록(acknowledged)까지만 기다리고, 인덱스 반영은 Qdrant가 순서대로 처리합니다.
+     */
+    public Mono<Long> upsertVectorsAsync(List<ActivityVectorPayload> payloads,
+                                         String collection,
+                                         Integer expectedDim,
+                                         boolean wait) {
+        if (CollectionUtils.isEmpty(payloads)) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            String resolvedCollection = resolveCollection(collection);
+            if (grpcTransport != null) {
+                return grpcTransport.upsert(resolvedCollection, payloads, expectedDim, wait);
+            }
+            ensureCollectionConfigured(resolvedCollection);
+
+            String endpoint = collectionUrl(resolvedCollection, "/points?wait=" + wait);
+            return exchangeAsync(endpoint, HttpMethod.PUT, upsertBody(payloads, expectedDim), Map.class)
+                    .flatMap(response -> Mono.justOrEmpty(operationId(response)));
+        });
     }
 
     /**
      * 주어진 벡터 임베딩으로 Qdrant에서 유사한 활동을 검색합니다.
      */
     public List<QdrantSearchResult> searchByEmbedding(
-            List<Double> embedding,
+            EmbeddingVector embedding,
             int topK,
             Map<String, Object> filter
     ) {
@@ -71,65 +146,222 @@ public class QdrantClient {
     }
 
     public List<QdrantSearchResult> searchByEmbedding(
-            List<Double> embedding,
+            EmbeddingVector embedding,
             int topK,
             Map<String, Object> filter,
             String collection
     ) {
+        if (grpcTransport != null) {
+            return searchByEmbeddingAsync(embedding, topK, filter, collection).block();
+        }
         String resolvedCollection = resolveCollection(collection);
         ensureCollectionConfigured(resolvedCollection);
 
         String endpoint = collectionUrl(resolvedCollection, "/points/search");
-        Map<String, Object> body = new HashMap<>();
-        body.put("vector", embedding);
-        body.put("top", topK);
-        body.put("with_payload", true);
-        body.put("with_vector", false);
-        if (filter != null && !filter.isEmpty()) {
-            body.put("filter", filter);
-        }
-
         ResponseEntity<QdrantSearchResponse> response = exchange(
                 endpoint,
                 HttpMethod.POST,
-                body,
+                searchBody(new QdrantSearchRequest(embedding, topK, filter)),
                 QdrantSearchResponse.class
         );
 
-        if (response == null || response.getBody() == null || response.getBody().result() == null) {
+        return toSearchResults(response != null ? response.getBody() : null);
+    }
+
+    /**
+     * searchByEmbedding의 논블로킹 버전.
+     */
+    public Mono<List<QdrantSearchResult>> searchByEmbeddingAsync(
+            EmbeddingVector embedding,
+            int topK,
+            Map<String, Object> filter,
+            String collection
+    ) {
+        return searchAsync(collection, new QdrantSearchRequest(embedding, topK, filter));
+    }
+
+    /**
+     * 검색별 hnsw_ef 등 {@link QdrantSearchRequest}의 모든 옵션을 지정하는 단건 검색.
+     */
+    public Mono<List<QdrantSearchResult>> searchAsync(String collection, QdrantSearchRequest request) {
+        return Mono.defer(() -> {
+            String resolvedCollection = resolveCollection(collection);
+            if (grpcTransport != null) {
+                return grpcTransport.search(resolvedCollection, request);
+            }
+            ensureCollectionConfigured(resolvedCollection);
+
+            String endpoint = collectionUrl(resolvedCollection, "/points/search");
+            return exchangeAsync(endpoint, HttpMethod.POST, searchBody(request), QdrantSearchResponse.class)
+                    .map(this::toSearchResults)
+                    .defaultIfEmpty(List.of());
+        });
+    }
+
+    /**
+     * 한 컬렉션에 여러 질의를 /points/search/batch 한 번으로 보냅니다. 결과는 요청 순서와 같습니다.
+     */
+    public List<List<QdrantSearchResult>> searchBatch(String collection, List<QdrantSearchRequest> requests) {
+        if (CollectionUtils.isEmpty(requests)) {
             return List.of();
         }
+        if (grpcTransport != null) {
+            return searchBatchAsync(collection, requests).block();
+        }
+        String resolvedCollection = resolveCollection(collection);
+        ensureCollectionConfigured(resolvedCollection);
 
-        return response.getBody().result().stream()
-                .map(res -> new QdrantSearchResult(
-                        res.id() != null ? res.id().toString() : null,
-                        res.score() != null ? res.score() : 0.0,
-                        res.payload() != null ? res.payload() : Collections.emptyMap()
-                ))
-                .toList();
+        String endpoint = collectionUrl(resolvedCollection, "/points/search/batch");
+        ResponseEntity<QdrantBatchSearchResponse> response = exchange(
+                endpoint,
+                HttpMethod.POST,
+                batchSearchBody(requests),
+                QdrantBatchSearchResponse.class
+        );
+        return toBatchSearchResults(response != null ? response.getBody() : null, requests.size());
     }
 
     /**
-     * 여러 컬렉션에 대해 검색 후 점수순으로 합칩니다.
+     * searchBatch의 논블로킹 버전.
+     */
+    public Mono<List<List<QdrantSearchResult>>> searchBatchAsync(String collection, List<QdrantSearchRequest> requests) {
+        if (CollectionUtils.isEmpty(requests)) {
+            return Mono.just(List.of());
+        }
+        return Mono.defer(() -> {
+            String resolvedCollection = resolveCollection(collection);
+            if (grpcTransport != null) {
+                return grpcTransport.searchBatch(resolvedCollection, requests);
+            }
+            ensureCollectionConfigured(resolvedCollection);
+
+            String endpoint = collectionUrl(resolvedCollection, "/points/search/batch");
+            return exchangeAsync(endpoint, HttpMethod.POST, batchSearchBody(requests), QdrantBatchSearchResponse.class)
+                    .map(response -> toBatchSearchResults(response, requests.size()))
+                    .defaultIfEmpty(toBatchSearchResults(null, requests.size()));
+        });
+    }
+
+    /**
+     * 단건 검색을 마이크로 배처에 넣어 같은 컬렉션의 동시 검색과 함께 전송합니다.
+     * 함께 묶을 검색이 없거나 배처가 비활성화되어 있으면 searchAsync로 바로 보냅니다.
+     */
+    public Mono<List<QdrantSearchResult>> searchBatchedAsync(String collection, QdrantSearchRequest request) {
+        if (searchBatcher == null) {
+            return searchAsync(collection, request);
+        }
+        return Mono.defer(() -> searchBatcher.submit(resolveCollection(collection), request))
+                .defaultIfEmpty(List.of());
+    }
+
+    /**
+     * 여러 컬렉션을 동시에 검색한 뒤 점수 상위 topK로 합칩니다 (같은 포인트는 한 번만).
+     * 지연 시간은 컬렉션 수의 합이 아니라 가장 느린 컬렉션 기준이며, 실패하거나
+     * qdrant.fan-out-timeout-ms를 넘긴 컬렉션은 제외합니다. 모든 컬렉션이 실패하면 예외를 던집니다.
      */
     public List<QdrantSearchResult> searchAcrossCollections(
-            List<Double> embedding,
+            EmbeddingVector embedding,
             int topK,
             Map<String, Object> filter,
             List<String> collections
     ) {
+        return searchAcrossCollections(embedding, topK, filter, collections, null);
+    }
+
+    /**
+     * hnswEf를 지정하면 이 검색에만 적용됩니다 (재현율과 지연 시간 조절).
+     */
+    public List<QdrantSearchResult> searchAcrossCollections(
+            EmbeddingVector embedding,
+            int topK,
+            Map<String, Object> filter,
+            List<String> collections,
+            Integer hnswEf
+    ) {
+        QdrantSearchRequest request = new QdrantSearchRequest(embedding, topK, filter, hnswEf);
         if (collections == null || collections.isEmpty()) {
-            return searchByEmbedding(embedding, topK, filter);
-        }
-        List<QdrantSearchResult> all = new java.util.ArrayList<>();
-        for (String col : collections) {
-            List<QdrantSearchResult> part = searchByEmbedding(embedding, topK, filter, col);
-            all.addAll(part);
+            return searchAsync(properties.resolvedActivityCollection(), request).block();
         }
-        return all.stream()
-                .sorted((a, b) -> Double.compare(b.score(), a.score()))
-                .limit(topK)
+        List<String> distinctCollections = collections.stream()
+                .filter(Objects::nonNull)
+                .distinct()
                 .toList();
+
+        Duration timeout = Duration.ofMillis(Optional.ofNullable(properties.getFanOutTimeoutMs()).orElse(3000));
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicReference<Throwable> lastFailure = new AtomicReference<>();
+
+        List<QdrantSearchResult> merged = Flux.fromIterable(distinctCollections)
+                .flatMap(collection -> searchBatchedAsync(collection, request)
+                        .timeout(timeout)
+                        .doOnNext(part -> succeeded.incrementAndGet())
+                        .map(part -> Map.entry(collection, part))
+                        .onErrorResume(e -> {
+                            log.warn("Qdrant search skipped for collection {}: {}", collection, e.toString());
+                            lastFailure.set(e);
+                            return Mono.empty();
+                        }), distinctCollections.size())
+                .reduce(new TopKSearchResults(topK),
+                        (topKResults, part) -> topKResults.addAll(part.getKey(), part.getValue()))
+                .map(TopKSearchResults::toList)
+                .block();
+
+        if (succeeded.get() == 0 && lastFailure.get() != null) {
+            Throwable failure = lastFailure.get();
+            throw failure instanceof RuntimeException runtime
+                    ? runtime
+                    : new IllegalStateException("Qdrant search failed for all collections", failure);
+        }
+        return merged != null ? merged : List.of();
+    }
+
+    /**
+     * 컬렉션 존재 여부.
+     */
+    public boolean collectionExists(String collection) {
+        String resolvedCollection = resolveCollection(collection);
+        if (grpcTransport != null) {
+            return Boolean.TRUE.equals(grpcTransport.collectionExists(resolvedCollection).block());
+        }
+        ensureCollectionConfigured(resolvedCollection);
+        try {
+            // 404는 정상 응답이므로 오류 로그를 남기는 exchange를 거치지 않음
+            qdrantRestTemplate.exchange(collectionUrl(resolvedCollection, ""), HttpMethod.GET,
+                    new HttpEntity<>(defaultHeaders()), Map.class);
+            return true;
+        } catch (HttpClientErrorException.NotFound e) {
+            return false;
+        }
+    }
+
+    /**
+     * qdrant.* 설정(거리 함수, HNSW m/ef_construct, 디스크 저장, int8 스칼라 양자화)으로 컬렉션을 만듭니다.
+     */
+    public void createCollection(String collection, int vectorSize) {
+        String resolvedCollection = resolveCollection(collection);
+        if (grpcTransport != null) {
+            grpcTransport.createCollection(resolvedCollection, vectorSize, properties).block();
+            return;
+        }
+        ensureCollectionConfigured(resolvedCollection);
+        execute(collectionUrl(resolvedCollection, ""), HttpMethod.PUT, createCollectionBody(vectorSize));
+    }
+
+    /**
+     * payload 필드 인덱스를 만듭니다. 이미 있으면 Qdrant가 그대로 성공을 반환합니다.
+     *
+     * @param fieldSchema keyword, integer, float, bool, datetime 등 Qdrant field_schema
+     */
+    public void createPayloadIndex(String collection, String fieldName, String fieldSchema) {
+        String resolvedCollection = resolveCollection(collection);
+        if (grpcTransport != null) {
+            grpcTransport.createPayloadIndex(resolvedCollection, fieldName, fieldSchema).block();
+            return;
+        }
+        ensureCollectionConfigured(resolvedCollection);
+
+        String endpoint = collectionUrl(resolvedCollection, "/index?wait=true");
+        execute(endpoint, HttpMethod.PUT, Map.of("field_name", fieldName, "field_schema", fieldSchema));
     }
 
     /**
@@ -143,6 +375,10 @@ public class QdrantClient {
         if (pointId == null || pointId.isBlank()) {
             return;
         }
+        if (grpcTransport != null) {
+            deletePointAsync(pointId, collection).block();
+            return;
+        }
         String resolvedCollection = resolveCollection(collection);
         ensureCollectionConfigured(resolvedCollection);
 
@@ -151,6 +387,32 @@ public class QdrantClient {
         execute(endpoint, HttpMethod.POST, body);
     }
 
+    public Mono<Void> deletePointAsync(String pointId, String collection) {
+        if (pointId == null || pointId.isBlank()) {
+            return Mono.empty();
+        }
+        return deletePointsAsync(List.of(pointId), collection);
+    }
+
+    /**
+     * 여러 포인트를 한 번의 요청으로 삭제합니다.
+     */
+    public Mono<Void> deletePointsAsync(List<String> pointIds, String collection) {
+        if (CollectionUtils.isEmpty(pointIds)) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            String resolvedCollection = resolveCollection(collection);
+            if (grpcTransport != null) {
+                return grpcTransport.delete(resolvedCollection, pointIds);
+            }
+            ensureCollectionConfigured(resolvedCollection);
+
+            String endpoint = collectionUrl(resolvedCollection, "/points/delete?wait=true");
+            return exchangeAsync(endpoint, HttpMethod.POST, Map.of("points", pointIds), Map.class).then();
+        });
+    }
+
     private void execute(String endpoint, HttpMethod method, Object body) {
         try {
             exchange(endpoint, method, body, Map.class);
@@ -174,10 +436,111 @@ public class QdrantClient {
         }
     }
 
+    private <T> Mono<T> exchangeAsync(String endpoint,
+                                      HttpMethod method,
+                                      Object body,
+                                      Class<T> responseType) {
+        return qdrantWebClient.method(method)
+                .uri(endpoint)
+                .headers(headers -> headers.addAll(defaultHeaders()))
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(responseType)
+                .doOnError(e -> log.error("Qdrant request failed: {} {} - {}", method, endpoint, e.getMessage()));
+    }
+
+    private static Long operationId(Map<?, ?> response) {
+        if (response != null
+                && response.get("result") instanceof Map<?, ?> result
+                && result.get("operation_id") instanceof Number operationId) {
+            return operationId.longValue();
+        }
+        return null;
+    }
+
+    private Map<String, Object> batchSearchBody(List<QdrantSearchRequest> requests) {
+        return Map.of(
+                "searches", requests.stream()
+                        .map(this::searchBody)
+                        .toList()
+        );
+    }
+
+    private Map<String, Object> searchBody(QdrantSearchRequest request) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("vector", request.embedding());
+        body.put("top", request.topK());
+        body.put("with_payload", true);
+        body.put("with_vector", false);
+        if (request.filter() != null && !request.filter().isEmpty()) {
+            body.put("filter", request.filter());
+        }
+        Map<String, Object> params = searchParams.toJson(request);
+        if (params != null) {
+            body.put("params", params);
+        }
+        return body;
+    }
+
+    private Map<String, Object> createCollectionBody(int vectorSize) {
+        Map<String, Object> vectors = new HashMap<>();
+        vectors.put("size", vectorSize);
+        vectors.put("distance", Optional.ofNullable(properties.getDistance()).orElse("Cosine"));
+        vectors.put("on_disk", properties.isOnDiskVectors());
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("vectors", vectors);
+        body.put("hnsw_config", Map.of(
+                "m", Optional.ofNullable(properties.getHnswM()).orElse(16),
+                "ef_construct", Optional.ofNullable(properties.getHnswEfConstruct()).orElse(100)
+        ));
+        if (properties.isQuantizationEnabled()) {
+            body.put("quantization_config", Map.of("scalar", Map.of(
+                    "type", "int8",
+                    "quantile", Optional.ofNullable(properties.getQuantizationQuantile()).orElse(0.99),
+                    "always_ram", properties.isQuantizationAlwaysRam()
+            )));
+        }
+        return body;
+    }
+
+    private List<QdrantSearchResult> toSearchResults(QdrantSearchResponse response) {
+        if (response == null || response.result() == null) {
+            return List.of();
+        }
+        return response.result().stream()
+                .map(res -> new QdrantSearchResult(
+                        res.id() != null ? res.id().toString() : null,
+                        res.score() != null ? res.score() : 0.0,
+                        res.payload() != null ? res.payload() : Collections.emptyMap()
+                ))
+                .toList();
+    }
+
+    private List<List<QdrantSearchResult>> toBatchSearchResults(QdrantBatchSearchResponse response, int expectedSize) {
+        List<List<QdrantSearchResult>> results = new java.util.ArrayList<>(expectedSize);
+        List<List<QdrantPointResult>> batches = response != null && response.result() != null
+                ? response.result()
+                : List.of();
+        for (int i = 0; i < expectedSize; i++) {
+            List<QdrantPointResult> points = i < batches.size() ? batches.get(i) : null;
+            results.add(toSearchResults(points != null ? new QdrantSearchResponse(points) : null));
+        }
+        return results;
+    }
+
+    private Map<String, Object> upsertBody(List<ActivityVectorPayload> payloads, Integer expectedDim) {
+        return Map.of(
+                "points", payloads.stream()
+                        .map(payload -> toPointRequest(payload, expectedDim))
+                        .collect(Collectors.toList())
+        );
+    }
+
     private Map<String, Object> toPointRequest(ActivityVectorPayload payload, Integer expectedDim) {
-        if (expectedDim != null && payload.vector() != null && payload.vector().size() != expectedDim) {
+        if (expectedDim != null && payload.vector() != null && payload.vector().dimension() != expectedDim) {
             log.warn("Vector dimension mismatch for point {}. expected={}, actual={}",
-                    payload.pointId(), expectedDim, payload.vector().size());
+                    payload.pointId(), expectedDim, payload.vector().dimension());
         }
         Map<String, Object> point = new HashMap<>();
         point.put("id", payload.pointId());
@@ -223,6 +586,11 @@ public class QdrantClient {
     ) {
     }
 
+    private record QdrantBatchSearchResponse(
+            List<List<QdrantPointResult>> result
+    ) {
+    }
+
     private record QdrantPointResult(
             Object id,
             Double score,
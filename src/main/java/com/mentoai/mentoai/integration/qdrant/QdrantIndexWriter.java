@@ -0,0 +1,428 @@
+package com.mentoai.mentoai.integration.qdrant;
+
+import com.mentoai.mentoai.config.QdrantProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Qdrant 색인 writer.
+ * 호출부는 포인트 업서트와 삭제를 큐에 넣고 바로 돌아가며, 전용 스레드 하나가 컬렉션별로 indexBatchSize개씩 모아 전송합니다.
+ * 대기 중 같은 포인트에 대한 요청이 다시 들어오면 마지막 요청(업서트 또는 삭제)만 보냅니다.
+ * 모든 쓰기를 이 스레드가 순서대로 보내므로, 전송 중인 업서트 뒤에 들어온 삭제가 먼저 적용되어 포인트가 되살아나지 않습니다.
+ * 업서트는 wait=false로 보내되 큐가 비는 시점의 마지막 배치만 wait=true로 보내며, 같은 컬렉션의 업데이트는 순서대로
+ * 적용되므로 그 응답으로 앞서 acknowledged된 operation_id까지 반영되었음을 확인합니다.
+ * 실패한 배치는 지수 백오프로 재시도하고, 그래도 실패하면 큐에 다시 넣어 다음 플러시에서 보냅니다.
+ * indexMaxRequeues번 넘게 실패한 요청은 dead-letter로 옮겨 두었다가 같은 컬렉션으로의 전송이 성공하면 다시 큐에 넣습니다.
+ * 큐가 가득 차면 호출 스레드는 플러시가 끝날 때까지 기다립니다.
+ * 플러시에서 전송에 성공한 컬렉션마다 {@link QdrantPointsWrittenEvent}를 발행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QdrantIndexWriter {
+
+    private final QdrantClient qdrantClient;
+    private final QdrantProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 컬렉션별 대기 요청 (pointId -> 마지막 요청), pending 자체로 동기화
+    private final Map<String, LinkedHashMap<String, PendingWrite>> pending = new LinkedHashMap<>();
+    private int pendingCount;
+
+    // 재큐잉 한도를 넘긴 요청 (컬렉션 -> pointId -> 요청), pending으로 동기화
+    private final Map<String, LinkedHashMap<String, PendingWrite>> deadLetters = new LinkedHashMap<>();
+    private int deadLetterCount;
+
+    private final Map<String, Long> acknowledgedOperations = new ConcurrentHashMap<>();
+    private final Map<String, Long> confirmedOperations = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong writtenPoints = new AtomicLong();
+    private final AtomicLong deletedPoints = new AtomicLong();
+    private final AtomicLong requeuedPoints = new AtomicLong();
+    private final AtomicLong failedPoints = new AtomicLong();
+    private final AtomicLong retriedBatches = new AtomicLong();
+    private final AtomicLong blockedEnqueues = new AtomicLong();
+
+    // 비활성화 시 null이며 호출 스레드에서 바로 전송
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    void start() {
+        if (!properties.isIndexWriterEnabled()) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "qdrant-index-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = Math.max(1, Optional.ofNullable(properties.getIndexFlushIntervalMs()).orElse(500));
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 전에 남은 요청 전송
+        flush();
+    }
+
+    /**
+     * 포인트 업서트를 색인 큐에 넣습니다. 큐가 가득 차면 플러시가 끝날 때까지 기다립니다.
+     */
+    public void enqueue(String collection, Integer expectedDim, List<ActivityVectorPayload> payloads) {
+        if (CollectionUtils.isEmpty(payloads)) {
+            return;
+        }
+        if (flusher == null) {
+            qdrantClient.upsertVectors(payloads, collection, expectedDim);
+            return;
+        }
+        submit(collection, payloads.stream()
+                .map(payload -> new PendingWrite(payload.pointId(), expectedDim, payload, 0))
+                .toList());
+    }
+
+    /**
+     * 포인트 삭제를 색인 큐에 넣습니다. 대기 중인 업서트는 삭제로 대체되고, 이미 전송 중인 업서트보다 나중에 적용됩니다.
+     */
+    public void delete(String collection, String pointId) {
+        if (pointId == null || pointId.isBlank()) {
+            return;
+        }
+        if (flusher == null) {
+            qdrantClient.deletePoint(pointId, collection);
+            return;
+        }
+        submit(collection, List.of(new PendingWrite(pointId, null, null, 0)));
+    }
+
+    private void submit(String collection, List<PendingWrite> writes) {
+        boolean overflow;
+        boolean batchReady;
+        synchronized (pending) {
+            LinkedHashMap<String, PendingWrite> points = pending.computeIfAbsent(collection, key -> new LinkedHashMap<>());
+            for (PendingWrite write : writes) {
+                // 새 요청이 들어오면 dead-letter에 남은 이전 요청은 의미가 없음
+                removeDeadLetter(collection, write.pointId());
+                if (points.put(write.pointId(), write) == null) {
+                    pendingCount++;
+                }
+            }
+            overflow = pendingCount > queueCapacity();
+            batchReady = points.size() >= batchSize();
+        }
+
+        if (overflow) {
+            // 직접 전송하면 전송 중인 이전 배치와 순서가 뒤바뀔 수 있으므로 큐에 넣은 채 플러시를 기다림
+            blockedEnqueues.incrementAndGet();
+            log.debug("Qdrant index queue is full, waiting for flush ({} writes)", writes.size());
+            awaitFlush();
+        } else if (batchReady && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    private void awaitFlush() {
+        try {
+            flusher.submit(this::flushQuietly).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RejectedExecutionException e) {
+            log.warn("Qdrant index flush failed while the queue was full: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 대기 중인 요청을 컬렉션별 배치로 전송합니다. 전송 중 새로 들어온 요청은 다음 플러시에서 처리합니다.
+     */
+    void flush() {
+        flushScheduled.set(false);
+        Map<String, Integer> rounds = new LinkedHashMap<>();
+        synchronized (pending) {
+            pending.forEach((collection, points) ->
+                    rounds.put(collection, (points.size() + batchSize() - 1) / batchSize()));
+        }
+        Set<String> writtenCollections = new LinkedHashSet<>();
+        rounds.forEach((collection, count) -> {
+            for (int i = 0; i < count; i++) {
+                List<PendingWrite> batch = new ArrayList<>();
+                boolean drained;
+                synchronized (pending) {
+                    LinkedHashMap<String, PendingWrite> points = pending.get(collection);
+                    if (points == null) {
+                        return;
+                    }
+                    Iterator<PendingWrite> iterator = points.values().iterator();
+                    while (iterator.hasNext() && batch.size() < batchSize()) {
+                        batch.add(iterator.next());
+                        iterator.remove();
+                        pendingCount--;
+                    }
+                    drained = points.isEmpty();
+                    if (drained) {
+                        pending.remove(collection);
+                    }
+                }
+                if (!batch.isEmpty() && send(collection, batch, drained)) {
+                    writtenCollections.add(collection);
+                }
+            }
+        });
+        writtenCollections.forEach(collection -> eventPublisher.publishEvent(new QdrantPointsWrittenEvent(collection)));
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Qdrant index flush failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 배치 안의 업서트와 삭제를 보냅니다. 배치 안에서 포인트는 한 번씩만 나오므로 둘 사이의 순서는 상관없습니다.
+     *
+     * @return 일부라도 전송했으면 true
+     */
+    private boolean send(String collection, List<PendingWrite> batch, boolean drained) {
+        Map<Integer, List<PendingWrite>> upsertsByDim = new LinkedHashMap<>();
+        List<PendingWrite> deletes = new ArrayList<>();
+        for (PendingWrite write : batch) {
+            if (write.isDelete()) {
+                deletes.add(write);
+            } else {
+                upsertsByDim.computeIfAbsent(write.expectedDim(), key -> new ArrayList<>()).add(write);
+            }
+        }
+
+        List<PendingWrite> unsent = new ArrayList<>(batch);
+        try {
+            int remainingGroups = upsertsByDim.size();
+            for (Map.Entry<Integer, List<PendingWrite>> group : upsertsByDim.entrySet()) {
+                remainingGroups--;
+                upsert(collection, group.getKey(), group.getValue(), drained && remainingGroups == 0);
+                unsent.removeAll(group.getValue());
+            }
+            if (!deletes.isEmpty()) {
+                withRetry(qdrantClient.deletePointsAsync(deletes.stream().map(PendingWrite::pointId).toList(), collection),
+                        collection, deletes.size())
+                        .block();
+                deletedPoints.addAndGet(deletes.size());
+            }
+        } catch (Exception e) {
+            requeue(collection, unsent, e);
+            return unsent.size() < batch.size();
+        }
+        reviveDeadLetters(collection);
+        return true;
+    }
+
+    private void upsert(String collection, Integer expectedDim, List<PendingWrite> writes, boolean confirm) {
+        List<ActivityVectorPayload> payloads = writes.stream().map(PendingWrite::payload).toList();
+        Long operationId = withRetry(qdrantClient.upsertVectorsAsync(payloads, collection, expectedDim, confirm),
+                collection, payloads.size())
+                .block();
+        writtenPoints.addAndGet(payloads.size());
+        if (operationId != null) {
+            String key = String.valueOf(collection);
+            acknowledgedOperations.merge(key, operationId, Math::max);
+            if (confirm) {
+                confirmedOperations.merge(key, acknowledgedOperations.get(key), Math::max);
+            }
+        }
+    }
+
+    private <T> Mono<T> withRetry(Mono<T> request, String collection, int size) {
+        int timeoutMs = Optional.ofNullable(properties.getTimeoutMs()).orElse(5000);
+        long backoffMs = Math.max(1, Optional.ofNullable(properties.getIndexRetryBackoffMs()).orElse(500));
+        return request
+                .timeout(Duration.ofMillis(timeoutMs))
+                .retryWhen(Retry.backoff(maxRetries(), Duration.ofMillis(backoffMs))
+                        .doBeforeRetry(signal -> {
+                            retriedBatches.incrementAndGet();
+                            log.warn("Retrying Qdrant index batch ({} points) for {} (attempt {}): {}",
+                                    size, collection, signal.totalRetries() + 1, signal.failure().getMessage());
+                        }));
+    }
+
+    /**
+     * 재시도까지 실패한 요청을 큐에 다시 넣습니다. 그 사이 같은 포인트에 새 요청이 들어왔으면 새 요청을 남기고,
+     * 재큐잉 한도를 넘겼거나 큐가 가득 찼으면 dead-letter로 옮깁니다. dead-letter도 가득 차면 버립니다.
+     */
+    private void requeue(String collection, List<PendingWrite> writes, Exception failure) {
+        int requeued = 0;
+        int deadLettered = 0;
+        int dropped = 0;
+        synchronized (pending) {
+            for (PendingWrite write : writes) {
+                LinkedHashMap<String, PendingWrite> points = pending.get(collection);
+                if (points != null && points.containsKey(write.pointId())) {
+                    continue;
+                }
+                PendingWrite retry = write.withRequeues(write.requeues() + 1);
+                if (retry.requeues() <= maxRequeues() && pendingCount < queueCapacity()) {
+                    pending.computeIfAbsent(collection, key -> new LinkedHashMap<>()).put(retry.pointId(), retry);
+                    pendingCount++;
+                    requeued++;
+                } else if (deadLetterCount < queueCapacity()) {
+                    if (deadLetters.computeIfAbsent(collection, key -> new LinkedHashMap<>())
+                            .put(retry.pointId(), retry.withRequeues(0)) == null) {
+                        deadLetterCount++;
+                    }
+                    deadLettered++;
+                } else {
+                    dropped++;
+                }
+            }
+        }
+        requeuedPoints.addAndGet(requeued);
+        failedPoints.addAndGet(dropped);
+        log.error("Qdrant index batch ({} writes, first {}) for {} failed after {} retries: {} (requeued={} deadLettered={} dropped={})",
+                writes.size(), writes.isEmpty() ? null : writes.get(0).pointId(), collection, maxRetries(),
+                failure.getMessage(), requeued, deadLettered, dropped);
+    }
+
+    private void reviveDeadLetters(String collection) {
+        int revived = 0;
+        synchronized (pending) {
+            LinkedHashMap<String, PendingWrite> parked = deadLetters.get(collection);
+            if (parked == null) {
+                return;
+            }
+            Iterator<PendingWrite> iterator = parked.values().iterator();
+            while (iterator.hasNext() && pendingCount < queueCapacity()) {
+                PendingWrite write = iterator.next();
+                iterator.remove();
+                deadLetterCount--;
+                LinkedHashMap<String, PendingWrite> points = pending.computeIfAbsent(collection, key -> new LinkedHashMap<>());
+                if (points.putIfAbsent(write.pointId(), write) == null) {
+                    pendingCount++;
+                    revived++;
+                }
+            }
+            if (parked.isEmpty()) {
+                deadLetters.remove(collection);
+            }
+        }
+        if (revived > 0) {
+            log.info("Requeued {} dead-lettered Qdrant index writes for {}", revived, collection);
+        }
+    }
+
+    private void removeDeadLetter(String collection, String pointId) {
+        LinkedHashMap<String, PendingWrite> parked = deadLetters.get(collection);
+        if (parked == null) {
+            return;
+        }
+        if (parked.remove(pointId) != null) {
+            deadLetterCount--;
+        }
+        if (parked.isEmpty()) {
+            deadLetters.remove(collection);
+        }
+    }
+
+    /**
+     * 컬렉션별로 acknowledged되었으나 아직 wait=true 응답으로 확인되지 않은 마지막 operation_id.
+     */
+    public Map<String, Long> unconfirmedOperations() {
+        Map<String, Long> unconfirmed = new LinkedHashMap<>();
+        acknowledgedOperations.forEach((collection, operationId) -> {
+            Long confirmed = confirmedOperations.get(collection);
+            if (confirmed == null || confirmed < operationId) {
+                unconfirmed.put(collection, operationId);
+            }
+        });
+        return unconfirmed;
+    }
+
+    public int pendingCount() {
+        synchronized (pending) {
+            return pendingCount;
+        }
+    }
+
+    public int deadLetterCount() {
+        synchronized (pending) {
+            return deadLetterCount;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats-log-interval-ms:300000}")
+    public void logStats() {
+        if (flusher == null) {
+            return;
+        }
+        log.info("Qdrant index writer stats: pending={} written={} deleted={} requeued={} deadLettered={} failed={} "
+                        + "retriedBatches={} blockedEnqueues={} unconfirmed={}",
+                pendingCount(), writtenPoints.get(), deletedPoints.get(), requeuedPoints.get(), deadLetterCount(),
+                failedPoints.get(), retriedBatches.get(), blockedEnqueues.get(), unconfirmedOperations());
+    }
+
+    private int batchSize() {
+        return Math.max(1, Optional.ofNullable(properties.getIndexBatchSize()).orElse(256));
+    }
+
+    private int queueCapacity() {
+        return Math.max(batchSize(), Optional.ofNullable(properties.getIndexQueueCapacity()).orElse(10000));
+    }
+
+    private int maxRetries() {
+        return Math.max(0, Optional.ofNullable(properties.getIndexMaxRetries()).orElse(3));
+    }
+
+    private int maxRequeues() {
+        return Math.max(0, Optional.ofNullable(properties.getIndexMaxRequeues()).orElse(5));
+    }
+
+    /**
+     * 대기 중인 쓰기 요청. payload가 null이면 삭제.
+     */
+    private record PendingWrite(String pointId, Integer expectedDim, ActivityVectorPayload payload, int requeues) {
+
+        boolean isDelete() {
+            return payload == null;
+        }
+
+        PendingWrite withRequeues(int count) {
+            return new PendingWrite(pointId, expectedDim, payload, count);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.mentoai.mentoai.integration.qdrant;
+
+/**
+ * 색인 큐에 모였던 업서트/삭제가 Qdrant 컬렉션에 전송된 뒤 발행됩니다.
+ * 커밋 시점에는 아직 반영되지 않았던 변경으로 결과 캐시를 다시 무효화하는 데 사용.
+ */
+public record QdrantPointsWrittenEvent(String collection) {
+}
@@ -0,0 +1,130 @@
+package com.mentoai.mentoai.integration.qdrant;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * 같은 컬렉션으로 들어온 동시 검색을 짧은 시간 동안 모아 /points/search/batch 한 번으로 보냅니다.
+ * 컬렉션에 대기 중이거나 전송 중인 검색이 없으면 기다리지 않고 단건 검색으로 바로 보내며,
+ * 이미 전송 중인 검색이 있을 때만 windowMs 동안 모으거나 maxBatchSize개가 모이면 전송합니다.
+ * 응답은 요청 순서대로 각 호출자에게 나눠 주고, 배치가 실패하면 묶인 호출 모두 같은 오류를 받습니다.
+ */
+@Slf4j
+final class QdrantSearchBatcher {
+
+    private final BiFunction<String, QdrantSearchRequest, Mono<List<QdrantSearchResult>>> singleSearch;
+    private final BiFunction<String, List<QdrantSearchRequest>, Mono<List<List<QdrantSearchResult>>>> batchSearch;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final Scheduler scheduler = Schedulers.parallel();
+    private final Map<String, List<Pending>> pendingByCollection = new HashMap<>();
+    private final Map<String, Integer> inFlightByCollection = new HashMap<>();
+
+    QdrantSearchBatcher(BiFunction<String, QdrantSearchRequest, Mono<List<QdrantSearchResult>>> singleSearch,
+                        BiFunction<String, List<QdrantSearchRequest>, Mono<List<List<QdrantSearchResult>>>> batchSearch,
+                        long windowMs,
+                        int maxBatchSize) {
+        this.singleSearch = singleSearch;
+        this.batchSearch = batchSearch;
+        this.windowMs = Math.max(0, windowMs);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    Mono<List<QdrantSearchResult>> submit(String collection, QdrantSearchRequest request) {
+        return Mono.create(sink -> enqueue(collection, new Pending(request, sink)));
+    }
+
+    private void enqueue(String collection, Pending pending) {
+        List<Pending> ready = null;
+        boolean scheduleFlush = false;
+        synchronized (pendingByCollection) {
+            List<Pending> batch = pendingByCollection.get(collection);
+            if (batch == null && inFlightByCollection.getOrDefault(collection, 0) == 0) {
+                // 함께 묶을 검색이 없으므로 대기 시간 없이 단건으로 전송
+                ready = List.of(pending);
+                markInFlight(collection);
+            } else {
+                if (batch == null) {
+                    batch = new ArrayList<>();
+                    pendingByCollection.put(collection, batch);
+                    scheduleFlush = true;
+                }
+                batch.add(pending);
+                if (batch.size() >= maxBatchSize) {
+                    ready = pendingByCollection.remove(collection);
+                    markInFlight(collection);
+                }
+            }
+        }
+        if (ready != null) {
+            dispatch(collection, ready);
+        }
+        if (scheduleFlush) {
+            scheduler.schedule(() -> flush(collection), windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(String collection) {
+        List<Pending> batch;
+        synchronized (pendingByCollection) {
+            batch = pendingByCollection.remove(collection);
+            if (batch != null) {
+                markInFlight(collection);
+            }
+        }
+        // 크기 제한으로 이미 전송된 경우 비어 있음
+        if (batch != null) {
+            dispatch(collection, batch);
+        }
+    }
+
+    private void dispatch(String collection, List<Pending> batch) {
+        if (batch.size() == 1) {
+            Pending pending = batch.get(0);
+            Mono.defer(() -> singleSearch.apply(collection, pending.request()))
+                    .doFinally(signal -> completeInFlight(collection))
+                    .subscribe(
+                            pending.sink()::success,
+                            pending.sink()::error,
+                            pending.sink()::success
+                    );
+            return;
+        }
+        List<QdrantSearchRequest> requests = batch.stream().map(Pending::request).toList();
+        Mono.defer(() -> batchSearch.apply(collection, requests))
+                .doFinally(signal -> completeInFlight(collection))
+                .subscribe(
+                        results -> {
+                            for (int i = 0; i < batch.size(); i++) {
+                                batch.get(i).sink().success(i < results.size() ? results.get(i) : List.of());
+                            }
+                        },
+                        error -> batch.forEach(pending -> pending.sink().error(error)),
+                        () -> batch.forEach(pending -> pending.sink().success())
+                );
+        log.debug("Qdrant batched {} searches for collection {}", batch.size(), collection);
+    }
+
+    private void markInFlight(String collection) {
+        inFlightByCollection.merge(collection, 1, Integer::sum);
+    }
+
+    private void completeInFlight(String collection) {
+        synchronized (pendingByCollection) {
+            inFlightByCollection.computeIfPresent(collection, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private record Pending(QdrantSearchRequest request, MonoSink<List<QdrantSearchResult>> sink) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.mentoai.mentoai.integration.qdrant;
+
+import com.mentoai.mentoai.config.QdrantProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 검색 파라미터 기본값 (hnsw_ef, 양자화 rescore/oversampling).
+ * 검색별 hnsw_ef는 {@link QdrantSearchRequest#hnswEf()}가 우선합니다.
+ *
+ * @param hnswEf              기본 hnsw_ef (없으면 Qdrant 기본값)
+ * @param quantizationEnabled 양자화 파라미터를 보낼지 여부
+ * @param rescore             원본 벡터로 재채점할지 여부
+ * @param oversampling        재채점할 후보 배수
+ */
+public record QdrantSearchParams(
+        Integer hnswEf,
+        boolean quantizationEnabled,
+        boolean rescore,
+        Double oversampling
+) {
+
+    public static final QdrantSearchParams DEFAULT = new QdrantSearchParams(null, false, false, null);
+
+    public static QdrantSearchParams fromProperties(QdrantProperties properties) {
+        return new QdrantSearchParams(
+                properties.getSearchHnswEf(),
+                properties.isQuantizationEnabled(),
+                properties.isSearchRescore(),
+                properties.getSearchOversampling()
+        );
+    }
+
+    public Integer effectiveHnswEf(QdrantSearchRequest request) {
+        return request.hnswEf() != null ? request.hnswEf() : hnswEf;
+    }
+
+    /**
+     * REST 검색 본문의 params. 보낼 값이 없으면 null.
+     */
+    public Map<String, Object> toJson(QdrantSearchRequest request) {
+        Map<String, Object> params = new HashMap<>();
+        Integer ef = effectiveHnswEf(request);
+        if (ef != null) {
+            params.put("hnsw_ef", ef);
+        }
+        if (quantizationEnabled) {
+            Map<String, Object> quantization = new HashMap<>();
+            quantization.put("rescore", rescore);
+            if (oversampling != null) {
+                quantization.put("oversampling", oversampling);
+            }
+            params.put("quantization", quantization);
+        }
+        return params.isEmpty() ? null : params;
+    }
+}
@@ -0,0 +1,25 @@
+package com.mentoai.mentoai.integration.qdrant;
+
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+
+import java.util.Map;
+
+/**
+ * 배치 검색의 개별 질의.
+ *
+ * @param embedding 질의 벡터
+ * @param topK      반환할 최대 결과 수
+ * @param filter    Qdrant 필터 (없으면 null)
+ * @param hnswEf    이 검색에만 적용할 hnsw_ef (없으면 qdrant.search-hnsw-ef)
+ */
+public record QdrantSearchRequest(
+        EmbeddingVector embedding,
+        int topK,
+        Map<String, Object> filter,
+        Integer hnswEf
+) {
+
+    public QdrantSearchRequest(EmbeddingVector embedding, int topK, Map<String, Object> filter) {
+        this(embedding, topK, filter, null);
+    }
+}
@@ -0,0 +1,98 @@
+package com.mentoai.mentoai.integration.qdrant;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 여러 컬렉션 검색 결과를 점수 상위 K개로 합칩니다.
+ * 크기 K의 최소 힙을 유지하며, 같은 항목은 점수가 가장 높은 결과 하나만 남깁니다.
+ * 포인트 ID는 컬렉션마다 따로 매겨지므로, payload에 activityId가 있으면 그 값으로,
+ * 없으면 (컬렉션, 포인트 ID)로 같은 항목인지 판단합니다.
+ * 스레드 안전하지 않으므로 한 스레드(리액티브 reduce 등)에서만 사용합니다.
+ */
+final class TopKSearchResults {
+
+    private static final Comparator<Ranked> BY_SCORE =
+            Comparator.comparingDouble(ranked -> ranked.result().score());
+
+    private final int k;
+    private final PriorityQueue<Ranked> heap;
+    private final Map<String, Ranked> byKey = new HashMap<>();
+
+    TopKSearchResults(int k) {
+        this.k = Math.max(1, k);
+        this.heap = new PriorityQueue<>(this.k, BY_SCORE);
+    }
+
+    TopKSearchResults addAll(String collection, List<QdrantSearchResult> results) {
+        if (results != null) {
+            results.forEach(result -> add(collection, result));
+        }
+        return this;
+    }
+
+    void add(String collection, QdrantSearchResult result) {
+        if (result == null) {
+            return;
+        }
+        if (heap.size() >= k && result.score() <= heap.peek().result().score()) {
+            return;
+        }
+        Ranked ranked = new Ranked(dedupeKey(collection, result), result);
+        if (ranked.key() != null) {
+            Ranked existing = byKey.get(ranked.key());
+            if (existing != null) {
+                if (existing.result().score() >= result.score()) {
+                    return;
+                }
+                heap.remove(existing);
+            }
+            byKey.put(ranked.key(), ranked);
+        }
+        heap.add(ranked);
+        if (heap.size() > k) {
+            Ranked evicted = heap.poll();
+            if (evicted.key() != null) {
+                byKey.remove(evicted.key(), evicted);
+            }
+        }
+    }
+
+    /**
+     * 점수 내림차순 결과.
+     */
+    List<QdrantSearchResult> toList() {
+        List<Ranked> sorted = new ArrayList<>(heap);
+        sorted.sort(BY_SCORE.reversed());
+        return sorted.stream().map(Ranked::result).toList();
+    }
+
+    static String dedupeKey(String collection, QdrantSearchResult result) {
+        Map<String, Object> payload = result.payload();
+        if (payload != null) {
+            Object activityId = payload.getOrDefault("activityId", payload.get("activity_id"));
+            if (activityId != null) {
+                return "activity:" + normalizeId(activityId);
+            }
+        }
+        if (result.pointId() == null) {
+            return null;
+        }
+        return "point:" + collection + "/" + result.pointId();
+    }
+
+    private static String normalizeId(Object id) {
+        // 컬렉션에 따라 같은 ID가 Integer, Long, 문자열로 역직렬화될 수 있음
+        if (id instanceof Number number) {
+            return Long.toString(number.longValue());
+        }
+        return id.toString().trim();
+    }
+
+    private record Ranked(String key, QdrantSearchResult result) {
+    }
+}
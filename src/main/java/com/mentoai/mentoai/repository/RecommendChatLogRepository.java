@@ -1,6 +1,7 @@
 package com.mentoai.mentoai.repository;
 
 import com.mentoai.mentoai.entity.RecommendChatLogEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -8,5 +9,7 @@ import java.util.List;
 public interface RecommendChatLogRepository extends JpaRepository<RecommendChatLogEntity, Long> {
 
     List<RecommendChatLogEntity> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    List<RecommendChatLogEntity> findByUserQueryIsNotNull(Pageable pageable);
 }
 
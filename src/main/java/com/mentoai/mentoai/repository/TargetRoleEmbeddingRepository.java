@@ -0,0 +1,7 @@
+package com.mentoai.mentoai.repository;
+
+import com.mentoai.mentoai.entity.TargetRoleEmbeddingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TargetRoleEmbeddingRepository extends JpaRepository<TargetRoleEmbeddingEntity, String> {
+}
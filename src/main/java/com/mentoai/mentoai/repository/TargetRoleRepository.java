@@ -14,6 +14,9 @@ public interface TargetRoleRepository extends JpaRepository<TargetRoleEntity, St
     
     @Query("SELECT t FROM TargetRoleEntity t WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(t.roleId) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<TargetRoleEntity> findByKeyword(@Param("keyword") String keyword);
+
+    @Query("SELECT t.roleId FROM TargetRoleEntity t ORDER BY t.roleId")
+    List<String> findAllRoleIds();
 }
 
 
@@ -9,8 +9,13 @@ import com.mentoai.mentoai.entity.ActivityTargetRoleEntity;
 import com.mentoai.mentoai.entity.TargetRoleEntity;
 import com.mentoai.mentoai.entity.WeightedMajor;
 import com.mentoai.mentoai.entity.WeightedSkill;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProvider;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProviders;
+import com.mentoai.mentoai.integration.embedding.EmbeddingUseCase;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
 import com.mentoai.mentoai.integration.qdrant.ActivityVectorPayload;
 import com.mentoai.mentoai.integration.qdrant.QdrantClient;
+import com.mentoai.mentoai.integration.qdrant.QdrantIndexWriter;
 import com.mentoai.mentoai.integration.qdrant.QdrantSearchResult;
 import com.mentoai.mentoai.repository.ActivityRepository;
 import com.mentoai.mentoai.repository.ActivityTargetRoleRepository;
@@ -25,6 +30,7 @@ import org.springframework.util.CollectionUtils;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -36,20 +42,23 @@ import java.util.StringJoiner;
 @RequiredArgsConstructor
 public class ActivityRoleMatchService {
 
-    private final GeminiService geminiService;
+    private final EmbeddingProviders embeddingProviders;
     private final QdrantClient qdrantClient;
+    private final QdrantIndexWriter qdrantIndexWriter;
     private final com.mentoai.mentoai.config.QdrantProperties qdrantProperties;
     private final ActivityTargetRoleRepository activityTargetRoleRepository;
     private final TargetRoleRepository targetRoleRepository;
     private final ActivityRepository activityRepository;
     private final ObjectMapper objectMapper;
     private final UserProfileService userProfileService;
+    private final TargetRoleEmbeddingService targetRoleEmbeddingService;
+    private final UserProfileEmbeddingService userProfileEmbeddingService;
 
     public record RoleMatch(Long activityId, double score, Map<String, Object> payload) {
     }
 
     /**
-     * 활동 임베딩을 생성해 Qdrant에 업서트합니다.
+     * 활동 임베딩을 생성해 Qdrant 색인 큐에 넣습니다. 업서트는 {@link QdrantIndexWriter}가 배치로 보냅니다.
      */
     @Transactional(readOnly = true)
     public void indexActivity(ActivityEntity activity) {
@@ -64,26 +73,112 @@ public class ActivityRoleMatchService {
         }
 
         try {
-            List<Double> embedding = geminiService.generateEmbedding(document);
-            Map<String, Object> payload = new HashMap<>();
-            payload.put("activityId", activity.getId());
-            payload.put("title", activity.getTitle());
-            payload.put("type", activity.getType() != null ? activity.getType().name() : null);
-            payload.put("campus", Boolean.TRUE.equals(activity.getIsCampus()));
-
-            ActivityVectorPayload vectorPayload = new ActivityVectorPayload(
-                    String.valueOf(activity.getId()),
-                    embedding,
-                    payload
-            );
-            qdrantClient.upsertActivityVectors(List.of(vectorPayload));
+            EmbeddingVector embedding = vectorStoreEmbeddings().embed(document);
+            qdrantIndexWriter.enqueue(qdrantProperties.getCollection(), qdrantProperties.getVectorDim(),
+                    List.of(buildActivityVectorPayload(activity, embedding)));
         } catch (Exception e) {
             log.warn("Failed to index activity {} into Qdrant: {}", activity.getId(), e.getMessage());
         }
     }
 
+    /**
+     * 여러 활동을 한 번의 배치 임베딩으로 계산해 Qdrant 색인 큐에 넣습니다.
+     */
+    @Transactional(readOnly = true)
+    public void indexActivities(List<ActivityEntity> activities) {
+        if (CollectionUtils.isEmpty(activities)) {
+            return;
+        }
+
+        List<ActivityEntity> indexable = new ArrayList<>();
+        List<String> documents = new ArrayList<>();
+        for (ActivityEntity activity : activities) {
+            if (activity == null || activity.getId() == null) {
+                continue;
+            }
+            String document = buildActivityDocument(activity);
+            if (document.isBlank()) {
+                log.debug("Skip indexing activity {} because document text is empty", activity.getId());
+                continue;
+            }
+            indexable.add(activity);
+            documents.add(document);
+        }
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, EmbeddingVector> embeddings = vectorStoreEmbeddings().embedAll(documents);
+            List<ActivityVectorPayload> vectorPayloads = new ArrayList<>();
+            for (int i = 0; i < indexable.size(); i++) {
+                ActivityEntity activity = indexable.get(i);
+                EmbeddingVector embedding = embeddings.get(documents.get(i));
+                if (embedding == null) {
+                    log.warn("Missing embedding for activity {}, skip indexing", activity.getId());
+                    continue;
+                }
+                vectorPayloads.add(buildActivityVectorPayload(activity, embedding));
+            }
+            if (!vectorPayloads.isEmpty()) {
+                qdrantIndexWriter.enqueue(qdrantProperties.getCollection(), qdrantProperties.getVectorDim(),
+                        vectorPayloads);
+            }
+            log.info("Queued {} of {} activities for Qdrant indexing", vectorPayloads.size(), activities.size());
+        } catch (Exception e) {
+            log.warn("Failed to index {} activities into Qdrant: {}", documents.size(), e.getMessage());
+        }
+    }
+
+    private ActivityVectorPayload buildActivityVectorPayload(ActivityEntity activity, EmbeddingVector embedding) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("activityId", activity.getId());
+        payload.put("title", activity.getTitle());
+        payload.put(ActivityVectorFilter.PAYLOAD_TYPE, activity.getType() != null ? activity.getType().name() : null);
+        payload.put(ActivityVectorFilter.PAYLOAD_CAMPUS, Boolean.TRUE.equals(activity.getIsCampus()));
+        payload.put(ActivityVectorFilter.PAYLOAD_STATUS, activity.getStatus() != null ? activity.getStatus().name() : null);
+        payload.put(ActivityVectorFilter.PAYLOAD_TAGS, tagNames(activity).stream()
+                .filter(name -> !name.isBlank())
+                .map(ActivityVectorFilter::normalizeTag)
+                .distinct()
+                .toList());
+
+        return new ActivityVectorPayload(
+                String.valueOf(activity.getId()),
+                embedding,
+                payload
+        );
+    }
+
+    /**
+     * 활동 컬렉션에 payload 필터용 인덱스를 만듭니다. 컬렉션별로 실패해도 나머지는 계속 진행합니다.
+     *
+     * @return 인덱스를 확인한 컬렉션 수
+     */
+    public int ensurePayloadIndexes() {
+        int ensured = 0;
+        for (String collection : qdrantProperties.activityCollections().stream().distinct().toList()) {
+            try {
+                ActivityVectorFilter.PAYLOAD_INDEXES.forEach((field, schema) ->
+                        qdrantClient.createPayloadIndex(collection, field, schema));
+                ensured++;
+            } catch (Exception e) {
+                log.warn("Failed to create payload indexes for collection {}: {}", collection, e.getMessage());
+            }
+        }
+        return ensured;
+    }
+
+    /**
+     * Qdrant 색인과 검색에 같은 제공자를 쓰도록 항상 VECTOR_STORE 설정을 따릅니다.
+     */
+    private EmbeddingProvider vectorStoreEmbeddings() {
+        return embeddingProviders.forUseCase(EmbeddingUseCase.VECTOR_STORE);
+    }
+
     /**
      * 활동 삭제 시 Qdrant 포인트와 매핑 데이터를 정리합니다.
+     * 포인트 삭제는 색인 큐를 거치므로 먼저 들어간 업서트보다 나중에 적용됩니다.
      */
     @Transactional
     public void deleteActivityVector(Long activityId) {
@@ -91,7 +186,7 @@ public class ActivityRoleMatchService {
             return;
         }
         try {
-            qdrantClient.deletePoint(String.valueOf(activityId));
+            qdrantIndexWriter.delete(qdrantProperties.getCollection(), String.valueOf(activityId));
         } catch (Exception e) {
             log.warn("Failed to delete Qdrant vector for activity {}: {}", activityId, e.getMessage());
         }
@@ -106,7 +201,7 @@ public class ActivityRoleMatchService {
         TargetRoleEntity role = targetRoleRepository.findById(targetRoleId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 targetRoleId: " + targetRoleId));
 
-        List<QdrantSearchResult> results = performRoleSearch(role, topK);
+        List<QdrantSearchResult> results = performRoleSearch(role, topK).items();
         if (results.isEmpty()) {
             return List.of();
         }
@@ -156,48 +251,105 @@ public class ActivityRoleMatchService {
 
     @Transactional(readOnly = true)
     public List<RoleMatch> findRoleMatches(String targetRoleId, int topK) {
-        List<QdrantSearchResult> results = performRoleSearch(targetRoleId, topK);
+        return findRoleMatches(targetRoleId, topK, ActivityVectorFilter.NONE);
+    }
+
+    /**
+     * 검색 조건을 Qdrant payload 필터로 적용해 찾습니다. 조건에 맞지 않는 후보를 DB에서 읽지 않도록 하기 위함.
+     */
+    @Transactional(readOnly = true)
+    public List<RoleMatch> findRoleMatches(String targetRoleId, int topK, ActivityVectorFilter filter) {
+        return searchRoleMatches(targetRoleId, topK, filter).items();
+    }
+
+    /**
+     * findRoleMatches와 같지만 임베딩/Qdrant 장애로 빈 결과를 돌려준 경우 degraded로 표시합니다.
+     * 결과를 캐시하는 호출 측이 장애 시 결과를 TTL 동안 재사용하지 않도록 하기 위함.
+     */
+    @Transactional(readOnly = true)
+    public RetrievalResult<RoleMatch> searchRoleMatches(String targetRoleId, int topK, ActivityVectorFilter filter) {
+        RetrievalResult<QdrantSearchResult> results = performRoleSearch(targetRoleId, topK, filter);
         if (results.isEmpty()) {
-            return List.of();
+            return new RetrievalResult<>(List.of(), results.degraded());
         }
-        return results.stream()
+        return RetrievalResult.of(results.items().stream()
                 .map(result -> new RoleMatch(extractActivityId(result), result.score(), result.payload()))
                 .filter(match -> match.activityId() != null)
-                .toList();
+                .toList());
     }
 
-    private List<QdrantSearchResult> performRoleSearch(String targetRoleId, int topK) {
+    private RetrievalResult<QdrantSearchResult> performRoleSearch(String targetRoleId, int topK, ActivityVectorFilter filter) {
         TargetRoleEntity role = targetRoleRepository.findById(targetRoleId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 targetRoleId: " + targetRoleId));
-        return performRoleSearch(role, topK);
+        return performRoleSearch(role, topK, filter);
+    }
+
+    private RetrievalResult<QdrantSearchResult> performRoleSearch(TargetRoleEntity role, int topK) {
+        return performRoleSearch(role, topK, ActivityVectorFilter.NONE);
     }
 
-    private List<QdrantSearchResult> performRoleSearch(TargetRoleEntity role, int topK) {
+    private RetrievalResult<QdrantSearchResult> performRoleSearch(TargetRoleEntity role, int topK, ActivityVectorFilter filter) {
         if (role == null) {
-            return List.of();
+            return RetrievalResult.of(List.of());
         }
 
         String roleDocument = buildRoleDocument(role);
         if (roleDocument.isBlank()) {
             log.warn("Target role {} has insufficient data to build embedding", role.getRoleId());
-            return List.of();
+            return RetrievalResult.of(List.of());
         }
 
         int safeTopK = clampTopK(topK);
         try {
-            List<Double> roleEmbedding = geminiService.generateEmbedding(roleDocument);
-            return qdrantClient.searchAcrossCollections(
+            // 역할 정의가 바뀌지 않았으면 저장된 임베딩을 사용 (Gemini 호출 없음)
+            EmbeddingVector roleEmbedding = targetRoleEmbeddingService.getOrCompute(
+                    role.getRoleId(), roleDocument, vectorStoreEmbeddings());
+            return RetrievalResult.of(qdrantClient.searchAcrossCollections(
                     roleEmbedding,
                     safeTopK,
-                    null,
+                    payloadFilter(filter),
                     qdrantProperties.activityCollections()
-            );
+            ));
         } catch (Exception e) {
             log.warn("Failed to retrieve Qdrant matches for role {}: {}", role.getRoleId(), e.getMessage());
-            return List.of();
+            return RetrievalResult.failed();
         }
     }
 
+    /**
+     * 직무 임베딩을 미리 계산해 저장합니다. 역할 문서와 모델이 그대로인 역할은 건너뜁니다.
+     *
+     * @return 새로 계산한 역할 수
+     */
+    @Transactional(readOnly = true)
+    public int precomputeRoleEmbeddings(List<String> roleIds) {
+        if (CollectionUtils.isEmpty(roleIds)) {
+            return 0;
+        }
+        Map<String, String> documents = new LinkedHashMap<>();
+        for (TargetRoleEntity role : targetRoleRepository.findAllById(roleIds)) {
+            String document = buildRoleDocument(role);
+            if (!document.isBlank()) {
+                documents.put(role.getRoleId(), document);
+            }
+        }
+        return targetRoleEmbeddingService.computeMissing(documents, vectorStoreEmbeddings());
+    }
+
+    /**
+     * 사용자 프로필 임베딩을 다시 계산해 저장합니다. 프로필 문서가 그대로면 건너뜁니다.
+     *
+     * @return 새로 계산했으면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean refreshProfileEmbedding(Long userId) {
+        String profileDoc = buildUserProfileDocument(userProfileService.getProfile(userId));
+        if (profileDoc.isBlank()) {
+            return false;
+        }
+        return userProfileEmbeddingService.refresh(userId, profileDoc, vectorStoreEmbeddings());
+    }
+
     /**
      * 사용자 프로필 임베딩을 이용해 활동 벡터를 검색합니다.
      */
@@ -212,7 +364,9 @@ public class ActivityRoleMatchService {
 
         int safeTopK = clampTopK(topK);
         try {
-            List<Double> embedding = geminiService.generateEmbedding(profileDoc);
+            // 프로필이 바뀌지 않았으면 저장된 임베딩 사용 (검색만 수행)
+            EmbeddingVector embedding = userProfileEmbeddingService.getOrCompute(
+                    userId, profileDoc, vectorStoreEmbeddings());
             List<QdrantSearchResult> results = qdrantClient.searchAcrossCollections(
                     embedding,
                     safeTopK,
@@ -276,7 +430,7 @@ public class ActivityRoleMatchService {
 
         int safeTopK = clampTopK(topK);
         try {
-            List<Double> embedding = geminiService.generateEmbedding(hybridDoc);
+            EmbeddingVector embedding = vectorStoreEmbeddings().embed(hybridDoc);
             return qdrantClient.searchAcrossCollections(
                     embedding,
                     safeTopK,
@@ -290,6 +444,28 @@ public class ActivityRoleMatchService {
         }
     }
 
+    /**
+     * 필터 적용 후 limit개를 얻기 위해 Qdrant에서 가져올 후보 수.
+     * payload 필터가 적용되고 모든 활동 컬렉션에 필터 필드가 채워져 있으면 삭제된 활동에 대한 여유분만 더합니다.
+     * 필드가 없는 포인트는 필터를 그대로 통과하므로, 그 밖의 경우에는 DB 후처리에서 버려질 양을 고려해 배수만큼 가져옵니다.
+     */
+    public int candidateFetchSize(int limit, ActivityVectorFilter filter, int overFetchMultiplier) {
+        int safeLimit = Math.max(1, limit);
+        boolean filteredInQdrant = filter == null || filter.isEmpty()
+                || (qdrantProperties.isPayloadFilterEnabled() && qdrantProperties.activityPayloadFieldsIndexed());
+        int fetchSize = filteredInQdrant
+                ? safeLimit + Math.max(5, safeLimit / 4)
+                : safeLimit * Math.max(1, overFetchMultiplier);
+        return Math.min(fetchSize, 200);
+    }
+
+    private Map<String, Object> payloadFilter(ActivityVectorFilter filter) {
+        if (filter == null || !qdrantProperties.isPayloadFilterEnabled()) {
+            return null;
+        }
+        return filter.toQdrantFilter();
+    }
+
     private int clampTopK(int topK) {
         return Math.max(1, Math.min(topK, 200));
     }
@@ -349,17 +525,9 @@ public class ActivityRoleMatchService {
             appendIfPresent(builder, content);
         }
 
-        if (!CollectionUtils.isEmpty(activity.getActivityTags())) {
-            List<String> tagNames = activity.getActivityTags().stream()
-                    .map(ActivityTagEntity::getTag)
-                    .filter(Objects::nonNull)
-                    .map(tag -> tag.getName())
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .toList();
-            if (!tagNames.isEmpty()) {
-                builder.append("Tags: ").append(String.join(", ", tagNames)).append(". ");
-            }
+        List<String> tagNames = tagNames(activity);
+        if (!tagNames.isEmpty()) {
+            builder.append("Tags: ").append(String.join(", ", tagNames)).append(". ");
         }
 
         if (activity.getType() != null) {
@@ -371,6 +539,19 @@ public class ActivityRoleMatchService {
         return builder.toString().trim();
     }
 
+    private List<String> tagNames(ActivityEntity activity) {
+        if (CollectionUtils.isEmpty(activity.getActivityTags())) {
+            return List.of();
+        }
+        return activity.getActivityTags().stream()
+                .map(ActivityTagEntity::getTag)
+                .filter(Objects::nonNull)
+                .map(tag -> tag.getName())
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
     private String buildRoleDocument(TargetRoleEntity role) {
         StringBuilder builder = new StringBuilder();
         appendIfPresent(builder, role.getName());
@@ -105,9 +105,14 @@ public class ActivityService {
             return Page.empty(pageable);
         }
 
-        int fetchSize = determineFetchSize(pageable);
+        String normalizedQuery = normalizeQuery(query);
+        Set<String> requiredTags = normalizeTags(tagNames);
+        // 검색어를 제외한 조건은 Qdrant payload 필터로 적용 (deadlineBefore는 일반 조회와 같이 비활성화)
+        ActivityVectorFilter vectorFilter = new ActivityVectorFilter(type, isCampus, status, requiredTags);
+
+        int fetchSize = determineFetchSize(pageable, vectorFilter, normalizedQuery != null);
         List<ActivityRoleMatchService.RoleMatch> matches =
-                activityRoleMatchService.findRoleMatches(targetRoleId, fetchSize);
+                activityRoleMatchService.findRoleMatches(targetRoleId, fetchSize, vectorFilter);
         if (matches.isEmpty()) {
             log.warn("No Qdrant matches found for user {} and role {}", userId, targetRoleId);
             return Page.empty(pageable);
@@ -122,9 +127,6 @@ public class ActivityService {
         Map<Long, ActivityEntity> activityMap = activityRepository.findAllById(ids).stream()
                 .collect(Collectors.toMap(ActivityEntity::getId, Function.identity()));
 
-        String normalizedQuery = normalizeQuery(query);
-        Set<String> requiredTags = normalizeTags(tagNames);
-
         List<ActivityEntity> ordered = new ArrayList<>();
         for (ActivityRoleMatchService.RoleMatch match : matches) {
             ActivityEntity activity = activityMap.get(match.activityId());
@@ -236,8 +238,13 @@ public class ActivityService {
         return attachment;
     }
 
-    private int determineFetchSize(Pageable pageable) {
-        int requested = (pageable.getPageNumber() + 1) * pageable.getPageSize() * 2;
+    private int determineFetchSize(Pageable pageable, ActivityVectorFilter vectorFilter, boolean hasQuery) {
+        int needed = (pageable.getPageNumber() + 1) * pageable.getPageSize();
+        if (!hasQuery) {
+            // 검색어가 없으면 나머지 조건은 Qdrant에서 걸러질 수 있으므로 과다 조회 배수는 candidateFetchSize가 결정
+            return Math.min(activityRoleMatchService.candidateFetchSize(needed, vectorFilter, 2), MAX_ROLE_MATCH_FETCH);
+        }
+        int requested = needed * 2;
         int minimum = pageable.getPageSize();
         int candidate = Math.max(requested, minimum);
         return Math.min(candidate, MAX_ROLE_MATCH_FETCH);
@@ -256,7 +263,7 @@ public class ActivityService {
         }
         return tagNames.stream()
                 .filter(name -> name != null && !name.isBlank())
-                .map(name -> name.trim().toLowerCase())
+                .map(ActivityVectorFilter::normalizeTag)
                 .collect(Collectors.toSet());
     }
 
@@ -292,7 +299,7 @@ public class ActivityService {
                     .filter(Objects::nonNull)
                     .map(TagEntity::getName)
                     .filter(Objects::nonNull)
-                    .map(name -> name.toLowerCase())
+                    .map(ActivityVectorFilter::normalizeTag)
                     .collect(Collectors.toSet());
             boolean tagMatched = activityTags.stream().anyMatch(requiredTags::contains);
             if (!tagMatched) {
@@ -0,0 +1,91 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.ActivityEntity.ActivityStatus;
+import com.mentoai.mentoai.entity.ActivityEntity.ActivityType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 활동 벡터 검색 시 Qdrant payload 필터로 내려보낼 조건.
+ * 각 조건은 "값이 일치하거나 payload에 해당 필드가 없음"으로 변환되므로, 새 필드가 색인되기 전의
+ * 포인트나 외부에서 적재된 컬렉션도 누락되지 않습니다. 최종 판정은 기존처럼 DB 후처리 필터가 맡습니다.
+ *
+ * @param type           활동 유형
+ * @param campus         교내 활동 여부
+ * @param status         모집 상태
+ * @param tags           태그 이름({@link #normalizeTag(String)}로 정규화), 하나라도 일치하면 통과
+ */
+public record ActivityVectorFilter(
+        ActivityType type,
+        Boolean campus,
+        ActivityStatus status,
+        Set<String> tags
+) {
+
+    public static final String PAYLOAD_TYPE = "type";
+    public static final String PAYLOAD_CAMPUS = "campus";
+    public static final String PAYLOAD_STATUS = "status";
+    public static final String PAYLOAD_TAGS = "tags";
+
+    /**
+     * payload 인덱스 정의 (필드 -> Qdrant field_schema).
+     */
+    public static final Map<String, String> PAYLOAD_INDEXES = Map.of(
+            PAYLOAD_TYPE, "keyword",
+            PAYLOAD_CAMPUS, "bool",
+            PAYLOAD_STATUS, "keyword",
+            PAYLOAD_TAGS, "keyword"
+    );
+
+    public static final ActivityVectorFilter NONE = new ActivityVectorFilter(null, null, null, null);
+
+    public static ActivityVectorFilter of(ActivityType type, Boolean campus) {
+        return new ActivityVectorFilter(type, campus, null, null);
+    }
+
+    public boolean isEmpty() {
+        return type == null && campus == null && status == null
+                && (tags == null || tags.isEmpty());
+    }
+
+    /**
+     * payload에 저장하는 태그와 필터 태그를 같은 형태로 맞춥니다 (공백 제거, 소문자).
+     */
+    public static String normalizeTag(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Qdrant REST 필터 JSON. 조건이 없으면 null.
+     */
+    public Map<String, Object> toQdrantFilter() {
+        if (isEmpty()) {
+            return null;
+        }
+        List<Object> must = new ArrayList<>();
+        if (type != null) {
+            must.add(orMissing(PAYLOAD_TYPE, Map.of("match", Map.of("value", type.name()))));
+        }
+        if (campus != null) {
+            must.add(orMissing(PAYLOAD_CAMPUS, Map.of("match", Map.of("value", campus))));
+        }
+        if (status != null) {
+            must.add(orMissing(PAYLOAD_STATUS, Map.of("match", Map.of("value", status.name()))));
+        }
+        if (tags != null && !tags.isEmpty()) {
+            must.add(orMissing(PAYLOAD_TAGS, Map.of("match", Map.of("any", List.copyOf(tags)))));
+        }
+        return Map.of("must", must);
+    }
+
+    private static Map<String, Object> orMissing(String key, Map<String, Object> condition) {
+        Map<String, Object> field = new HashMap<>(condition);
+        field.put("key", key);
+        return Map.of("should", List.of(field, Map.of("is_empty", Map.of("key", key))));
+    }
+}
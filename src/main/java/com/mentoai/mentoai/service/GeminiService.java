@@ -1,121 +1,519 @@
 package com.mentoai.mentoai.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentoai.mentoai.config.EmbeddingBatchProperties;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import com.mentoai.mentoai.integration.embedding.VectorSimilarity;
+import com.mentoai.mentoai.service.gemini.EmbeddingCache;
+import com.mentoai.mentoai.service.gemini.GeminiCircuitBreakers;
+import com.mentoai.mentoai.service.gemini.GeminiTrafficClass;
+import com.mentoai.mentoai.service.gemini.GeminiTrafficGuard;
+import com.mentoai.mentoai.service.gemini.GeminiUnavailableException;
+import com.mentoai.mentoai.service.gemini.GenerationResponseCache;
+import com.mentoai.mentoai.service.gemini.TextCacheOptions;
+import com.mentoai.mentoai.support.ContentHash;
+import com.mentoai.mentoai.support.MicroBatcher;
+import com.mentoai.mentoai.support.SingleFlight;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GeminiService {
 
-    private final RestTemplate restTemplate;
+    private final RestTemplate geminiRestTemplate;
+    private final WebClient geminiWebClient;
     private final ObjectMapper objectMapper;
+    private final EmbeddingCache embeddingCache;
+    private final EmbeddingBatchProperties embeddingBatchProperties;
+    private final GenerationResponseCache responseCache;
+    private final GeminiTrafficGuard trafficGuard;
+    private final GeminiCircuitBreakers circuitBreakers;
+
+    private final SingleFlight<String, EmbeddingVector> embeddingFlight = new SingleFlight<>();
+    private final SingleFlight<String, String> textFlight = new SingleFlight<>();
+
+    private MicroBatcher<String, EmbeddingVector> embeddingBatcher;
+    private ExecutorService embeddingBatchExecutor;
+    // 적재/색인 요청 전용 배처. 배치 스레드에서 BACKGROUND 한도로 호출해 대화형 배치와 섞이지 않게 함
+    private MicroBatcher<String, EmbeddingVector> backgroundEmbeddingBatcher;
+    private ExecutorService backgroundEmbeddingBatchExecutor;
 
     @Value("${gemini.api.key}")
     private String apiKey;
 
-    private static final String EMBEDDING_MODEL = "embedding-001";
+    public static final String EMBEDDING_MODEL = "embedding-001";
     private static final String TEXT_MODEL = "gemini-2.5-flash";
     private static final String EMBEDDING_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/" + EMBEDDING_MODEL + ":embedContent";
+    private static final String BATCH_EMBEDDING_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/" + EMBEDDING_MODEL + ":batchEmbedContents";
+    private static final int MAX_BATCH_EMBEDDING_SIZE = 100;
     private static final String TEXT_GENERATION_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/" + TEXT_MODEL + ":generateContent";
+    private static final String STREAM_TEXT_GENERATION_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/" + TEXT_MODEL + ":streamGenerateContent?alt=sse";
+    // 조각 사이 최대 대기 시간
+    private static final Duration STREAM_IDLE_TIMEOUT = Duration.ofSeconds(30);
+    // 논블로킹 호출의 전체 응답 대기 시간
+    private static final Duration EMBEDDING_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration TEXT_TIMEOUT = Duration.ofSeconds(60);
 
     /**
-     * 텍스트를 임베딩 벡터로 변환
+     * 텍스트를 임베딩 벡터로 변환 (동일 텍스트는 캐시에서 반환)
      */
-    public List<Double> generateEmbedding(String text) {
+    public EmbeddingVector generateEmbedding(String text) {
         if (text == null || text.trim().isEmpty()) {
             throw new IllegalArgumentException("Text is required.");
         }
 
+        String normalized = EmbeddingCache.normalize(text);
+        EmbeddingVector cached = embeddingCache.get(EMBEDDING_MODEL, normalized);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 같은 텍스트에 대한 동시 요청은 하나의 호출 결과를 공유
+        return embeddingFlight.execute(EmbeddingCache.key(EMBEDDING_MODEL, normalized), () -> {
+            EmbeddingVector recent = embeddingCache.get(EMBEDDING_MODEL, normalized);
+            if (recent != null) {
+                return recent;
+            }
+            MicroBatcher<String, EmbeddingVector> batcher = embeddingBatcherFor(GeminiTrafficClass.current());
+            EmbeddingVector embedding = batcher != null
+                    ? awaitBatchedEmbedding(batcher, normalized)
+                    : requestEmbedding(normalized);
+            embeddingCache.put(EMBEDDING_MODEL, normalized, embedding);
+            return embedding;
+        });
+    }
+
+    /**
+     * 트래픽 구분별 배처. 배치 스레드에서는 호출자의 구분을 알 수 없으므로 구분마다 따로 모읍니다.
+     */
+    private MicroBatcher<String, EmbeddingVector> embeddingBatcherFor(GeminiTrafficClass trafficClass) {
+        return trafficClass == GeminiTrafficClass.BACKGROUND ? backgroundEmbeddingBatcher : embeddingBatcher;
+    }
+
+    private EmbeddingVector awaitBatchedEmbedding(MicroBatcher<String, EmbeddingVector> batcher, String normalized) {
+        try {
+            return batcher.submit(normalized).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Error generating embedding: " + cause.getMessage(), cause);
+        }
+    }
+
+    private EmbeddingVector requestEmbedding(String text) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.set("x-goog-api-key", apiKey);
 
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", "models/" + EMBEDDING_MODEL);
-            
-            Map<String, Object> content = new HashMap<>();
-            content.put("parts", List.of(Map.of("text", text)));
-            requestBody.put("content", content);
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                    EMBEDDING_API_URL + "?key=" + apiKey,
-                    request,
-                    String.class
-            );
+            HttpEntity<Map<String, Object>> request = new HttpEntity<>(buildEmbeddingRequestBody(text), headers);
+            ResponseEntity<String> response = circuitBreakers.execute(GeminiCircuitBreakers.Endpoint.EMBEDDING,
+                    () -> trafficGuard.execute(GeminiTrafficGuard.estimateTokens(text),
+                            () -> geminiRestTemplate.postForEntity(
+                                    EMBEDDING_API_URL + "?key=" + apiKey,
+                                    request,
+                                    String.class
+                            )));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode jsonNode = objectMapper.readTree(response.getBody());
-                JsonNode embeddingNode = jsonNode.path("embedding").path("values");
-                
-                List<Double> embedding = new ArrayList<>();
-                for (JsonNode value : embeddingNode) {
-                    embedding.add(value.asDouble());
-                }
-                return embedding;
+                return parseEmbeddingResponse(response.getBody());
             } else {
                 log.error("Gemini API embedding request failed: {}", response.getStatusCode());
                 throw new RuntimeException("Failed to generate embedding");
             }
+        } catch (GeminiUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error calling Gemini API for embedding", e);
             throw new RuntimeException("Error generating embedding: " + e.getMessage(), e);
         }
     }
 
+    private Map<String, Object> buildEmbeddingRequestBody(String text) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", "models/" + EMBEDDING_MODEL);
+
+        Map<String, Object> content = new HashMap<>();
+        content.put("parts", List.of(Map.of("text", text)));
+        requestBody.put("content", content);
+        return requestBody;
+    }
+
+    /**
+     * generateEmbedding의 논블로킹 버전. 캐시, single-flight, 마이크로 배칭을 동기 경로와 공유하므로
+     * 같은 텍스트에 대한 동기/비동기 요청도 하나의 Gemini 호출로 합쳐집니다.
+     */
+    public Mono<EmbeddingVector> generateEmbeddingAsync(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Text is required."));
+        }
+
+        String normalized = EmbeddingCache.normalize(text);
+        EmbeddingVector cached = embeddingCache.get(EMBEDDING_MODEL, normalized);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        // 트래픽 구분은 호출 스레드 기준으로 판단
+        MicroBatcher<String, EmbeddingVector> batcher = embeddingBatcherFor(GeminiTrafficClass.current());
+        return Mono.fromFuture(() -> embeddingFlight.executeAsync(EmbeddingCache.key(EMBEDDING_MODEL, normalized), () -> {
+                    EmbeddingVector recent = embeddingCache.get(EMBEDDING_MODEL, normalized);
+                    if (recent != null) {
+                        return CompletableFuture.completedFuture(recent);
+                    }
+                    CompletableFuture<EmbeddingVector> request = batcher != null
+                            ? batcher.submit(normalized)
+                            : requestEmbeddingAsync(normalized).toFuture();
+                    return request.thenApply(embedding -> {
+                        embeddingCache.put(EMBEDDING_MODEL, normalized, embedding);
+                        return embedding;
+                    });
+                }))
+                .onErrorMap(e -> !(e instanceof IllegalArgumentException || e instanceof GeminiUnavailableException),
+                        e -> new RuntimeException("Error generating embedding: " + e.getMessage(), e))
+                .doOnError(e -> log.error("Error calling Gemini API for embedding: {}", e.getMessage()));
+    }
+
+    private Mono<EmbeddingVector> requestEmbeddingAsync(String normalized) {
+        return postAsync(GeminiCircuitBreakers.Endpoint.EMBEDDING, EMBEDDING_API_URL,
+                buildEmbeddingRequestBody(normalized), GeminiTrafficGuard.estimateTokens(normalized), EMBEDDING_TIMEOUT)
+                .handle((String body, SynchronousSink<EmbeddingVector> sink) -> {
+                    try {
+                        sink.next(parseEmbeddingResponse(body));
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                });
+    }
+
+    /**
+     * batchEmbedContents 호출로 여러 텍스트를 한 번에 임베딩합니다. 결과는 입력 순서와 같습니다.
+     */
+    private List<EmbeddingVector> requestEmbeddingBatch(List<String> texts) {
+        if (texts.size() == 1) {
+            return List.of(requestEmbedding(texts.get(0)));
+        }
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.set("x-goog-api-key", apiKey);
+
+            List<Map<String, Object>> requests = new ArrayList<>(texts.size());
+            for (String text : texts) {
+                Map<String, Object> item = new HashMap<>();
+                item.put("model", "models/" + EMBEDDING_MODEL);
+                item.put("content", Map.of("parts", List.of(Map.of("text", text))));
+                requests.add(item);
+            }
+
+            int estimatedTokens = texts.stream().mapToInt(GeminiTrafficGuard::estimateTokens).sum();
+            HttpEntity<Map<String, Object>> request = new HttpEntity<>(Map.of("requests", requests), headers);
+            ResponseEntity<String> response = circuitBreakers.execute(GeminiCircuitBreakers.Endpoint.EMBEDDING,
+                    () -> trafficGuard.execute(estimatedTokens,
+                            () -> geminiRestTemplate.postForEntity(
+                                    BATCH_EMBEDDING_API_URL + "?key=" + apiKey,
+                                    request,
+                                    String.class
+                            )));
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                List<EmbeddingVector> embeddings = parseBatchEmbeddingResponse(response.getBody());
+                if (embeddings.size() != texts.size()) {
+                    throw new IllegalStateException("Unexpected batch embedding size: "
+                            + embeddings.size() + " for " + texts.size() + " texts");
+                }
+                return embeddings;
+            } else {
+                log.error("Gemini API batch embedding request failed: {}", response.getStatusCode());
+                throw new RuntimeException("Failed to generate batch embeddings");
+            }
+        } catch (GeminiUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error calling Gemini API for batch embedding (size={})", texts.size(), e);
+            throw new RuntimeException("Error generating batch embeddings: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * embedContent 응답에서 embedding.values만 스트리밍 파서로 읽어 float[]로 변환합니다.
+     */
+    private EmbeddingVector parseEmbeddingResponse(String body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected embedding response");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("embedding".equals(field)) {
+                    return readEmbeddingObject(parser);
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new IOException("Embedding response has no embedding field");
+    }
+
+    /**
+     * batchEmbedContents 응답의 embeddings[].values를 순서대로 읽습니다.
+     */
+    private List<EmbeddingVector> parseBatchEmbeddingResponse(String body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected batch embedding response");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("embeddings".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+                    List<EmbeddingVector> embeddings = new ArrayList<>();
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        embeddings.add(readEmbeddingObject(parser));
+                    }
+                    return embeddings;
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new IOException("Batch embedding response has no embeddings field");
+    }
+
+    private EmbeddingVector readEmbeddingObject(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected embedding object but was " + parser.currentToken());
+        }
+        EmbeddingVector embedding = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("values".equals(field)) {
+                embedding = EmbeddingVector.read(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (embedding == null || embedding.isEmpty()) {
+            throw new IOException("Embedding has no values");
+        }
+        // 단위 벡터로 보관해 이후 코사인 유사도를 내적 한 번으로 계산
+        return embedding.normalized();
+    }
+
     /**
-     * 여러 텍스트의 임베딩을 일괄 생성
+     * 여러 텍스트의 임베딩을 일괄 생성 (batchEmbedContents, 최대 100개 단위)
      */
-    public Map<String, List<Double>> generateEmbeddings(List<String> texts) {
-        Map<String, List<Double>> embeddings = new HashMap<>();
+    public Map<String, EmbeddingVector> generateEmbeddings(List<String> texts) {
+        Map<String, EmbeddingVector> embeddings = new HashMap<>();
+        if (texts == null || texts.isEmpty()) {
+            return embeddings;
+        }
+
+        Map<String, List<String>> originalsByNormalized = new LinkedHashMap<>();
         for (String text : texts) {
+            if (text == null || text.trim().isEmpty()) {
+                continue;
+            }
+            String normalized = EmbeddingCache.normalize(text);
+            EmbeddingVector cached = embeddingCache.get(EMBEDDING_MODEL, normalized);
+            if (cached != null) {
+                embeddings.put(text, cached);
+                continue;
+            }
+            originalsByNormalized.computeIfAbsent(normalized, key -> new ArrayList<>()).add(text);
+        }
+
+        List<String> pending = new ArrayList<>(originalsByNormalized.keySet());
+        for (int from = 0; from < pending.size(); from += MAX_BATCH_EMBEDDING_SIZE) {
+            List<String> chunk = pending.subList(from, Math.min(from + MAX_BATCH_EMBEDDING_SIZE, pending.size()));
             try {
-                embeddings.put(text, generateEmbedding(text));
+                List<EmbeddingVector> results = requestEmbeddingBatch(chunk);
+                for (int i = 0; i < chunk.size(); i++) {
+                    String normalized = chunk.get(i);
+                    EmbeddingVector embedding = results.get(i);
+                    embeddingCache.put(EMBEDDING_MODEL, normalized, embedding);
+                    for (String original : originalsByNormalized.get(normalized)) {
+                        embeddings.put(original, embedding);
+                    }
+                }
             } catch (Exception e) {
-                log.warn("Failed to generate embedding for text '{}': {}", text, e.getMessage());
+                log.warn("Failed to generate batch embeddings for {} texts: {}", chunk.size(), e.getMessage());
             }
         }
         return embeddings;
     }
 
+    @PostConstruct
+    void initEmbeddingBatcher() {
+        if (!embeddingBatchProperties.isEnabled()) {
+            return;
+        }
+        int maxBatchSize = Math.min(MAX_BATCH_EMBEDDING_SIZE,
+                Math.max(1, Optional.ofNullable(embeddingBatchProperties.getMaxBatchSize()).orElse(32)));
+        int maxWaitMs = Math.max(0, Optional.ofNullable(embeddingBatchProperties.getMaxWaitMs()).orElse(5));
+        int concurrency = Math.max(1, Optional.ofNullable(embeddingBatchProperties.getConcurrency()).orElse(4));
+        embeddingBatchExecutor = newEmbeddingBatchExecutor(concurrency, "gemini-embedding-batch");
+        embeddingBatcher = new MicroBatcher<>(
+                "gemini-embedding",
+                maxBatchSize,
+                maxWaitMs,
+                this::requestEmbeddingBatch,
+                // 배치 중 한 입력의 오류(400, 크기 불일치 등)가 다른 대화형 요청까지 실패시키지 않도록 단건으로 재시도
+                this::requestEmbedding,
+                embeddingBatchExecutor
+        );
+        backgroundEmbeddingBatchExecutor = newEmbeddingBatchExecutor(concurrency, "gemini-embedding-background-batch");
+        backgroundEmbeddingBatcher = new MicroBatcher<>(
+                "gemini-embedding-background",
+                maxBatchSize,
+                maxWaitMs,
+                texts -> GeminiTrafficClass.callAsBackground(() -> requestEmbeddingBatch(texts)),
+                text -> GeminiTrafficClass.callAsBackground(() -> requestEmbedding(text)),
+                backgroundEmbeddingBatchExecutor
+        );
+    }
+
+    private static ExecutorService newEmbeddingBatchExecutor(int concurrency, String threadName) {
+        return Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats-log-interval-ms:300000}")
+    public void logSingleFlightStats() {
+        log.info("Gemini single-flight stats: embedding executions={} shared={}, text executions={} shared={}",
+                embeddingFlight.executions(), embeddingFlight.sharedCalls(),
+                textFlight.executions(), textFlight.sharedCalls());
+    }
+
+    @PreDestroy
+    void closeEmbeddingBatcher() {
+        if (embeddingBatcher != null) {
+            embeddingBatcher.close();
+        }
+        if (embeddingBatchExecutor != null) {
+            embeddingBatchExecutor.shutdown();
+        }
+        if (backgroundEmbeddingBatcher != null) {
+            backgroundEmbeddingBatcher.close();
+        }
+        if (backgroundEmbeddingBatchExecutor != null) {
+            backgroundEmbeddingBatchExecutor.shutdown();
+        }
+    }
+
     /**
      * 두 임베딩 벡터의 코사인 유사도 계산
      */
-    public double cosineSimilarity(List<Double> embedding1, List<Double> embedding2) {
-        if (embedding1 == null || embedding2 == null || 
-            embedding1.size() != embedding2.size()) {
+    public double cosineSimilarity(EmbeddingVector embedding1, EmbeddingVector embedding2) {
+        if (embedding1 == null || embedding2 == null ||
+            embedding1.dimension() != embedding2.dimension()) {
             return 0.0;
         }
+        return VectorSimilarity.cosine(embedding1, embedding2);
+    }
+
+    /**
+     * 텍스트 생성 (프롬프트 기반)
+     */
+    public String generateText(String prompt) {
+        return generateText(prompt, null);
+    }
 
-        double dotProduct = 0.0;
-        double norm1 = 0.0;
-        double norm2 = 0.0;
+    /**
+     * 응답 캐시를 사용하는 텍스트 생성. 같은(또는 의미가 가까운) 요청은 캐시된 응답을 반환합니다.
+     * 사용자별 컨텍스트가 들어가지 않는 프롬프트에만 사용해야 합니다.
+     */
+    public String generateTextCached(String prompt, TextCacheOptions cacheOptions) {
+        if (cacheOptions == null || !responseCache.isEnabled()) {
+            return generateText(prompt);
+        }
+        String cached = responseCache.get(cacheOptions, TEXT_MODEL, prompt);
+        if (cached != null) {
+            return cached;
+        }
+        String response = generateText(prompt);
+        responseCache.put(cacheOptions, TEXT_MODEL, prompt, response);
+        return response;
+    }
 
-        for (int i = 0; i < embedding1.size(); i++) {
-            dotProduct += embedding1.get(i) * embedding2.get(i);
-            norm1 += embedding1.get(i) * embedding1.get(i);
-            norm2 += embedding2.get(i) * embedding2.get(i);
+    /**
+     * generateText(prompt)의 논블로킹 버전. 응답 캐시/single-flight는 적용되지 않습니다.
+     */
+    public Mono<String> generateTextAsync(String prompt) {
+        if (prompt == null || prompt.isBlank()) {
+            return Mono.error(new IllegalArgumentException("Prompt is required."));
         }
+        return postAsync(GeminiCircuitBreakers.Endpoint.TEXT, TEXT_GENERATION_API_URL,
+                buildTextRequestBody(prompt, null), textTokenEstimate(prompt, null), TEXT_TIMEOUT)
+                .handle((String body, SynchronousSink<String> sink) -> {
+                    try {
+                        sink.next(extractGeneratedText(body));
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                })
+                .onErrorMap(e -> !(e instanceof GeminiUnavailableException),
+                        e -> new RuntimeException("Error generating text: " + e.getMessage(), e))
+                .doOnError(e -> log.error("Error calling Gemini API for text generation: {}", e.getMessage()));
+    }
 
-        double denominator = Math.sqrt(norm1) * Math.sqrt(norm2);
-        return denominator == 0.0 ? 0.0 : dotProduct / denominator;
+    private Mono<String> postAsync(GeminiCircuitBreakers.Endpoint endpoint,
+                                   String url,
+                                   Map<String, Object> requestBody,
+                                   int estimatedTokens,
+                                   Duration timeout) {
+        return circuitBreakers.executeAsync(endpoint, trafficGuard.executeAsync(estimatedTokens, geminiWebClient.post()
+                .uri(url)
+                .header("x-goog-api-key", apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(timeout)));
     }
 
     /**
-     * 텍스트 생성 (프롬프트 기반)
+     * 입력(대화 기록 포함) 추정 토큰 + 예상 출력 토큰
      */
-    public String generateText(String prompt) {
-        return generateText(prompt, null);
+    private int textTokenEstimate(String userMessage, List<ChatMessage> conversationHistory) {
+        int tokens = GeminiTrafficGuard.estimateTokens(userMessage) + trafficGuard.expectedOutputTokens();
+        if (conversationHistory != null) {
+            for (ChatMessage message : conversationHistory) {
+                tokens += GeminiTrafficGuard.estimateTokens(message.content());
+            }
+        }
+        return tokens;
     }
 
     /**
@@ -124,61 +522,201 @@ public class GeminiService {
      * @param conversationHistory 대화 기록 (역순: 최신이 먼저)
      */
     public String generateText(String userMessage, List<ChatMessage> conversationHistory) {
+        if (userMessage == null) {
+            return requestText(null, conversationHistory);
+        }
+        // 메시지와 대화 기록이 모두 같으면 요청 본문도 같으므로 진행 중인 호출을 공유
+        return textFlight.execute(textFlightKey(userMessage, conversationHistory),
+                () -> requestText(userMessage, conversationHistory));
+    }
+
+    /**
+     * 요청 본문을 결정하는 모델, 대화 기록(역할/내용), 현재 메시지 전체의 해시.
+     */
+    private static String textFlightKey(String userMessage, List<ChatMessage> conversationHistory) {
+        List<String> parts = new ArrayList<>();
+        parts.add(TEXT_MODEL);
+        if (conversationHistory != null) {
+            for (ChatMessage message : conversationHistory) {
+                parts.add(message.role());
+                parts.add(message.content());
+            }
+        }
+        parts.add(userMessage);
+        return ContentHash.sha256Hex(parts);
+    }
+
+    private Map<String, Object> buildTextRequestBody(String userMessage, List<ChatMessage> conversationHistory) {
+        return buildTextRequestBody(userMessage, conversationHistory, null);
+    }
+
+    /**
+     * @param responseSchema null이 아니면 JSON 모드(responseMimeType=application/json)로 해당 스키마에 맞는 응답을 요청
+     */
+    private Map<String, Object> buildTextRequestBody(String userMessage,
+                                                     List<ChatMessage> conversationHistory,
+                                                     Map<String, Object> responseSchema) {
+        List<Map<String, Object>> contents = new ArrayList<>();
+        
+        // 대화 기록이 있으면 추가 (역순이므로 뒤집어서 추가)
+        if (conversationHistory != null && !conversationHistory.isEmpty()) {
+            List<ChatMessage> reversed = new ArrayList<>(conversationHistory);
+            Collections.reverse(reversed);
+            
+            for (ChatMessage msg : reversed) {
+                Map<String, Object> content = new HashMap<>();
+                content.put("role", msg.role().equals("USER") ? "user" : "model");
+                content.put("parts", List.of(Map.of("text", msg.content())));
+                contents.add(content);
+            }
+        }
+        
+        // 현재 사용자 메시지 추가
+        Map<String, Object> userContent = new HashMap<>();
+        userContent.put("role", "user");
+        userContent.put("parts", List.of(Map.of("text", userMessage)));
+        contents.add(userContent);
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("contents", contents);
+        if (responseSchema != null) {
+            requestBody.put("generationConfig", Map.of(
+                    "responseMimeType", "application/json",
+                    "responseSchema", responseSchema
+            ));
+        }
+        return requestBody;
+    }
+
+    /**
+     * streamGenerateContent(SSE)로 생성된 텍스트 조각을 도착하는 대로 발행합니다.
+     * 구독 시점에 요청이 시작되며, 응답 캐시/single-flight는 적용되지 않습니다.
+     */
+    public Flux<String> streamText(String prompt) {
+        return streamText(prompt, null);
+    }
+
+    /**
+     * responseSchema가 있으면 JSON 모드로 스트리밍합니다. 조각을 이어 붙이면 스키마에 맞는 JSON이 됩니다.
+     */
+    public Flux<String> streamText(String prompt, Map<String, Object> responseSchema) {
+        if (prompt == null || prompt.isBlank()) {
+            return Flux.error(new IllegalArgumentException("Prompt is required."));
+        }
+        Flux<ServerSentEvent<String>> events = geminiWebClient.post()
+                .uri(STREAM_TEXT_GENERATION_API_URL)
+                .header("x-goog-api-key", apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(buildTextRequestBody(prompt, null, responseSchema))
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .timeout(STREAM_IDLE_TIMEOUT);
+        return circuitBreakers.executeStream(GeminiCircuitBreakers.Endpoint.TEXT,
+                trafficGuard.executeStream(textTokenEstimate(prompt, null), events))
+                .mapNotNull(ServerSentEvent::data)
+                .map(this::extractStreamChunkText)
+                .filter(chunk -> !chunk.isEmpty())
+                .doOnError(e -> log.error("Error streaming Gemini text generation: {}", e.getMessage()));
+    }
+
+    private String extractStreamChunkText(String data) {
+        try {
+            JsonNode parts = objectMapper.readTree(data)
+                    .path("candidates").path(0)
+                    .path("content").path("parts");
+            StringBuilder text = new StringBuilder();
+            for (JsonNode part : parts) {
+                text.append(part.path("text").asText(""));
+            }
+            return text.toString();
+        } catch (IOException e) {
+            throw new RuntimeException("Error parsing streamed Gemini chunk: " + e.getMessage(), e);
+        }
+    }
+
+    private String requestText(String userMessage, List<ChatMessage> conversationHistory) {
+        return requestGeneration(userMessage, conversationHistory, null).text();
+    }
+
+    /**
+     * 텍스트 생성 결과와 함께 Gemini가 보고한 토큰 사용량(usageMetadata)을 반환합니다.
+     * 응답 캐시/single-flight는 적용되지 않습니다.
+     */
+    public GenerationResult generateTextWithUsage(String prompt) {
+        return generateTextWithUsage(prompt, null);
+    }
+
+    /**
+     * responseSchema가 있으면 Gemini JSON 모드로 스키마에 맞는 JSON 텍스트를 생성합니다.
+     */
+    public GenerationResult generateTextWithUsage(String prompt, Map<String, Object> responseSchema) {
+        return requestGeneration(prompt, null, responseSchema);
+    }
+
+    private GenerationResult requestGeneration(String userMessage,
+                                               List<ChatMessage> conversationHistory,
+                                               Map<String, Object> responseSchema) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.set("x-goog-api-key", apiKey);
 
-            List<Map<String, Object>> contents = new ArrayList<>();
-            
-            // 대화 기록이 있으면 추가 (역순이므로 뒤집어서 추가)
-            if (conversationHistory != null && !conversationHistory.isEmpty()) {
-                List<ChatMessage> reversed = new ArrayList<>(conversationHistory);
-                Collections.reverse(reversed);
-                
-                for (ChatMessage msg : reversed) {
-                    Map<String, Object> content = new HashMap<>();
-                    content.put("role", msg.role().equals("USER") ? "user" : "model");
-                    content.put("parts", List.of(Map.of("text", msg.content())));
-                    contents.add(content);
-                }
-            }
-            
-            // 현재 사용자 메시지 추가
-            Map<String, Object> userContent = new HashMap<>();
-            userContent.put("role", "user");
-            userContent.put("parts", List.of(Map.of("text", userMessage)));
-            contents.add(userContent);
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("contents", contents);
+            Map<String, Object> requestBody = buildTextRequestBody(userMessage, conversationHistory, responseSchema);
 
             HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                    TEXT_GENERATION_API_URL + "?key=" + apiKey,
-                    request,
-                    String.class
-            );
+            ResponseEntity<String> response = circuitBreakers.execute(GeminiCircuitBreakers.Endpoint.TEXT,
+                    () -> trafficGuard.execute(textTokenEstimate(userMessage, conversationHistory),
+                            () -> geminiRestTemplate.postForEntity(
+                                    TEXT_GENERATION_API_URL + "?key=" + apiKey,
+                                    request,
+                                    String.class
+                            )));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode jsonNode = objectMapper.readTree(response.getBody());
-                return jsonNode.path("candidates")
-                        .get(0)
-                        .path("content")
-                        .path("parts")
-                        .get(0)
-                        .path("text")
-                        .asText();
+                return parseGenerationResult(response.getBody());
             } else {
                 log.error("Gemini API text generation request failed: {}", response.getStatusCode());
                 throw new RuntimeException("Failed to generate text");
             }
+        } catch (GeminiUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error calling Gemini API for text generation", e);
             throw new RuntimeException("Error generating text: " + e.getMessage(), e);
         }
     }
 
+    private String extractGeneratedText(String body) throws IOException {
+        return readGeneratedText(objectMapper.readTree(body));
+    }
+
+    private String readGeneratedText(JsonNode jsonNode) {
+        return jsonNode.path("candidates")
+                .get(0)
+                .path("content")
+                .path("parts")
+                .get(0)
+                .path("text")
+                .asText();
+    }
+
+    private GenerationResult parseGenerationResult(String body) throws IOException {
+        JsonNode jsonNode = objectMapper.readTree(body);
+        JsonNode usage = jsonNode.path("usageMetadata");
+        return new GenerationResult(
+                readGeneratedText(jsonNode),
+                usage.hasNonNull("promptTokenCount") ? usage.get("promptTokenCount").asInt() : null,
+                usage.hasNonNull("candidatesTokenCount") ? usage.get("candidatesTokenCount").asInt() : null
+        );
+    }
+
+    /**
+     * 생성된 텍스트와 토큰 사용량. 응답에 usageMetadata가 없으면 토큰 수는 null입니다.
+     */
+    public record GenerationResult(String text, Integer promptTokens, Integer outputTokens) {
+    }
+
     /**
      * 대화 메시지 레코드
      */
@@ -8,6 +8,7 @@ import com.mentoai.mentoai.entity.TagEntity;
 import com.mentoai.mentoai.repository.ActivityRepository;
 import com.mentoai.mentoai.repository.TagRepository;
 import com.mentoai.mentoai.service.crawler.ExternalActivity;
+import com.mentoai.mentoai.service.gemini.GeminiTrafficClass;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
@@ -53,7 +54,8 @@ public class IngestService {
         // 비동기로 데이터 수집 실행
         CompletableFuture.runAsync(() -> {
             try {
-                performDataIngest(source, config);
+                // 적재 중 색인 호출은 사용자 요청과 별도 한도(BACKGROUND)로 Gemini를 호출
+                GeminiTrafficClass.runAsBackground(() -> performDataIngest(source, config));
             } catch (Exception e) {
                 log.error("Error occurred during data ingestion", e);
             }
@@ -99,6 +101,7 @@ public class IngestService {
         List<Map<String, Object>> campusActivities = generateSampleCampusActivities();
         
         int created = 0;
+        List<ActivityEntity> savedActivities = new ArrayList<>();
         for (Map<String, Object> activityData : campusActivities) {
             try {
                 ActivityEntity activity = createActivityFromData(activityData);
@@ -106,7 +109,7 @@ public class IngestService {
                 activity.setType(ActivityEntity.ActivityType.CAMPUS);
                 
                 ActivityEntity saved = activityRepository.save(activity);
-                activityRoleMatchService.indexActivity(saved);
+                savedActivities.add(saved);
                 created++;
                 
                 log.debug("Created campus activity: {}", activity.getTitle());
@@ -115,6 +118,8 @@ public class IngestService {
             }
         }
         
+        activityRoleMatchService.indexActivities(savedActivities);
+        
         log.info("Campus activities ingestion finished: {} created", created);
     }
     
@@ -126,13 +131,14 @@ public class IngestService {
         List<Map<String, Object>> externalActivities = generateSampleExternalActivities();
         
         int created = 0;
+        List<ActivityEntity> savedActivities = new ArrayList<>();
         for (Map<String, Object> activityData : externalActivities) {
             try {
                 ActivityEntity activity = createActivityFromData(activityData);
                 activity.setIsCampus(false);
                 
                 ActivityEntity saved = activityRepository.save(activity);
-                activityRoleMatchService.indexActivity(saved);
+                savedActivities.add(saved);
                 created++;
                 
                 log.debug("Created external activity: {}", activity.getTitle());
@@ -141,6 +147,8 @@ public class IngestService {
             }
         }
         
+        activityRoleMatchService.indexActivities(savedActivities);
+        
         log.info("External activities ingestion finished: {} created", created);
     }
     
@@ -159,6 +167,7 @@ public class IngestService {
         int created = 0;
         int skipped = 0;
         
+        List<ActivityEntity> savedActivities = new ArrayList<>();
         for (Map<String, Object> activityData : manualActivities) {
             try {
                 // 중복 체크 (URL 또는 제목 기반)
@@ -179,7 +188,7 @@ public class IngestService {
                 
                 ActivityEntity activity = createActivityFromData(activityData);
                 ActivityEntity saved = activityRepository.save(activity);
-                activityRoleMatchService.indexActivity(saved);
+                savedActivities.add(saved);
                 created++;
                 
                 log.debug("Created manual activity: {}", activity.getTitle());
@@ -188,6 +197,8 @@ public class IngestService {
             }
         }
         
+        activityRoleMatchService.indexActivities(savedActivities);
+        
         log.info("Manual activities ingestion finished: {} created, {} skipped", created, skipped);
     }
     
@@ -448,6 +459,7 @@ public class IngestService {
         int created = 0;
         int skipped = 0;
         
+        List<ActivityEntity> savedActivities = new ArrayList<>();
         for (ExternalActivity externalActivity : externalActivities) {
             try {
                 // 중복 체크 (URL 기반)
@@ -461,7 +473,7 @@ public class IngestService {
                 
                 ActivityEntity activity = convertExternalActivityToEntity(externalActivity);
                 ActivityEntity saved = activityRepository.save(activity);
-                activityRoleMatchService.indexActivity(saved);
+                savedActivities.add(saved);
                 created++;
                 
                 log.debug("Created external activity from {}: {}", source, activity.getTitle());
@@ -470,6 +482,8 @@ public class IngestService {
             }
         }
         
+        GeminiTrafficClass.runAsBackground(() -> activityRoleMatchService.indexActivities(savedActivities));
+        
         log.info("External activities ingestion finished: source={}, {} created, {} skipped", source, created, skipped);
         
         Map<String, Object> result = new HashMap<>();
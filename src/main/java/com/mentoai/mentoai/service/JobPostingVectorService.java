@@ -4,8 +4,12 @@ import com.mentoai.mentoai.config.QdrantProperties;
 import com.mentoai.mentoai.entity.JobPostingEntity;
 import com.mentoai.mentoai.entity.JobPostingRoleEntity;
 import com.mentoai.mentoai.entity.JobPostingSkillEntity;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProviders;
+import com.mentoai.mentoai.integration.embedding.EmbeddingUseCase;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
 import com.mentoai.mentoai.integration.qdrant.ActivityVectorPayload;
 import com.mentoai.mentoai.integration.qdrant.QdrantClient;
+import com.mentoai.mentoai.integration.qdrant.QdrantIndexWriter;
 import com.mentoai.mentoai.integration.qdrant.QdrantSearchResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,8 +33,9 @@ public class JobPostingVectorService {
     private static final int REQUIREMENT_LIMIT = 900;
     private static final int BENEFIT_LIMIT = 500;
 
-    private final GeminiService geminiService;
+    private final EmbeddingProviders embeddingProviders;
     private final QdrantClient qdrantClient;
+    private final QdrantIndexWriter qdrantIndexWriter;
     private final QdrantProperties qdrantProperties;
 
     public boolean isVectorSearchEnabled() {
@@ -54,7 +59,7 @@ public class JobPostingVectorService {
         }
 
         try {
-            List<Double> embedding = geminiService.generateEmbedding(document);
+            EmbeddingVector embedding = embeddingProviders.forUseCase(EmbeddingUseCase.VECTOR_STORE).embed(document);
             Map<String, Object> payload = new HashMap<>();
             payload.put("jobPostingId", jobPosting.getId());
             payload.put("title", jobPosting.getTitle());
@@ -68,28 +73,27 @@ public class JobPostingVectorService {
                     payload
             );
 
-            qdrantClient.upsertVectors(
-                    List.of(vectorPayload),
-                    collection,
-                    jobVectorDimension()
-            );
+            qdrantIndexWriter.enqueue(collection, jobVectorDimension(), List.of(vectorPayload));
         } catch (Exception e) {
             log.warn("Failed to index job posting {} into Qdrant: {}", jobPosting.getId(), e.getMessage());
         }
     }
 
-    public List<QdrantSearchResult> search(List<Double> embedding, int topK) {
+    /**
+     * Qdrant 호출이 실패하면 빈 결과를 degraded로 표시해 반환합니다.
+     */
+    public RetrievalResult<QdrantSearchResult> search(EmbeddingVector embedding, int topK) {
         List<String> collections = qdrantProperties.jobCollections();
-        if (collections.isEmpty() || CollectionUtils.isEmpty(embedding)) {
-            return List.of();
+        if (collections.isEmpty() || embedding == null || embedding.isEmpty()) {
+            return RetrievalResult.of(List.of());
         }
 
         int safeTopK = Math.max(1, Math.min(topK, 500));
         try {
-            return qdrantClient.searchAcrossCollections(embedding, safeTopK, null, collections);
+            return RetrievalResult.of(qdrantClient.searchAcrossCollections(embedding, safeTopK, null, collections));
         } catch (Exception e) {
             log.warn("Job posting vector search failed: {}", e.getMessage());
-            return List.of();
+            return RetrievalResult.failed();
         }
     }
 
@@ -99,7 +103,7 @@ public class JobPostingVectorService {
             return;
         }
         try {
-            qdrantClient.deletePoint("job-" + jobPostingId, collection);
+            qdrantIndexWriter.delete(collection, "job-" + jobPostingId);
         } catch (Exception e) {
             log.warn("Failed to delete job posting vector {}: {}", jobPostingId, e.getMessage());
         }
@@ -6,6 +6,9 @@ import com.mentoai.mentoai.controller.dto.JobPostingResponse;
 import com.mentoai.mentoai.controller.dto.UserProfileResponse;
 import com.mentoai.mentoai.controller.mapper.JobPostingMapper;
 import com.mentoai.mentoai.entity.JobPostingEntity;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProviders;
+import com.mentoai.mentoai.integration.embedding.EmbeddingUseCase;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
 import com.mentoai.mentoai.integration.qdrant.QdrantSearchResult;
 import com.mentoai.mentoai.repository.JobPostingRepository;
 import com.mentoai.mentoai.repository.UserRepository;
@@ -38,8 +41,9 @@ public class JobRecommendationService {
     private final UserRepository userRepository;
     private final JobPostingRepository jobPostingRepository;
     private final UserProfileService userProfileService;
-    private final GeminiService geminiService;
+    private final EmbeddingProviders embeddingProviders;
     private final JobPostingVectorService jobPostingVectorService;
+    private final RecommendationResultCache resultCache;
 
     @Transactional(readOnly = true)
     public JobRecommendResponse recommend(JobRecommendRequest request) {
@@ -50,23 +54,34 @@ public class JobRecommendationService {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + request.userId());
         }
 
+        String normalizedQuery = StringUtils.hasText(request.query()) ? request.query().trim() : null;
+        RecommendationResultCache.Key cacheKey = RecommendationResultCache.key(
+                RecommendationResultCache.Namespace.JOBS, request.userId(), request.fetchSize(), normalizedQuery);
+        long cacheGeneration = resultCache.generation(cacheKey);
+        JobRecommendResponse cached = resultCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
         UserProfileResponse profile = userProfileService.getProfile(request.userId());
         String searchPrompt = buildSearchPrompt(profile, request.query());
 
-        List<JobCandidate> candidates = retrieveCandidates(searchPrompt, request.fetchSize());
-        if (candidates.isEmpty()) {
-            return new JobRecommendResponse(List.of());
-        }
+        RetrievalResult<JobCandidate> candidates = retrieveCandidates(searchPrompt, request.fetchSize());
+        JobRecommendResponse response = candidates.isEmpty()
+                ? new JobRecommendResponse(List.of())
+                : new JobRecommendResponse(candidates.items().stream()
+                        .map(candidate -> buildJobItem(candidate, profile))
+                        .toList());
 
-        List<JobRecommendResponse.JobItem> items = candidates.stream()
-                .map(candidate -> buildJobItem(candidate, profile))
-                .toList();
-
-        return new JobRecommendResponse(items);
+        // 벡터 검색 장애로 DB 대체 결과를 쓴 경우는 복구 후 바로 정상 결과가 나오도록 캐시하지 않음
+        if (!candidates.degraded()) {
+            resultCache.put(cacheKey, response, cacheGeneration);
+        }
+        return response;
     }
 
-    private List<JobCandidate> retrieveCandidates(String prompt, int limit) {
-        List<JobCandidate> candidates = vectorCandidates(prompt, limit);
+    private RetrievalResult<JobCandidate> retrieveCandidates(String prompt, int limit) {
+        RetrievalResult<JobCandidate> candidates = vectorCandidates(prompt, limit);
         if (!candidates.isEmpty()) {
             return candidates;
         }
@@ -76,21 +91,22 @@ public class JobRecommendationService {
                 limit,
                 Sort.by(Sort.Order.asc("deadline"), Sort.Order.desc("createdAt"))
         );
-        return jobPostingRepository.findAll(pageable).getContent().stream()
+        return new RetrievalResult<>(jobPostingRepository.findAll(pageable).getContent().stream()
                 .map(job -> new JobCandidate(job, null))
-                .toList();
+                .toList(), candidates.degraded());
     }
 
-    private List<JobCandidate> vectorCandidates(String prompt, int limit) {
+    private RetrievalResult<JobCandidate> vectorCandidates(String prompt, int limit) {
         if (!jobPostingVectorService.isVectorSearchEnabled() || !StringUtils.hasText(prompt)) {
-            return List.of();
+            return RetrievalResult.of(List.of());
         }
 
         try {
-            List<Double> embedding = geminiService.generateEmbedding(prompt);
-            List<QdrantSearchResult> results = jobPostingVectorService.search(embedding, limit);
+            EmbeddingVector embedding = embeddingProviders.forUseCase(EmbeddingUseCase.VECTOR_STORE).embed(prompt);
+            RetrievalResult<QdrantSearchResult> search = jobPostingVectorService.search(embedding, limit);
+            List<QdrantSearchResult> results = search.items();
             if (results.isEmpty()) {
-                return List.of();
+                return new RetrievalResult<>(List.of(), search.degraded());
             }
 
             List<Long> ids = results.stream()
@@ -99,7 +115,7 @@ public class JobRecommendationService {
                     .distinct()
                     .toList();
             if (ids.isEmpty()) {
-                return List.of();
+                return RetrievalResult.of(List.of());
             }
 
             Map<Long, JobPostingEntity> jobMap = jobPostingRepository.findAllById(ids).stream()
@@ -117,10 +133,10 @@ public class JobRecommendationService {
                 }
                 ordered.add(new JobCandidate(entity, clampSimilarity(result.score())));
             }
-            return ordered;
+            return RetrievalResult.of(ordered);
         } catch (Exception e) {
             log.warn("Job posting vector search failed. Falling back to DB search: {}", e.getMessage());
-            return List.of();
+            return RetrievalResult.failed();
         }
     }
 
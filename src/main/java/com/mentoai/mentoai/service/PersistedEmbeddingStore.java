@@ -0,0 +1,129 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.integration.embedding.EmbeddingProvider;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import com.mentoai.mentoai.support.BoundedTtlCache;
+import com.mentoai.mentoai.support.ContentHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 직무/사용자 프로필 임베딩 테이블의 공통 저장 로직.
+ * (모델 버전, 문서) 해시가 저장된 값과 같을 때만 저장 임베딩을 최신으로 보고, 메모리 캐시 → DB 순으로 찾습니다.
+ * 호출 측이 읽기 전용 트랜잭션 안에 있어도 저장되도록 별도 트랜잭션으로 기록합니다.
+ *
+ * @param <K> 행 식별자 (roleId, userId)
+ * @param <E> 임베딩 엔티티
+ */
+@Slf4j
+class PersistedEmbeddingStore<K, E> {
+
+    private final String name;
+    private final JpaRepository<E, K> repository;
+    private final EntityFactory<K, E> entityFactory;
+    private final Function<E, String> contentHashOf;
+    private final Function<E, byte[]> embeddingOf;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+    // id:contentHash -> 임베딩. 같은 내용이면 DB 조회도 생략
+    private final BoundedTtlCache<String, EmbeddingVector> memoryCache;
+
+    /**
+     * @param name          로그에 표시할 저장소 이름
+     * @param contentHashOf 엔티티에 저장된 콘텐츠 해시
+     * @param embeddingOf   엔티티에 저장된 임베딩 바이트 (EmbeddingVector.toBytes)
+     */
+    PersistedEmbeddingStore(String name,
+                            JpaRepository<E, K> repository,
+                            PlatformTransactionManager transactionManager,
+                            int memoryCacheSize,
+                            EntityFactory<K, E> entityFactory,
+                            Function<E, String> contentHashOf,
+                            Function<E, byte[]> embeddingOf) {
+        this.name = name;
+        this.repository = repository;
+        this.entityFactory = entityFactory;
+        this.contentHashOf = contentHashOf;
+        this.embeddingOf = embeddingOf;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.memoryCache = new BoundedTtlCache<>(memoryCacheSize, 0);
+    }
+
+    /**
+     * 모델 버전이 바뀌어도 다시 계산되도록 해시에 포함합니다.
+     * DB에 저장되는 값이므로 캐시 키(EmbeddingCache.key)가 아닌 고정 형식의 ContentHash를 사용합니다.
+     */
+    static String contentHash(EmbeddingProvider provider, String document) {
+        return ContentHash.sha256Hex(provider.modelVersion(), document);
+    }
+
+    /**
+     * 해시가 일치하는 저장 임베딩. 없거나 오래되었으면 null.
+     */
+    EmbeddingVector findStored(K id, String contentHash) {
+        String key = cacheKey(id, contentHash);
+        EmbeddingVector cached = memoryCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        EmbeddingVector stored = readTransaction.execute(status -> repository.findById(id)
+                .filter(entity -> contentHash.equals(contentHashOf.apply(entity)))
+                .map(entity -> EmbeddingVector.fromBytes(embeddingOf.apply(entity)))
+                .orElse(null));
+        if (stored != null) {
+            memoryCache.put(key, stored);
+        }
+        return stored;
+    }
+
+    /**
+     * 임베딩을 저장합니다. 저장에 실패해도 호출 측은 계산한 임베딩을 그대로 사용하도록 예외를 던지지 않습니다.
+     */
+    void save(K id, String contentHash, String modelVersion, EmbeddingVector embedding) {
+        try {
+            // id가 식별자이므로 save는 기존 행이 있으면 merge(갱신)로 동작
+            writeTransaction.executeWithoutResult(status ->
+                    repository.save(entityFactory.create(id, contentHash, modelVersion, embedding)));
+            memoryCache.put(cacheKey(id, contentHash), embedding);
+        } catch (Exception e) {
+            log.warn("Failed to store {} embedding for {}: {}", name, id, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 임베딩을 한 트랜잭션으로 저장합니다. 실패하면 예외를 그대로 던집니다.
+     */
+    void saveAll(List<Computed<K>> computed, String modelVersion) {
+        if (computed.isEmpty()) {
+            return;
+        }
+        List<E> entities = new ArrayList<>(computed.size());
+        for (Computed<K> item : computed) {
+            entities.add(entityFactory.create(item.id(), item.contentHash(), modelVersion, item.embedding()));
+        }
+        writeTransaction.executeWithoutResult(status -> repository.saveAll(entities));
+        computed.forEach(item -> memoryCache.put(cacheKey(item.id(), item.contentHash()), item.embedding()));
+    }
+
+    private static String cacheKey(Object id, String contentHash) {
+        return id + ":" + contentHash;
+    }
+
+    @FunctionalInterface
+    interface EntityFactory<K, E> {
+        E create(K id, String contentHash, String modelVersion, EmbeddingVector embedding);
+    }
+
+    record Computed<K>(K id, String contentHash, EmbeddingVector embedding) {
+    }
+}
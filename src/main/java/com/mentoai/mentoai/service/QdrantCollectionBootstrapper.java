@@ -0,0 +1,83 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.config.QdrantProperties;
+import com.mentoai.mentoai.integration.qdrant.QdrantClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 시작 시 Qdrant 컬렉션을 준비합니다.
+ * 없는 활동/채용/프로필 컬렉션은 qdrant.* 설정(거리 함수, HNSW, 디스크 저장, int8 스칼라 양자화)으로 만들고,
+ * 활동 컬렉션에는 payload 필터용 인덱스를 적용합니다. 이미 있는 컬렉션의 설정은 바꾸지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QdrantCollectionBootstrapper {
+
+    private final QdrantClient qdrantClient;
+    private final QdrantProperties qdrantProperties;
+    private final ActivityRoleMatchService activityRoleMatchService;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrapOnStartup() {
+        if (qdrantProperties.getUrl() == null || qdrantProperties.getUrl().isBlank()) {
+            return;
+        }
+        if (qdrantProperties.isBootstrapCollections()) {
+            int created = createMissingCollections();
+            log.info("Qdrant collection bootstrap finished (created={})", created);
+        }
+        if (qdrantProperties.isCreatePayloadIndexes()) {
+            int ensured = activityRoleMatchService.ensurePayloadIndexes();
+            log.info("Ensured activity payload indexes on {} Qdrant collection(s)", ensured);
+        }
+    }
+
+    /**
+     * @return 새로 만든 컬렉션 수
+     */
+    public int createMissingCollections() {
+        int created = 0;
+        for (Map.Entry<String, Integer> entry : expectedCollections().entrySet()) {
+            String collection = entry.getKey();
+            try {
+                if (qdrantClient.collectionExists(collection)) {
+                    continue;
+                }
+                qdrantClient.createCollection(collection, entry.getValue());
+                log.info("Created Qdrant collection {} (dim={})", collection, entry.getValue());
+                created++;
+            } catch (Exception e) {
+                log.warn("Failed to bootstrap Qdrant collection {}: {}", collection, e.getMessage());
+            }
+        }
+        return created;
+    }
+
+    /**
+     * 컬렉션 이름 -> 벡터 차원. 같은 이름이 여러 용도로 설정되면 먼저 나온 활동 차원을 따릅니다.
+     */
+    private Map<String, Integer> expectedCollections() {
+        int vectorDim = Optional.ofNullable(qdrantProperties.getVectorDim()).orElse(768);
+        int jobVectorDim = Optional.ofNullable(qdrantProperties.getJobVectorDim()).orElse(vectorDim);
+
+        Map<String, Integer> collections = new LinkedHashMap<>();
+        qdrantProperties.activityCollections().forEach(name -> collections.putIfAbsent(name, vectorDim));
+        qdrantProperties.jobCollections().forEach(name -> collections.putIfAbsent(name, jobVectorDim));
+        String userProfiles = qdrantProperties.getUserProfiles();
+        if (userProfiles != null && !userProfiles.isBlank()) {
+            collections.putIfAbsent(userProfiles, vectorDim);
+        }
+        return collections;
+    }
+}
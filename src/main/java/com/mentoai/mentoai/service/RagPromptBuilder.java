@@ -0,0 +1,248 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.config.RagPromptProperties;
+import com.mentoai.mentoai.controller.dto.RecommendRequest;
+import com.mentoai.mentoai.controller.dto.UserProfileResponse;
+import com.mentoai.mentoai.entity.ActivityDateEntity;
+import com.mentoai.mentoai.entity.ActivityEntity;
+import com.mentoai.mentoai.service.gemini.GeminiTrafficGuard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 토큰 예산 안에서 RAG 추천 프롬프트를 구성합니다.
+ * 프로필은 고정 예산으로 요약하고, 후보 활동은 제목/마감일/요약/태그만 담은 짧은 항목으로 줄인 뒤
+ * 예산을 넘으면 순위가 낮은 후보부터 제외합니다. 후보 번호는 검색 순위 그대로 1부터 매기므로
+ * 응답의 activityIndex는 기존처럼 후보 목록 인덱스와 대응합니다.
+ * 단일 호출 모드에서는 추천 의도 여부와 요약 문장까지 한 번의 JSON 응답(RESPONSE_SCHEMA)으로 받도록 요청합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RagPromptBuilder {
+
+    private static final DateTimeFormatter DEADLINE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final String ELLIPSIS = "…";
+
+    /**
+     * 단일 호출 모드의 Gemini responseSchema. 스트리밍 시 의도 판별이 먼저 오도록 필드 순서를 고정합니다.
+     */
+    public static final Map<String, Object> RESPONSE_SCHEMA = Map.of(
+            "type", "OBJECT",
+            "properties", Map.of(
+                    "recommendationIntent", Map.of("type", "BOOLEAN"),
+                    "answer", Map.of("type", "STRING"),
+                    "items", Map.of(
+                            "type", "ARRAY",
+                            "items", Map.of(
+                                    "type", "OBJECT",
+                                    "properties", Map.of(
+                                            "activityIndex", Map.of("type", "INTEGER"),
+                                            "score", Map.of("type", "NUMBER"),
+                                            "reason", Map.of("type", "STRING")
+                                    ),
+                                    "required", List.of("activityIndex", "score", "reason")
+                            )
+                    ),
+                    "summary", Map.of("type", "STRING")
+            ),
+            "required", List.of("recommendationIntent", "items", "summary"),
+            "propertyOrdering", List.of("recommendationIntent", "answer", "items", "summary")
+    );
+
+    private final RagPromptProperties properties;
+
+    public boolean isSingleCall() {
+        return properties.isSingleCall();
+    }
+
+    public RagPrompt build(RecommendRequest request,
+                           UserProfileResponse userProfile,
+                           List<ActivityEntity> activities) {
+        String header = "당신은 대학생 진로 상담 전문가입니다. 사용자의 프로필과 질의를 바탕으로 활동을 추천해주세요.\n\n";
+        String profile = truncateToTokens(buildProfileSection(userProfile), properties.getProfileTokenBudget());
+        String query = buildQuerySection(request);
+        boolean singleCall = isSingleCall();
+        String instructions = singleCall
+                ? buildStructuredInstructionSection(request)
+                : buildInstructionSection(request);
+
+        int fixedTokens = estimate(header) + estimate(profile) + estimate(query) + estimate(instructions);
+        int candidateBudget = Math.max(0, orDefault(properties.getMaxTokens(), 4000) - fixedTokens);
+        int perCandidate = orDefault(properties.getCandidateTokenBudget(), 120);
+        int maxCandidates = Math.min(activities.size(), orDefault(properties.getMaxCandidates(), 20));
+
+        StringBuilder candidates = new StringBuilder("\n=== 후보 활동 목록 ===\n");
+        int usedTokens = estimate(candidates);
+        int included = 0;
+        for (int i = 0; i < maxCandidates; i++) {
+            String snippet = truncateToTokens(buildCandidateSnippet(i + 1, activities.get(i)), perCandidate) + "\n";
+            int snippetTokens = estimate(snippet);
+            // 최소 1개 후보는 항상 포함
+            if (included > 0 && usedTokens + snippetTokens > candidateBudget) {
+                break;
+            }
+            candidates.append(snippet);
+            usedTokens += snippetTokens;
+            included++;
+        }
+
+        String prompt = header + profile + query + candidates + instructions;
+        int estimatedTokens = estimate(prompt);
+        if (included < activities.size()) {
+            log.debug("[recommend] prompt budget kept {}/{} candidates (estimatedTokens={})",
+                    included, activities.size(), estimatedTokens);
+        }
+        return new RagPrompt(prompt, estimatedTokens, included, singleCall ? RESPONSE_SCHEMA : null);
+    }
+
+    private String buildProfileSection(UserProfileResponse userProfile) {
+        StringBuilder profile = new StringBuilder("=== 사용자 프로필 ===\n");
+        if (userProfile.university() != null) {
+            profile.append(String.format("대학: %s, 학년: %d학년, 전공: %s\n",
+                    userProfile.university().universityName() != null ? userProfile.university().universityName() : "미입력",
+                    userProfile.university().grade() != null ? userProfile.university().grade() : 0,
+                    userProfile.university().major() != null ? userProfile.university().major() : "미입력"));
+        }
+
+        if (userProfile.interestDomains() != null && !userProfile.interestDomains().isEmpty()) {
+            profile.append("관심 분야: ").append(String.join(", ", userProfile.interestDomains())).append("\n");
+        }
+
+        if (userProfile.techStack() != null && !userProfile.techStack().isEmpty()) {
+            List<String> skills = userProfile.techStack().stream()
+                    .limit(orDefault(properties.getMaxSkills(), 10))
+                    .map(skill -> skill.name() + (skill.level() != null ? " (" + skill.level() + ")" : ""))
+                    .toList();
+            profile.append("기술 스택: ").append(String.join(", ", skills)).append("\n");
+        }
+
+        if (userProfile.experiences() != null && !userProfile.experiences().isEmpty()) {
+            int maxExperiences = orDefault(properties.getMaxExperiences(), 5);
+            profile.append("주요 경험:\n");
+            userProfile.experiences().stream()
+                    .limit(maxExperiences)
+                    .forEach(exp -> profile.append(String.format("- %s: %s (%s)\n",
+                            exp.type(), exp.title(), exp.organization())));
+            if (userProfile.experiences().size() > maxExperiences) {
+                profile.append(String.format("- 외 %d건\n", userProfile.experiences().size() - maxExperiences));
+            }
+        }
+        return profile.toString();
+    }
+
+    private String buildQuerySection(RecommendRequest request) {
+        StringBuilder query = new StringBuilder("\n=== 사용자 질의 ===\n");
+        if (StringUtils.hasText(request.query())) {
+            query.append(request.query())
+                    .append("\n")
+                    .append("위 질의에는 ‘공모전’, ‘대회’, ‘콘테스트’, ‘행사’, ‘공고’, '진로설계', '희망직무' 등 다양한 표현이 섞여 있을 수 있습니다. 같은 의미의 변형 표현도 모두 동일하게 해석하고, 사용자의 의도에 맞춰 가장 관련 있는 활동을 찾으세요.\n");
+        } else {
+            query.append("사용자가 적합한 활동을 추천해 달라고 요청했습니다. 공모전/대회/공고/스터디 등 다양한 유형을 폭넓게 검토하여 사용자에게 도움이 될 만한 후보를 제안하세요.\n");
+        }
+
+        if (request.preferTags() != null && !request.preferTags().isEmpty()) {
+            query.append("선호 태그: ").append(String.join(", ", request.preferTags())).append("\n");
+        }
+        return query.toString();
+    }
+
+    private String buildCandidateSnippet(int index, ActivityEntity activity) {
+        StringBuilder snippet = new StringBuilder();
+        snippet.append(String.format("[%d] %s", index, activity.getTitle()));
+        LocalDateTime deadline = resolveDeadline(activity);
+        if (deadline != null) {
+            snippet.append(" (마감 ").append(DEADLINE_FORMAT.format(deadline)).append(")");
+        }
+        snippet.append("\n");
+        if (StringUtils.hasText(activity.getSummary())) {
+            snippet.append("   요약: ").append(activity.getSummary().strip().replaceAll("\\s+", " ")).append("\n");
+        }
+        if (activity.getActivityTags() != null && !activity.getActivityTags().isEmpty()) {
+            List<String> tagNames = activity.getActivityTags().stream()
+                    .map(at -> at.getTag() != null ? at.getTag().getName() : null)
+                    .filter(Objects::nonNull)
+                    .limit(orDefault(properties.getMaxTagsPerCandidate(), 5))
+                    .toList();
+            if (!tagNames.isEmpty()) {
+                snippet.append("   태그: ").append(String.join(", ", tagNames)).append("\n");
+            }
+        }
+        return snippet.toString();
+    }
+
+    private String buildInstructionSection(RecommendRequest request) {
+        StringBuilder instructions = new StringBuilder("\n=== 요청사항 ===\n");
+        instructions.append(String.format("위 정보를 바탕으로 사용자에게 가장 적합한 활동 %d개를 추천하고, ", request.getTopKOrDefault()));
+        instructions.append("각 추천에 대해 구체적인 이유를 설명해주세요.\n");
+        instructions.append("반드시 하나의 JSON 객체만 출력하세요. JSON 바깥에 어떤 문장/설명/코드블록/백틱/언어 태그(json 등)도 넣지 마세요.\n");
+        instructions.append("출력 형식 예시: {\"items\":[{\"activityIndex\":1,\"score\":95,\"reason\":\"...\"}]}\n");
+        instructions.append("activityIndex는 위 후보 활동 목록 번호(1부터 시작)입니다. 사용자가 \"공모전 추천\", \"대회 추천\", \"행사 추천\", \"공고 추천\"처럼 다양한 표현을 사용하더라도 의미를 유연하게 해석하여 가장 관련도 높은 활동을 제안하세요.\n");
+        instructions.append("score는 0-100 사이 숫자이고, reason에는 왜 해당 활동이 사용자에게 도움이 되는지 한 문단으로 간결히 서술하세요. JSON 외 텍스트를 절대 포함하지 마세요.");
+        return instructions.toString();
+    }
+
+    private String buildStructuredInstructionSection(RecommendRequest request) {
+        StringBuilder instructions = new StringBuilder("\n=== 요청사항 ===\n");
+        instructions.append("아래 필드를 가진 JSON 객체 하나만 출력하세요.\n");
+        instructions.append("- recommendationIntent: 사용자 질의가 공모전/대회/채용/인턴/스터디 등 활동 추천 요청이면 true, 일반 대화나 다른 질문이면 false\n");
+        instructions.append("- answer: recommendationIntent가 false일 때만 사용자 질의에 대한 한국어 답변, true면 빈 문자열\n");
+        instructions.append(String.format("- items: recommendationIntent가 true일 때 사용자에게 가장 적합한 활동 %d개, false면 빈 배열. ", request.getTopKOrDefault()));
+        instructions.append("activityIndex는 위 후보 활동 목록 번호(1부터 시작), score는 0-100 사이 숫자, reason에는 왜 해당 활동이 사용자에게 도움이 되는지 한 문단으로 간결히 서술하세요. ");
+        instructions.append("\"공모전 추천\", \"대회 추천\", \"공고 추천\"처럼 다양한 표현도 의미를 유연하게 해석하세요.\n");
+        instructions.append("- summary: 추천한 활동들을 사용자의 요청 맥락(공모전/채용/스터디 등)에 맞춰 한두 문장으로 요약한 한국어 문장");
+        return instructions.toString();
+    }
+
+    private LocalDateTime resolveDeadline(ActivityEntity activity) {
+        if (activity.getDates() == null || activity.getDates().isEmpty()) {
+            return null;
+        }
+        return activity.getDates().stream()
+                .filter(date -> date.getDateType() == ActivityDateEntity.DateType.APPLY_END)
+                .map(ActivityDateEntity::getDateValue)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+    }
+
+    /**
+     * 추정 토큰 수가 예산을 넘으면 줄 단위를 유지한 채 뒤쪽을 잘라냅니다.
+     */
+    private String truncateToTokens(String text, Integer tokenBudget) {
+        int budget = orDefault(tokenBudget, Integer.MAX_VALUE);
+        if (estimate(text) <= budget) {
+            return text;
+        }
+        // estimateTokens(글자 수 / 2 + 1)의 역산
+        int maxChars = Math.max(1, (budget - 1) * 2 - ELLIPSIS.length());
+        String truncated = text.substring(0, Math.min(text.length(), maxChars)).stripTrailing();
+        return truncated + ELLIPSIS + "\n";
+    }
+
+    private static int estimate(CharSequence text) {
+        return GeminiTrafficGuard.estimateTokens(text.toString());
+    }
+
+    private static int orDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * 구성된 프롬프트와 추정 토큰 수, 실제로 포함된 후보 수.
+     * responseSchema는 단일 호출 모드일 때만 있으며 Gemini JSON 모드 요청에 그대로 사용합니다.
+     */
+    public record RagPrompt(String text,
+                            int estimatedTokens,
+                            int includedCandidates,
+                            Map<String, Object> responseSchema) {
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,37 +25,102 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RecommendChatLogService {
 
+    /**
+     * request_payload에 로컬 분류기 판정 여부를 기록하는 필드명.
+     */
+    public static final String INTENT_FROM_CLASSIFIER_FIELD = "intentFromClassifier";
+
+    /**
+     * request_payload에 불확실 구간 LLM 의도 판정(YES/NO)을 기록하는 필드명. 2단계 호출 모드의 재학습 라벨.
+     */
+    public static final String LLM_INTENT_VERDICT_FIELD = "llmIntentVerdict";
+
     private final RecommendChatLogRepository recommendChatLogRepository;
     private final ObjectMapper objectMapper;
 
+    /**
+     * @param intentFromClassifier 로컬 분류기가 추천 의도를 확정했는지 여부. 분류기 재학습 시 자기 판정을 다시 학습하지 않도록 기록
+     * @param llmIntentVerdict     불확실 구간에서 별도 LLM 호출이 내린 판정. 호출하지 않았거나 실패했으면 null
+     */
     @Transactional
     public RecommendChatLogEntity createLog(Long userId,
                                             String targetRoleId,
                                             RecommendRequest request,
                                             List<ActivityEntity> candidateActivities,
-                                            String ragPrompt) {
+                                            String ragPrompt,
+                                            Integer promptTokenEstimate,
+                                            boolean intentFromClassifier,
+                                            Boolean llmIntentVerdict) {
         RecommendChatLogEntity log = new RecommendChatLogEntity();
         log.setUserId(userId);
         log.setTargetRoleId(targetRoleId);
         log.setUserQuery(request.query());
         log.setRagPrompt(ragPrompt);
-        log.setRequestPayload(writeJson(Map.of(
-                "request", request,
-                "candidateActivityIds", extractActivityIds(candidateActivities)
-        )));
+        log.setPromptTokenEstimate(promptTokenEstimate);
+        log.setRequestPayload(writeJson(requestPayload(request, candidateActivities, intentFromClassifier, llmIntentVerdict)));
         return recommendChatLogRepository.save(log);
     }
 
+    /**
+     * LLM 판정으로 비추천 의도가 되어 RAG 없이 응답한 요청을 기록합니다.
+     * 이 경로는 추천 로그가 남지 않아 부정 판정이 재학습 이력에서 빠지므로 판정과 응답을 함께 남깁니다.
+     */
+    @Transactional
+    public void logNonRecommendation(Long userId,
+                                     RecommendRequest request,
+                                     RecommendResponse response,
+                                     boolean llmIntentVerdict) {
+        RecommendChatLogEntity log = new RecommendChatLogEntity();
+        log.setUserId(userId);
+        log.setUserQuery(request.query());
+        log.setRequestPayload(writeJson(requestPayload(request, List.of(), false, llmIntentVerdict)));
+        log.setResponsePayload(writeJson(response));
+        recommendChatLogRepository.save(log);
+    }
+
+    private Map<String, Object> requestPayload(RecommendRequest request,
+                                               List<ActivityEntity> candidateActivities,
+                                               boolean intentFromClassifier,
+                                               Boolean llmIntentVerdict) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("request", request);
+        payload.put("candidateActivityIds", extractActivityIds(candidateActivities));
+        payload.put(INTENT_FROM_CLASSIFIER_FIELD, intentFromClassifier);
+        if (llmIntentVerdict != null) {
+            payload.put(LLM_INTENT_VERDICT_FIELD, llmIntentVerdict);
+        }
+        return payload;
+    }
+
     @Transactional
     public void completeLog(Long logId,
                             String geminiResponse,
                             RecommendResponse response,
                             String modelName) {
+        completeLog(logId, geminiResponse, response, modelName, GenerationUsage.none());
+    }
+
+    /**
+     * Gemini가 보고한 실제 토큰 수와 생성 지연 시간을 함께 기록합니다.
+     */
+    @Transactional
+    public void completeLog(Long logId,
+                            String geminiResponse,
+                            RecommendResponse response,
+                            String modelName,
+                            GenerationUsage usage) {
         recommendChatLogRepository.findById(logId).ifPresent(log -> {
             log.setGeminiResponse(geminiResponse);
             log.setResponsePayload(writeJson(response));
             log.setModelName(modelName);
+            log.setPromptTokens(usage.promptTokens());
+            log.setOutputTokens(usage.outputTokens());
+            log.setGenerationLatencyMs(usage.latencyMs());
         });
+        if (usage.promptTokens() != null || usage.latencyMs() != null) {
+            log.info("[recommend] chat log {} usage: promptTokens={} outputTokens={} latencyMs={}",
+                    logId, usage.promptTokens(), usage.outputTokens(), usage.latencyMs());
+        }
     }
 
     @Transactional(readOnly = true)
@@ -92,6 +158,16 @@ public class RecommendChatLogService {
         }
     }
 
+    /**
+     * LLM 호출 사용량. 값을 알 수 없으면 null.
+     */
+    public record GenerationUsage(Integer promptTokens, Integer outputTokens, Long latencyMs) {
+
+        public static GenerationUsage none() {
+            return new GenerationUsage(null, null, null);
+        }
+    }
+
     private List<Long> extractActivityIds(List<ActivityEntity> activities) {
         if (activities == null) {
             return Collections.emptyList();
@@ -10,6 +10,7 @@ import com.mentoai.mentoai.controller.dto.JobRecommendResponse;
 import com.mentoai.mentoai.controller.dto.JobPostingResponse;
 import com.mentoai.mentoai.controller.dto.RoleFitRequest;
 import com.mentoai.mentoai.controller.dto.UserProfileResponse;
+import com.mentoai.mentoai.config.RecommendPipelineProperties;
 import com.mentoai.mentoai.controller.mapper.ActivityMapper;
 import com.mentoai.mentoai.entity.ActivityEntity;
 import com.mentoai.mentoai.entity.ActivityEntity.ActivityType;
@@ -18,9 +19,18 @@ import com.mentoai.mentoai.entity.ActivityDateEntity;
 import com.mentoai.mentoai.entity.ActivityTagEntity;
 import com.mentoai.mentoai.entity.CalendarEventType;
 import com.mentoai.mentoai.entity.TagEntity;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProvider;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProviders;
+import com.mentoai.mentoai.integration.embedding.EmbeddingUseCase;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import com.mentoai.mentoai.integration.embedding.VectorSimilarity;
 import com.mentoai.mentoai.repository.ActivityRepository;
 import com.mentoai.mentoai.repository.UserRepository;
 import com.mentoai.mentoai.service.CalendarEventService;
+import com.mentoai.mentoai.service.gemini.TextCacheOptions;
+import com.mentoai.mentoai.service.intent.RecommendIntentClassifier;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,7 +44,17 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -45,18 +65,56 @@ public class RecommendService {
     private final ActivityRepository activityRepository;
     private final UserRepository userRepository;
     private final GeminiService geminiService;
+    private final EmbeddingProviders embeddingProviders;
     private final RoleFitService roleFitService;
     private final UserProfileService userProfileService;
     private final ActivityRoleMatchService activityRoleMatchService;
     private final RecommendChatLogService recommendChatLogService;
     private final CalendarEventService calendarEventService;
     private final JobRecommendationService jobRecommendationService;
+    private final RagPromptBuilder ragPromptBuilder;
+    private final RecommendPipelineProperties pipelineProperties;
+    private final RecommendIntentClassifier intentClassifier;
+    private final RecommendationResultCache resultCache;
+
+    // 의도 판별/적합도 계산 병렬 실행용. 비활성화 또는 초기화 전에는 null이며 호출 스레드에서 순차 실행
+    private ExecutorService pipelineExecutor;
 
     @Value("${recommendation.vector-search.enabled:true}")
     private boolean vectorSearchEnabled;
 
     @Value("${recommendation.auto-add-calendar:false}")
     private boolean autoAddCalendar;
+
+    @PostConstruct
+    void initPipelineExecutor() {
+        if (pipelineProperties == null || !pipelineProperties.isEnabled()) {
+            return;
+        }
+        int concurrency = Math.max(1, Optional.ofNullable(pipelineProperties.getConcurrency()).orElse(8));
+        int queueCapacity = Math.max(1, Optional.ofNullable(pipelineProperties.getQueueCapacity()).orElse(100));
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                concurrency, concurrency,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "recommend-pipeline-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 큐가 가득 차면 호출 스레드에서 실행 (순차 실행으로 물러남)
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        pipelineExecutor = executor;
+    }
+
+    @PreDestroy
+    void closePipelineExecutor() {
+        if (pipelineExecutor != null) {
+            pipelineExecutor.shutdown();
+        }
+    }
     
     // 사용자 맞춤 활동 추천 (targetRole 기반)
     @Transactional(readOnly = true)
@@ -67,31 +125,57 @@ public class RecommendService {
 
         int safeLimit = (limit == null || limit <= 0) ? 10 : limit;
 
+        // 엔티티는 영속성 컨텍스트에 묶이므로 순서가 있는 ID 목록만 캐시하고 조회 시 다시 로드
+        RecommendationResultCache.Key cacheKey = RecommendationResultCache.key(
+                RecommendationResultCache.Namespace.ACTIVITIES, userId, safeLimit, type, campusOnly);
+        long cacheGeneration = resultCache.generation(cacheKey);
+        List<Long> cachedIds = resultCache.get(cacheKey);
+        if (cachedIds != null) {
+            Map<Long, ActivityEntity> activityMap = activityRepository.findAllById(cachedIds).stream()
+                    .collect(Collectors.toMap(ActivityEntity::getId, Function.identity()));
+            return cachedIds.stream()
+                    .map(activityMap::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        RetrievalResult<ActivityEntity> recommendations = loadRecommendations(userId, safeLimit, type, campusOnly);
+        // 검색 장애로 빈 결과가 된 경우는 TTL 동안 재사용하지 않도록 캐시하지 않음
+        if (!recommendations.degraded()) {
+            resultCache.put(cacheKey, recommendations.items().stream().map(ActivityEntity::getId).toList(), cacheGeneration);
+        }
+        return recommendations.items();
+    }
+
+    private RetrievalResult<ActivityEntity> loadRecommendations(Long userId, int safeLimit, String type, Boolean campusOnly) {
         if (!vectorSearchEnabled) {
             Pageable pageable = PageRequest.of(0, safeLimit, Sort.by(Sort.Direction.DESC, "createdAt"));
             ActivityType activityType = parseActivityType(type);
-            return activityRepository.findByFilters(
+            return RetrievalResult.of(activityRepository.findByFilters(
                     null,
                     activityType,
                     campusOnly,
                     null,
                     pageable
-            ).getContent();
+            ).getContent());
         }
 
         UserProfileResponse profile = userProfileService.getProfile(userId);
         String targetRoleId = profile.targetRoleId();
         if (targetRoleId == null || targetRoleId.isBlank()) {
             log.warn("User {} has no targetRoleId configured. Returning empty recommendations.", userId);
-            return List.of();
+            return RetrievalResult.of(List.of());
         }
 
-        int fetchSize = Math.min(Math.max(safeLimit * 2, safeLimit), 200);
-        List<ActivityRoleMatchService.RoleMatch> matches =
-                activityRoleMatchService.findRoleMatches(targetRoleId, fetchSize);
+        ActivityType activityType = parseActivityType(type);
+        ActivityVectorFilter vectorFilter = ActivityVectorFilter.of(activityType, campusOnly);
+        int fetchSize = activityRoleMatchService.candidateFetchSize(safeLimit, vectorFilter, 2);
+        RetrievalResult<ActivityRoleMatchService.RoleMatch> search =
+                activityRoleMatchService.searchRoleMatches(targetRoleId, fetchSize, vectorFilter);
+        List<ActivityRoleMatchService.RoleMatch> matches = search.items();
         if (matches.isEmpty()) {
             log.warn("No Qdrant matches for user {} and targetRole {}", userId, targetRoleId);
-            return List.of();
+            return new RetrievalResult<>(List.of(), search.degraded());
         }
 
         List<Long> ids = matches.stream()
@@ -102,14 +186,12 @@ public class RecommendService {
         Map<Long, ActivityEntity> activityMap = activityRepository.findAllById(ids).stream()
                 .collect(Collectors.toMap(ActivityEntity::getId, Function.identity()));
 
-        ActivityType activityType = parseActivityType(type);
-
-        return matches.stream()
+        return RetrievalResult.of(matches.stream()
                 .map(match -> activityMap.get(match.activityId()))
                 .filter(Objects::nonNull)
                 .filter(activity -> matchesBasicFilters(activity, activityType, campusOnly))
                 .limit(safeLimit)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
     
     // 의미 기반 검색 (간단한 키워드 매칭)
@@ -121,20 +203,30 @@ public class RecommendService {
 
     @Transactional(readOnly = true)
     public List<SemanticSearchResult> semanticSearchWithScores(String query, Integer limit, String userId) {
+        return semanticSearchWithQueryEmbedding(query, limit, userId).results();
+    }
+
+    /**
+     * 검색 결과와 함께 검색에 사용한 질의 임베딩을 반환합니다. 질의 임베딩에 실패하면 임베딩은 null.
+     */
+    @Transactional(readOnly = true)
+    public SemanticSearchOutcome semanticSearchWithQueryEmbedding(String query, Integer limit, String userId) {
         if (query == null || query.trim().isEmpty()) {
             throw new IllegalArgumentException("검색어는 필수입니다.");
         }
 
         int safeLimit = (limit == null || limit <= 0) ? 10 : limit;
         
-        // Gemini 임베딩 기반 검색 시도
+        // 임베딩 기반 검색 시도
+        EmbeddingVector queryEmbedding = null;
         try {
-            List<SemanticSearchResult> embeddingResults = semanticSearchWithEmbedding(query, safeLimit, userId);
+            queryEmbedding = embeddingProviders.forUseCase(EmbeddingUseCase.SEARCH).embed(query);
+            List<SemanticSearchResult> embeddingResults = semanticSearchWithEmbedding(queryEmbedding, safeLimit, userId);
             if (!embeddingResults.isEmpty()) {
-                return embeddingResults;
+                return new SemanticSearchOutcome(queryEmbedding, embeddingResults);
             }
         } catch (Exception e) {
-            log.warn("Gemini embedding search failed, falling back to keyword search", e);
+            log.warn("Embedding search failed, falling back to keyword search", e);
         }
         
         // Fallback: 키워드 기반 검색
@@ -160,17 +252,17 @@ public class RecommendService {
         }
         
         // 점수 순으로 정렬하여 반환
-        return activityScores.entrySet().stream()
+        List<SemanticSearchResult> keywordResults = activityScores.entrySet().stream()
                 .sorted(Map.Entry.<ActivityEntity, Double>comparingByValue().reversed())
                 .limit(safeLimit)
                 .map(entry -> new SemanticSearchResult(entry.getKey(), entry.getValue()))
                 .collect(Collectors.toList());
+        return new SemanticSearchOutcome(queryEmbedding, keywordResults);
     }
     
-    // Gemini 임베딩 기반 의미 검색
-    private List<SemanticSearchResult> semanticSearchWithEmbedding(String query, int limit, String userId) {
-        // 검색어 임베딩 생성
-        List<Double> queryEmbedding = geminiService.generateEmbedding(query);
+    // 임베딩 기반 의미 검색 (질의와 후보 모두 SEARCH 제공자로 임베딩)
+    private List<SemanticSearchResult> semanticSearchWithEmbedding(EmbeddingVector queryEmbedding, int limit, String userId) {
+        EmbeddingProvider embeddingProvider = embeddingProviders.forUseCase(EmbeddingUseCase.SEARCH);
         
         // 활동 목록 조회 (최근 활동 위주)
         Pageable pageable = PageRequest.of(0, limit * 3, Sort.by(Sort.Direction.DESC, "createdAt"));
@@ -178,29 +270,26 @@ public class RecommendService {
                 null, null, null, null, pageable
         ).getContent();
         
-        // 각 활동의 텍스트를 임베딩으로 변환하고 유사도 계산
-        Map<ActivityEntity, Double> activityScores = new HashMap<>();
-        
+        // 각 활동의 텍스트를 한 번에 임베딩한 뒤 질의 벡터와 비교해 상위 결과만 선택
+        List<ActivityEntity> candidates = new ArrayList<>();
+        List<String> activityTexts = new ArrayList<>();
         for (ActivityEntity activity : activities) {
-            try {
-                String activityText = buildActivityText(activity);
-                List<Double> activityEmbedding = geminiService.generateEmbedding(activityText);
-                
-                double similarity = geminiService.cosineSimilarity(queryEmbedding, activityEmbedding);
-                
-                if (similarity > 0.3) { // 최소 유사도 임계값
-                    activityScores.put(activity, similarity * 100); // 0-100 점수로 변환
-                }
-            } catch (Exception e) {
-                log.warn("Failed to generate embedding for activity {}: {}", activity.getId(), e.getMessage());
+            String activityText = buildActivityText(activity);
+            if (!activityText.isBlank()) {
+                candidates.add(activity);
+                activityTexts.add(activityText);
             }
         }
         
-        // 점수 순으로 정렬하여 반환
-        return activityScores.entrySet().stream()
-                .sorted(Map.Entry.<ActivityEntity, Double>comparingByValue().reversed())
-                .limit(limit)
-                .map(entry -> new SemanticSearchResult(entry.getKey(), entry.getValue()))
+        Map<String, EmbeddingVector> activityEmbeddings = embeddingProvider.embedAll(activityTexts);
+        List<EmbeddingVector> candidateEmbeddings = new ArrayList<>(candidates.size());
+        for (String activityText : activityTexts) {
+            candidateEmbeddings.add(activityEmbeddings.get(activityText));
+        }
+        
+        // 최소 유사도 0.3, 0-100 점수로 변환
+        return VectorSimilarity.topK(queryEmbedding, candidateEmbeddings, limit, 0.3).stream()
+                .map(scored -> new SemanticSearchResult(candidates.get(scored.index()), scored.score() * 100))
                 .collect(Collectors.toList());
     }
     
@@ -355,6 +444,9 @@ public class RecommendService {
 
     public record SemanticSearchResult(ActivityEntity activity, double score) {
     }
+
+    public record SemanticSearchOutcome(EmbeddingVector queryEmbedding, List<SemanticSearchResult> results) {
+    }
     
     // 점수 포함 활동 추천 (targetRole 기반)
     @Transactional(readOnly = true)
@@ -365,30 +457,55 @@ public class RecommendService {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
         }
 
+        // 같은 요청이 같은 키가 되도록 실제로 사용하는 값(보정한 limit, 공백 제거한 직무)으로 키를 만듦
+        int safeLimit = (limit == null || limit <= 0) ? 10 : limit;
+        String normalizedOverride = StringUtils.hasText(targetRoleOverride) ? targetRoleOverride.trim() : null;
+        RecommendationResultCache.Key cacheKey = RecommendationResultCache.key(
+                RecommendationResultCache.Namespace.SCORED_ACTIVITIES, userId, safeLimit, type, campusOnly, normalizedOverride);
+        long cacheGeneration = resultCache.generation(cacheKey);
+        List<ActivityRecommendationResponse> cached = resultCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        RetrievalResult<ActivityRecommendationResponse> responses =
+                loadRecommendationsWithScores(userId, safeLimit, type, campusOnly, normalizedOverride);
+        List<ActivityRecommendationResponse> result = List.copyOf(responses.items());
+        // 검색 장애로 DB 목록 대체 결과를 쓴 경우는 캐시하지 않음
+        if (!responses.degraded()) {
+            resultCache.put(cacheKey, result, cacheGeneration);
+        }
+        return result;
+    }
+
+    private RetrievalResult<ActivityRecommendationResponse> loadRecommendationsWithScores(
+            Long userId, int safeLimit, String type, Boolean campusOnly, String targetRoleOverride) {
         UserProfileResponse profile = userProfileService.getProfile(userId);
-        String targetRoleId = (targetRoleOverride != null && !targetRoleOverride.isBlank())
-                ? targetRoleOverride.trim()
-                : profile.targetRoleId();
+        String targetRoleId = targetRoleOverride != null ? targetRoleOverride : profile.targetRoleId();
 
         if (targetRoleId == null || targetRoleId.isBlank()) {
             log.warn("User {} requested scored recommendations but targetRoleId is missing.", userId);
-            return List.of();
+            return RetrievalResult.of(List.of());
         }
 
-        int safeLimit = (limit == null || limit <= 0) ? 10 : limit;
-        int fetchSize = Math.min(safeLimit * 3, 200);
         ActivityType activityType = parseActivityType(type);
+        ActivityVectorFilter vectorFilter = ActivityVectorFilter.of(activityType, campusOnly);
+        int fetchSize = activityRoleMatchService.candidateFetchSize(safeLimit, vectorFilter, 3);
 
         if (!vectorSearchEnabled) {
             log.debug("Vector search disabled. Using basic listing for scored recommendations.");
-            return buildRecommendationsFromBasicListing(userId, safeLimit, activityType, campusOnly, targetRoleId);
+            return RetrievalResult.of(
+                    buildRecommendationsFromBasicListing(userId, safeLimit, activityType, campusOnly, targetRoleId));
         }
 
-        List<ActivityRoleMatchService.RoleMatch> matches =
-                activityRoleMatchService.findRoleMatches(targetRoleId, fetchSize);
+        RetrievalResult<ActivityRoleMatchService.RoleMatch> search =
+                activityRoleMatchService.searchRoleMatches(targetRoleId, fetchSize, vectorFilter);
+        List<ActivityRoleMatchService.RoleMatch> matches = search.items();
         if (matches.isEmpty()) {
             log.warn("No Qdrant matches for scored recommendations: user={}, targetRole={}", userId, targetRoleId);
-            return buildRecommendationsFromBasicListing(userId, safeLimit, activityType, campusOnly, targetRoleId);
+            return new RetrievalResult<>(
+                    buildRecommendationsFromBasicListing(userId, safeLimit, activityType, campusOnly, targetRoleId),
+                    search.degraded());
         }
 
         List<Long> ids = matches.stream()
@@ -430,7 +547,7 @@ public class RecommendService {
             }
         }
 
-        return responses;
+        return RetrievalResult.of(responses);
     }
 
     private List<ActivityRecommendationResponse> buildRecommendationsFromBasicListing(
@@ -516,6 +633,127 @@ public class RecommendService {
      */
     @Transactional
     public RecommendResponse getRecommendationsByRequest(RecommendRequest request) {
+        RagContext context = prepareRecommendation(request, false);
+        if (context.immediateResponse() != null) {
+            return context.immediateResponse();
+        }
+
+        String geminiResponse = null;
+        Exception failure = null;
+        RecommendChatLogService.GenerationUsage usage = RecommendChatLogService.GenerationUsage.none();
+        long startedAt = System.nanoTime();
+        try {
+            GeminiService.GenerationResult result = geminiService.generateTextWithUsage(
+                    context.prompt(), context.responseSchema());
+            geminiResponse = result.text();
+            usage = new RecommendChatLogService.GenerationUsage(
+                    result.promptTokens(), result.outputTokens(), elapsedMillis(startedAt));
+        } catch (Exception e) {
+            failure = e;
+        }
+        return completeRecommendation(context, geminiResponse, failure, usage);
+    }
+
+    private RagContext llmOnlyContext(RecommendRequest request, IntentDecision intentDecision) {
+        log.info("[recommend] non-recommendation intent. Returning LLM-only response. query='{}'", request.query());
+        RecommendResponse response = new RecommendResponse(generateLlmOnlyResponse(request));
+        if (intentDecision.llmVerdict() != null) {
+            // 불확실 구간 LLM의 NO 판정을 분류기 재학습 라벨로 남김
+            recommendChatLogService.logNonRecommendation(
+                    request.userId(), request, response, intentDecision.llmVerdict());
+        }
+        return RagContext.immediate(request, response);
+    }
+
+    /**
+     * 추천 의도 판별 결과. llmVerdict는 불확실 구간에서 LLM이 내린 판정이며, 호출하지 않았거나 실패했으면 null.
+     */
+    private record IntentDecision(boolean recommendation, Boolean llmVerdict) {
+
+        private static IntentDecision of(boolean recommendation) {
+            return new IntentDecision(recommendation, null);
+        }
+    }
+
+    /**
+     * 로컬 분류기로 추천 의도를 판별합니다. 힌트가 있거나 질의가 없으면 분류기를 호출하지 않고 null.
+     */
+    private Boolean classifyLocally(RecommendRequest request) {
+        if (request.intentHint() != null || !StringUtils.hasText(request.query())) {
+            return null;
+        }
+        return intentClassifier.classify(request.query());
+    }
+
+    /**
+     * 추천 의도 판별을 시작합니다. LLM 호출이 필요 없는 경우(힌트 있음/질의 없음/분류기 확신)는 즉시 완료된 결과를 반환.
+     *
+     * @param localIntent classifyLocally 결과. 분류 통계가 중복 집계되지 않도록 다시 분류하지 않음
+     */
+    private Future<IntentDecision> startRecommendationIntent(RecommendRequest request, Boolean localIntent) {
+        if (request.intentHint() != null || !StringUtils.hasText(request.query())) {
+            return CompletableFuture.completedFuture(IntentDecision.of(isRecommendationIntent(request)));
+        }
+        if (localIntent != null) {
+            return CompletableFuture.completedFuture(IntentDecision.of(localIntent));
+        }
+        if (ragPromptBuilder.isSingleCall()) {
+            // 단일 호출 모드에서는 RAG 응답의 recommendationIntent로 판별하므로 별도 LLM 호출을 하지 않음
+            return CompletableFuture.completedFuture(IntentDecision.of(true));
+        }
+        return startStage(() -> decideUncertainRecommendationIntent(request.query()));
+    }
+
+    private IntentDecision awaitRecommendationIntent(RecommendRequest request, Future<IntentDecision> future) {
+        return awaitStage(future, () -> IntentDecision.of(matchesRecommendationKeywords(request.query())),
+                "intent detection");
+    }
+
+    /**
+     * 파이프라인 실행기에서 단계를 비동기로 시작합니다. 실행기가 없으면 호출 스레드에서 바로 실행.
+     * CompletableFuture.cancel은 실행 중인 스레드를 인터럽트하지 않으므로 실행기의 Future를 반환해
+     * 취소 시 단계가 잡고 있는 Gemini/Qdrant permit을 놓도록 합니다.
+     */
+    private <T> Future<T> startStage(Supplier<T> stage) {
+        if (pipelineExecutor == null) {
+            return CompletableFuture.completedFuture(stage.get());
+        }
+        return pipelineExecutor.submit(stage::get);
+    }
+
+    /**
+     * 단계 결과를 기다립니다. 시간 초과/실패 시 단계를 인터럽트로 취소하고 fallback 값을 사용.
+     */
+    private <T> T awaitStage(Future<T> future, Supplier<T> fallback, String stageName) {
+        long timeoutMs = pipelineProperties != null && pipelineProperties.getStageTimeoutMs() != null
+                ? pipelineProperties.getStageTimeoutMs() : 10000L;
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("[recommend] {} timed out after {}ms; using fallback", stageName, timeoutMs);
+        } catch (ExecutionException e) {
+            log.warn("[recommend] {} failed: {}", stageName, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            log.warn("[recommend] interrupted while waiting for {}", stageName);
+        }
+        return fallback.get();
+    }
+
+    private static long elapsedMillis(long startedAtNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+    }
+
+    /**
+     * RAG 추천의 LLM 호출 이전 단계 (의도 판별, 프로필 수집, 후보 검색, 프롬프트 구성, 로그 생성).
+     * 채용 위임/일반 대화/후보 없음처럼 LLM 호출이 필요 없으면 immediateResponse에 결과를 담아 반환합니다.
+     *
+     * @param mapCandidates true이면 후보 활동을 응답 DTO로 변환해 함께 반환 (스트리밍 응답용)
+     */
+    @Transactional
+    public RagContext prepareRecommendation(RecommendRequest request, boolean mapCandidates) {
         if (request.userId() == null) {
             throw new IllegalArgumentException("userId는 필수입니다.");
         }
@@ -527,81 +765,171 @@ public class RecommendService {
         RecommendIntent intent = inferIntent(request);
         // 채용 의도면 공고 추천 서비스로 위임
         if (intent.inferredType() == ActivityType.JOB) {
-            return delegateJobRecommendations(request);
+            return RagContext.immediate(request, delegateJobRecommendations(request));
         }
 
-        // 일반 대화/비추천 의도일 경우 LLM 응답만 반환
-        if (!isRecommendationIntent(request)) {
-            log.info("[recommend] non-recommendation intent. Returning LLM-only response. query='{}'", request.query());
-            List<RecommendResponse.RecommendItem> llmOnly = generateLlmOnlyResponse(request);
-            return new RecommendResponse(llmOnly);
+        // 일반 대화/비추천 의도 판별(LLM 왕복)은 아래 프로필/적합도/검색과 동시에 진행하고,
+        // 비추천 의도로 판명되면 미리 검색한 후보를 버리고 LLM 응답만 반환
+        Boolean localIntent = classifyLocally(request);
+        Future<IntentDecision> recommendationIntent = startRecommendationIntent(request, localIntent);
+        if (recommendationIntent.isDone()) {
+            IntentDecision decided = awaitRecommendationIntent(request, recommendationIntent);
+            if (!decided.recommendation()) {
+                return llmOnlyContext(request, decided);
+            }
         }
         
         // 1. 사용자 프로필 수집
         UserProfileResponse userProfile = userProfileService.getProfile(request.userId());
         String targetRoleId = userProfile.targetRoleId();
-        Double currentRoleFitScore = calculateRoleFitScore(request.userId(), targetRoleId);
+        Future<Double> roleFitScore = startStage(
+                () -> calculateRoleFitScore(request.userId(), targetRoleId));
 
         // 2. 관련 활동 검색 (Retrieval)
+        // 엔티티를 이 트랜잭션 안에서 다루도록 호출 스레드에서 실행
         List<ActivityEntity> candidateActivities = retrieveRelevantActivities(
                 request, userProfile, request.getTopKOrDefault() * 2
         );
 
+        IntentDecision intentDecision = awaitRecommendationIntent(request, recommendationIntent);
+        if (!intentDecision.recommendation()) {
+            roleFitScore.cancel(true);
+            log.info("[recommend] discarding {} speculatively retrieved candidates", candidateActivities.size());
+            return llmOnlyContext(request, intentDecision);
+        }
+        Double currentRoleFitScore = awaitStage(roleFitScore, () -> null, "role fit");
+
         if (candidateActivities.isEmpty()) {
             log.warn("No personalized activities found for user {}. Falling back to recent activities with no filters.", request.userId());
             candidateActivities = fetchRecentActivities(request.getTopKOrDefault() * 3);
             if (candidateActivities.isEmpty()) {
-                return new RecommendResponse(List.of());
+                return RagContext.immediate(request, new RecommendResponse(List.of()));
             }
             debugCandidateTitles("recent-fallback", candidateActivities);
         }
         log.info("[recommend] candidates retrieved size={} topK={}", candidateActivities.size(), request.getTopKOrDefault());
         debugCandidateTitles("retrieved", candidateActivities);
         
-        // 3. Gemini에 RAG 프롬프트 구성 및 전송
-        String prompt = buildRAGPrompt(request, userProfile, candidateActivities);
+        // 3. Gemini에 RAG 프롬프트 구성 (토큰 예산 내로 후보/프로필 압축)
+        RagPromptBuilder.RagPrompt ragPrompt = ragPromptBuilder.build(request, userProfile, candidateActivities);
+        String prompt = ragPrompt.text();
+        log.info("[recommend] RAG prompt estimatedTokens={} candidatesInPrompt={}/{}",
+                ragPrompt.estimatedTokens(), ragPrompt.includedCandidates(), candidateActivities.size());
         log.debug("[/recommend] RAG prompt (userId={}): {}", request.userId(), prompt);
         var chatLog = recommendChatLogService.createLog(
                 request.userId(),
                 userProfile.targetRoleId(),
                 request,
                 candidateActivities,
-                prompt
+                prompt,
+                ragPrompt.estimatedTokens(),
+                localIntent != null,
+                intentDecision.llmVerdict()
         );
 
-        String geminiResponse;
-        RecommendResponse finalResponse;
-        try {
-            geminiResponse = geminiService.generateText(prompt);
-            log.debug("[recommend] raw Gemini response: {}", geminiResponse);
-            // 4. Gemini 응답 파싱하여 구조화된 결과 반환
-            List<RecommendResponse.RecommendItem> items = parseGeminiRecommendationResponse(
-                    geminiResponse,
-                    candidateActivities,
-                    request.getTopKOrDefault(),
-                    request.userId(),
-                    targetRoleId,
-                    currentRoleFitScore
-            );
-            finalResponse = new RecommendResponse(items);
-        } catch (Exception e) {
-            log.error("Failed to generate recommendation from Gemini API", e);
-            finalResponse = fallbackToScoreBasedRecommendation(request, candidateActivities, currentRoleFitScore);
-            geminiResponse = "FALLBACK_USED: " + e.getMessage();
+        List<ActivityResponse> candidateResponses = mapCandidates
+                ? candidateActivities.stream().map(ActivityMapper::toResponse).toList()
+                : List.of();
+
+        return new RagContext(
+                request,
+                targetRoleId,
+                currentRoleFitScore,
+                candidateActivities,
+                candidateResponses,
+                prompt,
+                ragPrompt.responseSchema(),
+                chatLog.getId(),
+                null
+        );
+    }
+
+    /**
+     * LLM 응답(또는 실패)을 받아 추천 결과를 완성하고 로그/캘린더 후처리를 수행합니다.
+     */
+    @Transactional
+    public RecommendResponse completeRecommendation(RagContext context, String geminiResponse, Exception failure) {
+        return completeRecommendation(context, geminiResponse, failure, RecommendChatLogService.GenerationUsage.none());
+    }
+
+    /**
+     * LLM 사용량(실제 토큰 수, 지연 시간)을 채팅 로그에 함께 기록합니다.
+     */
+    @Transactional
+    public RecommendResponse completeRecommendation(RagContext context,
+                                                    String geminiResponse,
+                                                    Exception failure,
+                                                    RecommendChatLogService.GenerationUsage usage) {
+        RecommendRequest request = context.request();
+        RecommendResponse finalResponse = null;
+        StructuredReply structuredReply = StructuredReply.EMPTY;
+        if (failure == null && context.responseSchema() != null) {
+            structuredReply = parseStructuredReply(geminiResponse);
+            if (Boolean.FALSE.equals(structuredReply.recommendationIntent())) {
+                log.info("[recommend] single-call response judged non-recommendation intent. query='{}'", request.query());
+                RecommendResponse llmOnly = new RecommendResponse(StringUtils.hasText(structuredReply.answer())
+                        ? List.of(llmOnlyItem(structuredReply.answer()))
+                        : generateLlmOnlyResponse(request));
+                recommendChatLogService.completeLog(context.chatLogId(), geminiResponse, llmOnly, "gemini-2.5-flash", usage);
+                return llmOnly;
+            }
+        }
+        if (failure == null) {
+            try {
+                log.debug("[recommend] raw Gemini response: {}", geminiResponse);
+                // 4. Gemini 응답 파싱하여 구조화된 결과 반환
+                List<RecommendResponse.RecommendItem> items = parseGeminiRecommendationResponse(
+                        geminiResponse,
+                        context.candidateActivities(),
+                        request.getTopKOrDefault(),
+                        request.userId(),
+                        context.targetRoleId(),
+                        context.currentRoleFitScore()
+                );
+                finalResponse = new RecommendResponse(items);
+            } catch (Exception e) {
+                failure = e;
+            }
         }
-        finalResponse = appendSummaryItem(finalResponse, request);
+        if (failure != null) {
+            log.error("Failed to generate recommendation from Gemini API", failure);
+            finalResponse = fallbackToScoreBasedRecommendation(
+                    request, context.candidateActivities(), context.currentRoleFitScore());
+            geminiResponse = "FALLBACK_USED: " + failure.getMessage();
+        }
+        finalResponse = appendSummaryItem(finalResponse, request, structuredReply.summary());
         log.info("[recommend] final items size={} (after LLM/fallback + summary)", finalResponse.items().size());
 
         recommendChatLogService.completeLog(
-                chatLog.getId(),
+                context.chatLogId(),
                 geminiResponse,
                 finalResponse,
-                "gemini-2.5-flash"
+                "gemini-2.5-flash",
+                usage
         );
 
-        autoAddCalendarEvents(request.userId(), finalResponse.items(), chatLog.getId());
+        autoAddCalendarEvents(request.userId(), finalResponse.items(), context.chatLogId());
         return finalResponse;
     }
+
+    /**
+     * RAG 추천 준비 결과. immediateResponse가 있으면 LLM 호출 없이 그대로 반환합니다.
+     * responseSchema가 있으면 단일 호출 모드이며 LLM 응답에 의도 판별과 요약이 함께 담깁니다.
+     */
+    public record RagContext(RecommendRequest request,
+                             String targetRoleId,
+                             Double currentRoleFitScore,
+                             List<ActivityEntity> candidateActivities,
+                             List<ActivityResponse> candidateResponses,
+                             String prompt,
+                             Map<String, Object> responseSchema,
+                             Long chatLogId,
+                             RecommendResponse immediateResponse) {
+
+        private static RagContext immediate(RecommendRequest request, RecommendResponse response) {
+            return new RagContext(request, null, null, List.of(), List.of(), null, null, null, response);
+        }
+    }
     
     /**
      * 관련 활동 검색 (Retrieval)
@@ -730,92 +1058,29 @@ public class RecommendService {
     }
     
     /**
-     * RAG 프롬프트 구성
+     * 단일 호출 응답에서 의도 판별/일반 답변/요약을 읽습니다. items는 parseGeminiRecommendationResponse에서 처리.
+     * 파싱에 실패하면 빈 값을 반환해 기존 경로(추천 의도로 간주, 요약은 별도 호출)로 처리합니다.
      */
-    private String buildRAGPrompt(
-            RecommendRequest request,
-            UserProfileResponse userProfile,
-            List<ActivityEntity> activities) {
-        
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("당신은 대학생 진로 상담 전문가입니다. 사용자의 프로필과 질의를 바탕으로 활동을 추천해주세요.\n\n");
-        
-        // 사용자 프로필 정보
-        prompt.append("=== 사용자 프로필 ===\n");
-        
-        if (userProfile.university() != null) {
-            prompt.append(String.format("대학: %s, 학년: %d학년, 전공: %s\n",
-                    userProfile.university().universityName() != null ? userProfile.university().universityName() : "미입력",
-                    userProfile.university().grade() != null ? userProfile.university().grade() : 0,
-                    userProfile.university().major() != null ? userProfile.university().major() : "미입력"));
-        }
-        
-        // 관심 분야
-        if (userProfile.interestDomains() != null && !userProfile.interestDomains().isEmpty()) {
-            prompt.append("관심 분야: ").append(String.join(", ", userProfile.interestDomains())).append("\n");
-        }
-        
-        // 기술 스택
-        if (userProfile.techStack() != null && !userProfile.techStack().isEmpty()) {
-            List<String> skills = userProfile.techStack().stream()
-                    .map(skill -> skill.name() + (skill.level() != null ? " (" + skill.level() + ")" : ""))
-                    .toList();
-            prompt.append("기술 스택: ").append(String.join(", ", skills)).append("\n");
-        }
-        
-        // 경험
-        if (userProfile.experiences() != null && !userProfile.experiences().isEmpty()) {
-            prompt.append("주요 경험:\n");
-            for (UserProfileResponse.Experience exp : userProfile.experiences()) {
-                prompt.append(String.format("- %s: %s (%s)\n",
-                        exp.type(), exp.title(), exp.organization()));
-            }
-        }
-        
-        // 자연어 질의
-        prompt.append("\n=== 사용자 질의 ===\n");
-        if (StringUtils.hasText(request.query())) {
-            prompt.append(request.query())
-                    .append("\n")
-                    .append("위 질의에는 ‘공모전’, ‘대회’, ‘콘테스트’, ‘행사’, ‘공고’, '진로설계', '희망직무' 등 다양한 표현이 섞여 있을 수 있습니다. 같은 의미의 변형 표현도 모두 동일하게 해석하고, 사용자의 의도에 맞춰 가장 관련 있는 활동을 찾으세요.\n");
-        } else {
-            prompt.append("사용자가 적합한 활동을 추천해 달라고 요청했습니다. 공모전/대회/공고/스터디 등 다양한 유형을 폭넓게 검토하여 사용자에게 도움이 될 만한 후보를 제안하세요.\n");
-        }
-        
-        // 선호 태그
-        if (request.preferTags() != null && !request.preferTags().isEmpty()) {
-            prompt.append("선호 태그: ").append(String.join(", ", request.preferTags())).append("\n");
-        }
-        
-        // 후보 활동 목록
-        prompt.append("\n=== 후보 활동 목록 ===\n");
-        for (int i = 0; i < Math.min(activities.size(), 20); i++) {
-            ActivityEntity activity = activities.get(i);
-            prompt.append(String.format("[%d] %s\n", i + 1, activity.getTitle()));
-            if (activity.getSummary() != null) {
-                prompt.append("   요약: ").append(activity.getSummary()).append("\n");
-            }
-            if (activity.getActivityTags() != null && !activity.getActivityTags().isEmpty()) {
-                List<String> tagNames = activity.getActivityTags().stream()
-                        .map(at -> at.getTag().getName())
-                        .toList();
-                prompt.append("   태그: ").append(String.join(", ", tagNames)).append("\n");
-            }
-            prompt.append("\n");
+    private StructuredReply parseStructuredReply(String geminiResponse) {
+        try {
+            com.fasterxml.jackson.databind.JsonNode jsonNode = new com.fasterxml.jackson.databind.ObjectMapper()
+                    .readTree(extractJsonFragment(geminiResponse));
+            com.fasterxml.jackson.databind.JsonNode intentNode = jsonNode.path("recommendationIntent");
+            return new StructuredReply(
+                    intentNode.isBoolean() ? intentNode.asBoolean() : null,
+                    jsonNode.path("answer").asText(null),
+                    jsonNode.path("summary").asText(null)
+            );
+        } catch (Exception e) {
+            log.warn("Failed to parse single-call Gemini response: {}", e.getMessage());
+            return StructuredReply.EMPTY;
         }
-        
-        // 추천 요청
-        prompt.append("\n=== 요청사항 ===\n");
-        prompt.append(String.format("위 정보를 바탕으로 사용자에게 가장 적합한 활동 %d개를 추천하고, ", request.getTopKOrDefault()));
-        prompt.append("각 추천에 대해 구체적인 이유를 설명해주세요.\n");
-        prompt.append("반드시 하나의 JSON 객체만 출력하세요. JSON 바깥에 어떤 문장/설명/코드블록/백틱/언어 태그(json 등)도 넣지 마세요.\n");
-        prompt.append("출력 형식 예시: {\"items\":[{\"activityIndex\":1,\"score\":95,\"reason\":\"...\"}]}\n");
-        prompt.append("activityIndex는 위 후보 활동 목록 번호(1부터 시작)입니다. 사용자가 \"공모전 추천\", \"대회 추천\", \"행사 추천\", \"공고 추천\"처럼 다양한 표현을 사용하더라도 의미를 유연하게 해석하여 가장 관련도 높은 활동을 제안하세요.\n");
-        prompt.append("score는 0-100 사이 숫자이고, reason에는 왜 해당 활동이 사용자에게 도움이 되는지 한 문단으로 간결히 서술하세요. JSON 외 텍스트를 절대 포함하지 마세요.");
-        
-        return prompt.toString();
     }
-    
+
+    private record StructuredReply(Boolean recommendationIntent, String answer, String summary) {
+        private static final StructuredReply EMPTY = new StructuredReply(null, null, null);
+    }
+
     /**
      * Gemini 응답 파싱
      */
@@ -1094,8 +1359,11 @@ public class RecommendService {
 
     /**
      * 추천 결과 리스트 끝에 요약 아이템을 추가.
+     * 단일 호출 응답에 요약(generatedSummary)이 있으면 요약용 LLM 호출을 생략합니다.
      */
-    private RecommendResponse appendSummaryItem(RecommendResponse response, RecommendRequest request) {
+    private RecommendResponse appendSummaryItem(RecommendResponse response,
+                                                RecommendRequest request,
+                                                String generatedSummary) {
         if (response == null || response.items() == null || response.items().isEmpty()) {
             return response;
         }
@@ -1108,14 +1376,16 @@ public class RecommendService {
                 .toList();
 
         String summaryText = "추천 결과 요약을 생성할 수 없습니다.";
-        if (!titles.isEmpty()) {
+        if (StringUtils.hasText(generatedSummary)) {
+            summaryText = generatedSummary.strip();
+        } else if (!titles.isEmpty()) {
             String prompt = """
                     아래 활동 목록을 한두 문장으로 한국어 요약해 주세요. 사용자의 요청 맥락(공모전/채용/스터디 등)에 맞춰 간결하게 정리합니다.
                     활동 목록:
                     %s
                     """.formatted(String.join("\n", titles));
             try {
-                summaryText = geminiService.generateText(prompt);
+                summaryText = geminiService.generateTextCached(prompt, TextCacheOptions.exact("summary"));
             } catch (Exception e) {
                 log.warn("Failed to generate summary item: {}", e.getMessage());
                 summaryText = "추천 활동 수: " + titles.size();
@@ -1323,19 +1593,38 @@ public class RecommendService {
         if (!StringUtils.hasText(q)) {
             return false;
         }
-        // 2-1) LLM 기반 분류 우선 시도
+        // 2-1) 로컬 분류기가 확신하면 LLM 호출 없이 결정
+        Boolean localIntent = intentClassifier.classify(q);
+        if (localIntent != null) {
+            return localIntent;
+        }
+        return detectUncertainRecommendationIntent(q);
+    }
+
+    /**
+     * 로컬 분류기가 확신하지 못한 질의를 LLM으로 판별하고, LLM 실패 시 키워드 룰로 판별합니다.
+     */
+    private boolean detectUncertainRecommendationIntent(String q) {
+        return decideUncertainRecommendationIntent(q).recommendation();
+    }
+
+    /**
+     * detectUncertainRecommendationIntent와 같되, 채팅 로그에 남길 수 있도록 LLM 판정을 함께 반환합니다.
+     */
+    private IntentDecision decideUncertainRecommendationIntent(String q) {
         Boolean llmIntent = detectRecommendationIntentWithLLM(q);
         if (llmIntent != null) {
-            return llmIntent;
+            return new IntentDecision(llmIntent, llmIntent);
+        }
+        return IntentDecision.of(matchesRecommendationKeywords(q));
+    }
+
+    private boolean matchesRecommendationKeywords(String q) {
+        if (!StringUtils.hasText(q)) {
+            return false;
         }
-        // 2-2) LLM 실패 시 키워드 룰백
         String n = q.toLowerCase(Locale.ROOT);
-        String[] keywords = {
-                "공모전", "대회", "콘테스트", "대외활동",
-                "채용", "취업", "공고", "잡", "모집", "지원", "인턴",
-                "해커톤", "ai", "데이터", "데이터사이언스"
-        };
-        for (String kw : keywords) {
+        for (String kw : RecommendIntentClassifier.RECOMMENDATION_KEYWORDS) {
             if (n.contains(kw)) {
                 return true;
             }
@@ -1355,11 +1644,16 @@ public class RecommendService {
         String llmAnswer = msg;
         if (StringUtils.hasText(request.query())) {
             try {
-                llmAnswer = geminiService.generateText(request.query());
+                llmAnswer = geminiService.generateTextCached(request.query(),
+                        TextCacheOptions.semantic("chat", request.query()));
             } catch (Exception e) {
                 log.warn("LLM generation failed for non-recommendation query: {}", e.getMessage());
             }
         }
+        return List.of(llmOnlyItem(llmAnswer));
+    }
+
+    private RecommendResponse.RecommendItem llmOnlyItem(String llmAnswer) {
         ActivityResponse dummy = new ActivityResponse(
                 null,   // activityId
                 "LLM 응답", // title을 고정 표기로 설정
@@ -1379,7 +1673,7 @@ public class RecommendService {
                 List.of(), // tags
                 List.of()  // attachments
         );
-        RecommendResponse.RecommendItem item = new RecommendResponse.RecommendItem(
+        return new RecommendResponse.RecommendItem(
                 dummy,
                 null,
                 llmAnswer, // reason에 LLM 응답을 담는다
@@ -1387,7 +1681,6 @@ public class RecommendService {
                 null,
                 null
         );
-        return List.of(item);
     }
 
     /**
@@ -1402,7 +1695,7 @@ public class RecommendService {
                     Otherwise answer exactly "NO".
                     User query: "%s"
                     """.formatted(query);
-            String answer = geminiService.generateText(prompt);
+            String answer = geminiService.generateTextCached(prompt, TextCacheOptions.semantic("intent", query));
             if (answer == null) {
                 return null;
             }
@@ -0,0 +1,122 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.controller.dto.RecommendRequest;
+import com.mentoai.mentoai.controller.dto.RecommendResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * RAG 추천 스트리밍 (SSE).
+ * 검색된 후보를 먼저 보내고(candidates), LLM 생성 조각을 도착하는 대로 보낸 뒤(token),
+ * 기존 /recommend와 같은 파싱/후처리를 거친 최종 결과(result)로 마무리합니다.
+ * 단일 호출 모드에서는 JSON 응답을 증분 파싱해 answer/reason 문자열만 token으로 보내고,
+ * candidates는 recommendationIntent가 추천으로 확정된 뒤에 보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendStreamService {
+
+    public static final String EVENT_CANDIDATES = "candidates";
+    public static final String EVENT_TOKEN = "token";
+    public static final String EVENT_RESULT = "result";
+    public static final String EVENT_ERROR = "error";
+
+    private final RecommendService recommendService;
+    private final GeminiService geminiService;
+
+    public Flux<ServerSentEvent<Object>> stream(RecommendRequest request) {
+        // 검색/DB 작업은 블로킹이므로 boundedElastic에서 수행
+        return Mono.fromCallable(() -> recommendService.prepareRecommendation(request, true))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(this::streamGeneration)
+                .onErrorResume(e -> {
+                    log.warn("[/recommend/stream] failed userId={}: {}", request.userId(), e.getMessage());
+                    return Flux.just(event(EVENT_ERROR, Map.of("message", String.valueOf(e.getMessage()))));
+                });
+    }
+
+    private Flux<ServerSentEvent<Object>> streamGeneration(RecommendService.RagContext context) {
+        if (context.immediateResponse() != null) {
+            return Flux.just(event(EVENT_RESULT, context.immediateResponse()));
+        }
+
+        StringBuilder generated = new StringBuilder();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicLong startedAt = new AtomicLong();
+
+        Flux<String> chunks = geminiService.streamText(context.prompt(), context.responseSchema())
+                .doOnSubscribe(subscription -> startedAt.set(System.nanoTime()))
+                .doOnNext(generated::append)
+                .onErrorResume(e -> {
+                    // 생성 실패 시 기존 /recommend와 동일하게 점수 기반 결과로 대체
+                    failure.set(e instanceof Exception exception ? exception : new RuntimeException(e));
+                    return Flux.empty();
+                });
+        Flux<ServerSentEvent<Object>> generation = context.responseSchema() != null
+                ? structuredGeneration(context, chunks)
+                : Flux.concat(
+                        Flux.just(event(EVENT_CANDIDATES, context.candidateResponses())),
+                        chunks.map(chunk -> event(EVENT_TOKEN, chunk)));
+
+        Mono<ServerSentEvent<Object>> result = Mono.fromCallable(() -> {
+                    // 스트리밍 응답은 토큰 사용량 없이 생성 지연 시간만 기록
+                    long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt.get());
+                    RecommendResponse response = recommendService.completeRecommendation(
+                            context, generated.toString(), failure.get(),
+                            new RecommendChatLogService.GenerationUsage(null, null, latencyMs));
+                    return event(EVENT_RESULT, response);
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+
+        return Flux.concat(generation, result);
+    }
+
+    /**
+     * 단일 호출 모드 응답에서 answer/reason 내용만 token으로 보냅니다.
+     * 추천 의도가 아니면 candidates를 보내지 않고, 의도를 끝까지 읽지 못하면(파싱 실패, 생성 실패)
+     * 최종 결과와 같이 추천으로 간주해 result 직전에 보냅니다.
+     */
+    private Flux<ServerSentEvent<Object>> structuredGeneration(RecommendService.RagContext context,
+                                                               Flux<String> chunks) {
+        StructuredReplyStreamParser parser = new StructuredReplyStreamParser();
+        AtomicBoolean intentKnown = new AtomicBoolean();
+        Flux<StructuredReplyStreamParser.Fragment> fragments = Flux.concat(
+                chunks.concatMapIterable(parser::feed),
+                Flux.defer(() -> Flux.fromIterable(parser.finish()))
+        );
+        Flux<ServerSentEvent<Object>> events = fragments.handle((fragment, sink) -> {
+            if (fragment instanceof StructuredReplyStreamParser.Text text) {
+                sink.next(event(EVENT_TOKEN, text.text()));
+            } else if (fragment instanceof StructuredReplyStreamParser.Intent intent) {
+                intentKnown.set(true);
+                if (intent.recommendation()) {
+                    sink.next(event(EVENT_CANDIDATES, context.candidateResponses()));
+                }
+            }
+        });
+        return Flux.concat(
+                events,
+                Flux.defer(() -> intentKnown.get()
+                        ? Flux.empty()
+                        : Flux.just(event(EVENT_CANDIDATES, context.candidateResponses())))
+        );
+    }
+
+    private ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.builder(data)
+                .event(name)
+                .build();
+    }
+}
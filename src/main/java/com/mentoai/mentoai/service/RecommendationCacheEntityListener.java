@@ -0,0 +1,32 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.JobPostingEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * 활동/채용 공고 엔티티 변경 시 추천 결과 캐시를 무효화하는 JPA 엔티티 리스너.
+ * Spring Boot가 Hibernate에 SpringBeanContainer를 등록하므로 스프링 빈으로 생성됩니다.
+ */
+@Component
+public class RecommendationCacheEntityListener {
+
+    private final RecommendationResultCache resultCache;
+
+    // EntityManagerFactory 초기화 중에 생성되므로 캐시는 지연 주입
+    public RecommendationCacheEntityListener(@Lazy RecommendationResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        resultCache.invalidateAfterCommit(entity instanceof JobPostingEntity
+                ? RecommendationResultCache.Namespace.JOBS
+                : RecommendationResultCache.Namespace.ACTIVITIES);
+    }
+}
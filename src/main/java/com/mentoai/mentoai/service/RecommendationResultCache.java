@@ -0,0 +1,194 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.config.QdrantProperties;
+import com.mentoai.mentoai.config.RecommendationCacheProperties;
+import com.mentoai.mentoai.integration.qdrant.QdrantPointsWrittenEvent;
+import com.mentoai.mentoai.support.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 사용자별 추천 결과 캐시.
+ * 키는 (종류, userId, 요청 파라미터)이며 프로필 수정 시 해당 사용자 항목을, 직무 수정 시 활동 추천 전체를,
+ * 활동/채용 공고 변경 시 해당 종류 전체를 커밋 후 무효화합니다. 색인은 커밋 뒤에 Qdrant로 전송되므로,
+ * 그 사이 이전 색인으로 계산된 결과가 남지 않도록 색인 전송이 끝난 뒤에도 해당 종류를 한 번 더 무효화합니다.
+ * TTL은 누락된 무효화에 대한 안전장치입니다.
+ * 캐시 값은 불변이어야 하며 JPA 엔티티 대신 ID 목록이나 응답 DTO를 저장합니다.
+ * 계산 도중 무효화된 결과가 나중에 저장되지 않도록, 호출 측은 조회 전에 {@link #generation(Key)}를 읽어 두고
+ * 같은 값을 {@link #put(Key, Object, long)}에 넘깁니다. 그 사이 해당 종류나 사용자가 무효화되었으면 저장하지 않습니다.
+ */
+@Slf4j
+@Component
+public class RecommendationResultCache {
+
+    public enum Namespace {
+        /** getRecommendations 결과 활동 ID 목록 */
+        ACTIVITIES,
+        /** getRecommendationsWithScores 응답 */
+        SCORED_ACTIVITIES,
+        /** JobRecommendationService.recommend 응답 */
+        JOBS
+    }
+
+    private static final Set<Namespace> ACTIVITY_NAMESPACES = EnumSet.of(Namespace.ACTIVITIES, Namespace.SCORED_ACTIVITIES);
+
+    // 사용자별 세대는 메모리가 늘지 않도록 고정 개수 슬롯에 나눠 담음 (충돌 시 저장을 한 번 건너뛸 뿐)
+    private static final int USER_GENERATION_SLOTS = 1024;
+
+    private final RecommendationCacheProperties properties;
+    private final QdrantProperties qdrantProperties;
+    private final BoundedTtlCache<Key, Object> cache;
+
+    // 세대 확인과 저장, 세대 증가와 삭제를 원자적으로 묶기 위해 generationLock으로 동기화
+    private final Object generationLock = new Object();
+    private final long[] namespaceGenerations = new long[Namespace.values().length];
+    private final long[] userGenerations = new long[USER_GENERATION_SLOTS];
+
+    public RecommendationResultCache(RecommendationCacheProperties properties, QdrantProperties qdrantProperties) {
+        this.properties = properties;
+        this.qdrantProperties = qdrantProperties;
+        int maxEntries = properties.getMaxEntries() != null ? properties.getMaxEntries() : 10000;
+        long ttlSeconds = properties.getTtlSeconds() != null ? properties.getTtlSeconds() : 600L;
+        this.cache = new BoundedTtlCache<>(Math.max(1, maxEntries), ttlSeconds * 1000L);
+    }
+
+    /**
+     * 요청 파라미터(null 허용)로 캐시 키를 만듭니다.
+     */
+    public static Key key(Namespace namespace, Long userId, Object... params) {
+        return new Key(namespace, userId, Arrays.asList(params));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        return (T) cache.get(key);
+    }
+
+    /**
+     * 키의 현재 세대. 해당 종류나 사용자가 무효화될 때마다 바뀝니다.
+     */
+    public long generation(Key key) {
+        synchronized (generationLock) {
+            return currentGeneration(key);
+        }
+    }
+
+    /**
+     * 계산 전에 읽은 세대가 그대로일 때만 저장합니다.
+     */
+    public void put(Key key, Object value, long generation) {
+        if (!properties.isEnabled() || value == null) {
+            return;
+        }
+        synchronized (generationLock) {
+            if (currentGeneration(key) != generation) {
+                log.debug("Skip caching recommendation result invalidated during computation: {}", key.namespace());
+                return;
+            }
+            cache.put(key, value);
+        }
+    }
+
+    public int invalidateUser(Long userId) {
+        synchronized (generationLock) {
+            userGenerations[userSlot(userId)]++;
+            return cache.invalidateIf(key -> Objects.equals(key.userId(), userId));
+        }
+    }
+
+    public int invalidate(Set<Namespace> namespaces) {
+        synchronized (generationLock) {
+            namespaces.forEach(namespace -> namespaceGenerations[namespace.ordinal()]++);
+            return cache.invalidateIf(key -> namespaces.contains(key.namespace()));
+        }
+    }
+
+    private long currentGeneration(Key key) {
+        // 두 세대 모두 증가만 하므로 합이 같으면 둘 다 그대로임
+        return namespaceGenerations[key.namespace().ordinal()] + userGenerations[userSlot(key.userId())];
+    }
+
+    private static int userSlot(Long userId) {
+        return Math.floorMod(Objects.hashCode(userId), USER_GENERATION_SLOTS);
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋 후에 무효화합니다. 커밋 전 데이터로 다시 채워지는 것을 막기 위함.
+     */
+    public void invalidateAfterCommit(Namespace namespace) {
+        Set<Namespace> namespaces = namespace == Namespace.JOBS ? EnumSet.of(Namespace.JOBS) : ACTIVITY_NAMESPACES;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(namespaces);
+            return;
+        }
+        // 대량 적재 시 엔티티마다 전체 키를 훑지 않도록 트랜잭션당 한 번만 등록
+        String resourceKey = RecommendationResultCache.class.getName() + "." + namespaces;
+        if (TransactionSynchronizationManager.hasResource(resourceKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(resourceKey, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+                if (status == STATUS_COMMITTED) {
+                    invalidate(namespaces);
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        invalidateUser(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTargetRoleChanged(TargetRoleChangedEvent event) {
+        // 직무 ID는 프로필에서 유도되기도 하므로 키로 골라내지 않고 활동 추천 전체를 무효화
+        invalidate(ACTIVITY_NAMESPACES);
+    }
+
+    @EventListener
+    public void onQdrantPointsWritten(QdrantPointsWrittenEvent event) {
+        Set<Namespace> namespaces = EnumSet.noneOf(Namespace.class);
+        if (qdrantProperties.activityCollections().contains(event.collection())) {
+            namespaces.addAll(ACTIVITY_NAMESPACES);
+        }
+        if (qdrantProperties.jobCollections().contains(event.collection())) {
+            namespaces.add(Namespace.JOBS);
+        }
+        if (!namespaces.isEmpty()) {
+            invalidate(namespaces);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats-log-interval-ms:300000}")
+    public void logStats() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        BoundedTtlCache.CacheStats stats = cache.stats();
+        log.info("Recommendation result cache stats: size={} hits={} misses={} evictions={} hitRate={}",
+                stats.size(), stats.hits(), stats.misses(), stats.evictions(),
+                String.format("%.3f", stats.hitRate()));
+    }
+
+    public record Key(Namespace namespace, Long userId, List<Object> params) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.mentoai.mentoai.service;
+
+import java.util.List;
+
+/**
+ * 벡터 검색 결과와 장애로 인한 축소 여부.
+ * 임베딩/Qdrant 호출이 실패해 빈 목록이나 DB 대체 결과를 돌려줄 때 degraded가 true이며,
+ * 호출 측은 이런 결과를 결과 캐시에 넣지 않습니다.
+ */
+public record RetrievalResult<T>(List<T> items, boolean degraded) {
+
+    public static <T> RetrievalResult<T> of(List<T> items) {
+        return new RetrievalResult<>(items, false);
+    }
+
+    public static <T> RetrievalResult<T> failed() {
+        return new RetrievalResult<>(List.of(), true);
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
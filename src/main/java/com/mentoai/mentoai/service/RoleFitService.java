@@ -18,6 +18,7 @@ import com.mentoai.mentoai.entity.UserProfileExperienceEntity;
 import com.mentoai.mentoai.entity.UserProfileSkill;
 import com.mentoai.mentoai.entity.WeightedMajor;
 import com.mentoai.mentoai.entity.WeightedSkill;
+import com.mentoai.mentoai.integration.embedding.VectorSimilarity;
 import com.mentoai.mentoai.repository.TargetRoleRepository;
 import com.mentoai.mentoai.repository.UserProfileRepository;
 import com.mentoai.mentoai.repository.UserRepository;
@@ -29,6 +30,7 @@ import org.springframework.util.StringUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -334,37 +336,25 @@ public class RoleFitService {
             }
         }
 
-        // 벡터 생성
-        List<Double> userVector = new ArrayList<>();
-        List<Double> targetVector = new ArrayList<>();
-
-        for (String skillName : allSkillNames) {
-            userVector.add(userSkills.getOrDefault(skillName, 0.0));
-            
-            double targetValue = 0.0;
-            for (WeightedSkill skill : targetSkills) {
-                if (skill.getName() != null && skill.getName().toLowerCase(Locale.ROOT).equals(skillName)) {
-                    targetValue += skill.getWeight() != null ? skill.getWeight() : 0.0;
-                }
+        // 목표 스킬 가중치를 이름별로 합산한 뒤 같은 순서의 벡터로 구성
+        Map<String, Double> targetWeights = new HashMap<>();
+        for (WeightedSkill skill : targetSkills) {
+            if (skill.getName() != null) {
+                targetWeights.merge(skill.getName().toLowerCase(Locale.ROOT),
+                        skill.getWeight() != null ? skill.getWeight() : 0.0, Double::sum);
             }
-            targetVector.add(targetValue);
         }
 
-        // Cosine similarity 계산
-        double dotProduct = 0.0;
-        double userNorm = 0.0;
-        double targetNorm = 0.0;
-
-        for (int i = 0; i < userVector.size(); i++) {
-            double u = userVector.get(i);
-            double t = targetVector.get(i);
-            dotProduct += u * t;
-            userNorm += u * u;
-            targetNorm += t * t;
+        float[] userVector = new float[allSkillNames.size()];
+        float[] targetVector = new float[allSkillNames.size()];
+        int index = 0;
+        for (String skillName : allSkillNames) {
+            userVector[index] = userSkills.getOrDefault(skillName, 0.0).floatValue();
+            targetVector[index] = targetWeights.getOrDefault(skillName, 0.0).floatValue();
+            index++;
         }
 
-        double denominator = Math.sqrt(userNorm) * Math.sqrt(targetNorm);
-        return denominator > 0 ? dotProduct / denominator : 0.0;
+        return VectorSimilarity.cosine(userVector, targetVector);
     }
 
     private double calculateEducationFit(UserProfileEntity profile, TargetRoleEntity targetRole) {
@@ -12,6 +12,7 @@ import com.mentoai.mentoai.entity.ActivityEntity;
 import com.mentoai.mentoai.entity.JobPostingEntity;
 import com.mentoai.mentoai.repository.ActivityRepository;
 import com.mentoai.mentoai.repository.JobPostingRepository;
+import com.mentoai.mentoai.service.gemini.GeminiTrafficClass;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import jakarta.persistence.EntityManager;
@@ -58,7 +59,8 @@ public class S3DataIngestionService {
         if (!StringUtils.hasText(prefix)) {
             return IngestionResult.disabled("contest");
         }
-        return ingestActivitiesFromPrefix(prefix);
+        // 대량 적재의 임베딩 호출은 사용자 요청과 별도 한도(BACKGROUND)로 처리
+        return GeminiTrafficClass.callAsBackground(() -> ingestActivitiesFromPrefix(prefix));
     }
 
     public IngestionResult ingestJobPostings() {
@@ -67,7 +69,7 @@ public class S3DataIngestionService {
         if (!StringUtils.hasText(prefix)) {
             return IngestionResult.disabled("job");
         }
-        return ingestJobPostingsFromPrefix(prefix);
+        return GeminiTrafficClass.callAsBackground(() -> ingestJobPostingsFromPrefix(prefix));
     }
 
     public CombinedIngestionResult ingestAll() {
@@ -0,0 +1,219 @@
+package com.mentoai.mentoai.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 단일 호출 모드(RagPromptBuilder.RESPONSE_SCHEMA) 스트리밍 응답을 조각 단위로 읽는 증분 파서.
+ * JSON 구조는 클라이언트에 그대로 보내지 않고, answer/reason 문자열 내용만 도착하는 대로 꺼내며
+ * 최상위 recommendationIntent 값이 확정되면 한 번 알립니다.
+ * 요청 하나의 스트림에서만 사용하며 스레드 안전하지 않습니다.
+ */
+final class StructuredReplyStreamParser {
+
+    private static final String FIELD_INTENT = "recommendationIntent";
+    private static final Set<String> TEXT_FIELDS = Set.of("answer", "reason");
+
+    sealed interface Fragment permits Text, Intent {
+    }
+
+    /**
+     * 사용자에게 보여줄 answer/reason 문자열 조각.
+     */
+    record Text(String text) implements Fragment {
+    }
+
+    /**
+     * 확정된 recommendationIntent 값.
+     */
+    record Intent(boolean recommendation) implements Fragment {
+    }
+
+    private static final class Frame {
+        private final boolean object;
+        private boolean expectKey;
+        private String key;
+
+        private Frame(boolean object) {
+            this.object = object;
+            this.expectKey = object;
+        }
+    }
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private final StringBuilder literal = new StringBuilder();
+    private final StringBuilder keyBuffer = new StringBuilder();
+    private final StringBuilder pendingText = new StringBuilder();
+    private boolean inString;
+    private boolean stringIsKey;
+    private boolean stringIsText;
+    private boolean escaped;
+    private StringBuilder unicodeEscape;
+    private boolean textEmitted;
+    private boolean intentReported;
+
+    /**
+     * 생성 조각 하나를 읽고 그 사이 확정된 텍스트/의도를 도착 순서대로 반환합니다.
+     */
+    List<Fragment> feed(String chunk) {
+        List<Fragment> fragments = new ArrayList<>();
+        for (int i = 0; i < chunk.length(); i++) {
+            char c = chunk.charAt(i);
+            if (inString) {
+                readStringChar(c, fragments);
+            } else {
+                readStructureChar(c, fragments);
+            }
+        }
+        flushText(fragments, false);
+        return fragments;
+    }
+
+    /**
+     * 스트림이 끝났을 때 보류 중인 텍스트를 내보냅니다.
+     */
+    List<Fragment> finish() {
+        List<Fragment> fragments = new ArrayList<>();
+        flushText(fragments, true);
+        return fragments;
+    }
+
+    private void readStructureChar(char c, List<Fragment> fragments) {
+        switch (c) {
+            case '{' -> frames.push(new Frame(true));
+            case '[' -> frames.push(new Frame(false));
+            case '}', ']' -> {
+                finishLiteral(fragments);
+                frames.poll();
+            }
+            case ':' -> {
+                Frame top = frames.peek();
+                if (top != null && top.object) {
+                    top.expectKey = false;
+                }
+            }
+            case ',' -> {
+                finishLiteral(fragments);
+                Frame top = frames.peek();
+                if (top != null && top.object) {
+                    top.expectKey = true;
+                    top.key = null;
+                }
+            }
+            case '"' -> startString();
+            default -> {
+                if (Character.isWhitespace(c)) {
+                    finishLiteral(fragments);
+                } else {
+                    literal.append(c);
+                }
+            }
+        }
+    }
+
+    private void startString() {
+        Frame top = frames.peek();
+        inString = true;
+        stringIsKey = top != null && top.object && top.expectKey;
+        stringIsText = top != null && top.object && !top.expectKey && TEXT_FIELDS.contains(top.key);
+        keyBuffer.setLength(0);
+        if (stringIsText && textEmitted) {
+            // answer와 각 reason을 구분해 이어 붙지 않도록 줄바꿈
+            pendingText.append('\n');
+        }
+    }
+
+    private void readStringChar(char c, List<Fragment> fragments) {
+        if (unicodeEscape != null) {
+            unicodeEscape.append(c);
+            if (unicodeEscape.length() == 4) {
+                char decoded;
+                try {
+                    decoded = (char) Integer.parseInt(unicodeEscape.toString(), 16);
+                } catch (NumberFormatException e) {
+                    decoded = '\uFFFD';
+                }
+                unicodeEscape = null;
+                appendStringChar(decoded);
+            }
+            return;
+        }
+        if (escaped) {
+            escaped = false;
+            switch (c) {
+                case 'n' -> appendStringChar('\n');
+                case 't' -> appendStringChar('\t');
+                case 'r' -> appendStringChar('\r');
+                case 'b' -> appendStringChar('\b');
+                case 'f' -> appendStringChar('\f');
+                case 'u' -> unicodeEscape = new StringBuilder(4);
+                default -> appendStringChar(c);
+            }
+            return;
+        }
+        if (c == '\\') {
+            escaped = true;
+        } else if (c == '"') {
+            endString(fragments);
+        } else {
+            appendStringChar(c);
+        }
+    }
+
+    private void appendStringChar(char c) {
+        if (stringIsKey) {
+            keyBuffer.append(c);
+        } else if (stringIsText) {
+            pendingText.append(c);
+            textEmitted = true;
+        }
+    }
+
+    private void endString(List<Fragment> fragments) {
+        inString = false;
+        if (stringIsKey) {
+            Frame top = frames.peek();
+            if (top != null) {
+                top.key = keyBuffer.toString();
+            }
+        } else if (stringIsText) {
+            flushText(fragments, false);
+        }
+        stringIsKey = false;
+        stringIsText = false;
+    }
+
+    private void finishLiteral(List<Fragment> fragments) {
+        if (literal.isEmpty()) {
+            return;
+        }
+        String value = literal.toString();
+        literal.setLength(0);
+        Frame top = frames.peek();
+        boolean rootIntent = frames.size() == 1 && top.object && FIELD_INTENT.equals(top.key);
+        if (!rootIntent || intentReported) {
+            return;
+        }
+        if ("true".equals(value) || "false".equals(value)) {
+            flushText(fragments, false);
+            intentReported = true;
+            fragments.add(new Intent(Boolean.parseBoolean(value)));
+        }
+    }
+
+    private void flushText(List<Fragment> fragments, boolean complete) {
+        int length = pendingText.length();
+        // 조각 경계에서 서로게이트 쌍이 나뉘면 다음 조각과 합쳐 보냄
+        if (!complete && length > 0 && Character.isHighSurrogate(pendingText.charAt(length - 1))) {
+            length--;
+        }
+        if (length == 0) {
+            return;
+        }
+        fragments.add(new Text(pendingText.substring(0, length)));
+        pendingText.delete(0, length);
+    }
+}
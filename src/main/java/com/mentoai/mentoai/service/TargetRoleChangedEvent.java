@@ -0,0 +1,7 @@
+package com.mentoai.mentoai.service;
+
+/**
+ * 직무 정의가 생성/수정되었을 때 발행됩니다. 커밋 후 직무 임베딩 재계산에 사용.
+ */
+public record TargetRoleChangedEvent(String roleId) {
+}
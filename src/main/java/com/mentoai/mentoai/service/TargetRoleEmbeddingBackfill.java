@@ -0,0 +1,79 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.repository.TargetRoleRepository;
+import com.mentoai.mentoai.service.gemini.GeminiTrafficClass;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 직무 임베딩 백필.
+ * 시작 시(CSV 시드 이후) 모든 target_roles의 임베딩을 배치로 채우고,
+ * 직무가 수정되면 커밋 후 해당 직무만 다시 계산합니다. 모두 적재(BACKGROUND) 트래픽으로 호출합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TargetRoleEmbeddingBackfill {
+
+    private final ActivityRoleMatchService activityRoleMatchService;
+    private final TargetRoleRepository targetRoleRepository;
+
+    @Value("${target-role.embedding.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${target-role.embedding.backfill-batch-size:50}")
+    private int batchSize;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        backfillAll();
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTargetRoleChanged(TargetRoleChangedEvent event) {
+        try {
+            int computed = GeminiTrafficClass.callAsBackground(
+                    () -> activityRoleMatchService.precomputeRoleEmbeddings(List.of(event.roleId())));
+            log.info("Refreshed target role embedding for {} (recomputed={})", event.roleId(), computed > 0);
+        } catch (Exception e) {
+            log.warn("Failed to refresh target role embedding for {}: {}", event.roleId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 직무의 임베딩을 확인해 없거나 오래된 것만 다시 계산합니다.
+     *
+     * @return 새로 계산한 직무 수
+     */
+    public int backfillAll() {
+        List<String> roleIds = targetRoleRepository.findAllRoleIds();
+        int size = Math.max(1, batchSize);
+        int computed = 0;
+        for (int from = 0; from < roleIds.size(); from += size) {
+            List<String> chunk = roleIds.subList(from, Math.min(from + size, roleIds.size()));
+            try {
+                computed += GeminiTrafficClass.callAsBackground(
+                        () -> activityRoleMatchService.precomputeRoleEmbeddings(chunk));
+            } catch (Exception e) {
+                log.warn("Target role embedding backfill failed for {} roles starting at {}: {}",
+                        chunk.size(), chunk.get(0), e.getMessage());
+            }
+        }
+        log.info("Target role embedding backfill finished: roles={} recomputed={}", roleIds.size(), computed);
+        return computed;
+    }
+}
@@ -0,0 +1,104 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.TargetRoleEmbeddingEntity;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProvider;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import com.mentoai.mentoai.repository.TargetRoleEmbeddingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 직무 임베딩 저장소 (target_role_embeddings).
+ * (모델 버전, 역할 문서)의 해시가 저장된 값과 같으면 임베딩을 재사용하고, 다를 때만 새로 계산해 저장합니다.
+ */
+@Slf4j
+@Service
+public class TargetRoleEmbeddingService {
+
+    private static final int MEMORY_CACHE_SIZE = 1000;
+
+    private final PersistedEmbeddingStore<String, TargetRoleEmbeddingEntity> store;
+
+    public TargetRoleEmbeddingService(TargetRoleEmbeddingRepository targetRoleEmbeddingRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.store = new PersistedEmbeddingStore<>(
+                "target role",
+                targetRoleEmbeddingRepository,
+                transactionManager,
+                MEMORY_CACHE_SIZE,
+                TargetRoleEmbeddingService::toEntity,
+                TargetRoleEmbeddingEntity::getContentHash,
+                TargetRoleEmbeddingEntity::getEmbedding);
+    }
+
+    /**
+     * 역할 문서의 임베딩을 반환합니다. 저장된 임베딩이 최신이면 제공자를 호출하지 않습니다.
+     */
+    public EmbeddingVector getOrCompute(String roleId, String roleDocument, EmbeddingProvider provider) {
+        String contentHash = PersistedEmbeddingStore.contentHash(provider, roleDocument);
+        EmbeddingVector stored = store.findStored(roleId, contentHash);
+        if (stored != null) {
+            return stored;
+        }
+        EmbeddingVector embedding = provider.embed(roleDocument);
+        store.save(roleId, contentHash, provider.modelVersion(), embedding);
+        log.info("Computed target role embedding for {} ({})", roleId, provider.modelVersion());
+        return embedding;
+    }
+
+    /**
+     * 저장된 임베딩이 없거나 오래된 역할만 모아 배치로 계산합니다.
+     *
+     * @param roleDocuments roleId -> 역할 문서
+     * @return 새로 계산한 역할 수
+     */
+    public int computeMissing(Map<String, String> roleDocuments, EmbeddingProvider provider) {
+        Map<String, String> stale = new LinkedHashMap<>();
+        Map<String, String> hashes = new LinkedHashMap<>();
+        roleDocuments.forEach((roleId, document) -> {
+            if (document == null || document.isBlank()) {
+                return;
+            }
+            String contentHash = PersistedEmbeddingStore.contentHash(provider, document);
+            if (store.findStored(roleId, contentHash) == null) {
+                stale.put(roleId, document);
+                hashes.put(roleId, contentHash);
+            }
+        });
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, EmbeddingVector> embeddings = provider.embedAll(new ArrayList<>(stale.values()));
+        List<PersistedEmbeddingStore.Computed<String>> computed = new ArrayList<>();
+        stale.forEach((roleId, document) -> {
+            EmbeddingVector embedding = embeddings.get(document);
+            if (embedding == null) {
+                log.warn("Missing embedding for target role {}, will retry on next backfill", roleId);
+                return;
+            }
+            computed.add(new PersistedEmbeddingStore.Computed<>(roleId, hashes.get(roleId), embedding));
+        });
+        store.saveAll(computed, provider.modelVersion());
+        return computed.size();
+    }
+
+    private static TargetRoleEmbeddingEntity toEntity(String roleId,
+                                                      String contentHash,
+                                                      String modelVersion,
+                                                      EmbeddingVector embedding) {
+        TargetRoleEmbeddingEntity entity = new TargetRoleEmbeddingEntity();
+        entity.setRoleId(roleId);
+        entity.setContentHash(contentHash);
+        entity.setModelVersion(modelVersion);
+        entity.setDimension(embedding.dimension());
+        entity.setEmbedding(embedding.toBytes());
+        return entity;
+    }
+}
@@ -7,6 +7,7 @@ import com.mentoai.mentoai.entity.WeightedMajor;
 import com.mentoai.mentoai.entity.WeightedSkill;
 import com.mentoai.mentoai.repository.TargetRoleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
 public class TargetRoleService {
 
     private final TargetRoleRepository targetRoleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<TargetRoleResponse> listRoles() {
         return targetRoleRepository.findAll().stream()
@@ -65,6 +67,8 @@ public class TargetRoleService {
         }
 
         TargetRoleEntity saved = targetRoleRepository.save(entity);
+        // 커밋 후 직무 임베딩 재계산
+        eventPublisher.publishEvent(new TargetRoleChangedEvent(saved.getRoleId()));
         return toResponse(saved);
     }
 
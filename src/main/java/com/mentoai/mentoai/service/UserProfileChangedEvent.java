@@ -0,0 +1,7 @@
+package com.mentoai.mentoai.service;
+
+/**
+ * 사용자 프로필이 생성/수정되었을 때 발행됩니다. 커밋 후 프로필 임베딩 갱신에 사용.
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
@@ -0,0 +1,33 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.service.gemini.GeminiTrafficClass;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 프로필 수정이 커밋된 뒤 사용자 프로필 임베딩을 비동기로 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileEmbeddingRefresher {
+
+    private final ActivityRoleMatchService activityRoleMatchService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        try {
+            boolean recomputed = GeminiTrafficClass.callAsBackground(
+                    () -> activityRoleMatchService.refreshProfileEmbedding(event.userId()));
+            log.debug("Refreshed profile embedding for user {} (recomputed={})", event.userId(), recomputed);
+        } catch (Exception e) {
+            // 다음 검색 시 저장 벡터가 오래된 것으로 판단되어 바로 임베딩됨
+            log.warn("Failed to refresh profile embedding for user {}: {}", event.userId(), e.getMessage());
+        }
+    }
+}
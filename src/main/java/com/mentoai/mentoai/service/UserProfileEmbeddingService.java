@@ -0,0 +1,90 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.UserProfileEmbeddingEntity;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProvider;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import com.mentoai.mentoai.repository.UserProfileEmbeddingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 프로필 임베딩 저장소 (user_profile_embeddings).
+ * 프로필 수정 커밋 후 비동기로 갱신되고, 검색 시에는 (모델 버전, 프로필 문서) 해시가 일치하는 저장 벡터를 사용합니다.
+ * 저장 벡터가 없거나 오래되었으면 바로 임베딩해 사용하고 저장해 둡니다.
+ */
+@Slf4j
+@Service
+public class UserProfileEmbeddingService {
+
+    private static final int MEMORY_CACHE_SIZE = 10000;
+
+    private final PersistedEmbeddingStore<Long, UserProfileEmbeddingEntity> store;
+    private final AtomicLong storedHits = new AtomicLong();
+    private final AtomicLong liveEmbeddings = new AtomicLong();
+
+    public UserProfileEmbeddingService(UserProfileEmbeddingRepository userProfileEmbeddingRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.store = new PersistedEmbeddingStore<>(
+                "profile",
+                userProfileEmbeddingRepository,
+                transactionManager,
+                MEMORY_CACHE_SIZE,
+                UserProfileEmbeddingService::toEntity,
+                UserProfileEmbeddingEntity::getContentHash,
+                UserProfileEmbeddingEntity::getEmbedding);
+    }
+
+    /**
+     * 저장된 최신 임베딩을 반환하고, 없거나 오래되었으면 바로 임베딩합니다.
+     */
+    public EmbeddingVector getOrCompute(Long userId, String profileDocument, EmbeddingProvider provider) {
+        String contentHash = PersistedEmbeddingStore.contentHash(provider, profileDocument);
+        EmbeddingVector stored = store.findStored(userId, contentHash);
+        if (stored != null) {
+            storedHits.incrementAndGet();
+            return stored;
+        }
+        liveEmbeddings.incrementAndGet();
+        log.debug("Profile embedding for user {} is missing or stale; embedding live", userId);
+        EmbeddingVector embedding = provider.embed(profileDocument);
+        store.save(userId, contentHash, provider.modelVersion(), embedding);
+        return embedding;
+    }
+
+    /**
+     * 프로필 문서가 바뀌었을 때만 다시 임베딩해 저장합니다.
+     *
+     * @return 새로 계산했으면 true
+     */
+    public boolean refresh(Long userId, String profileDocument, EmbeddingProvider provider) {
+        String contentHash = PersistedEmbeddingStore.contentHash(provider, profileDocument);
+        if (store.findStored(userId, contentHash) != null) {
+            return false;
+        }
+        store.save(userId, contentHash, provider.modelVersion(), provider.embed(profileDocument));
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats-log-interval-ms:300000}")
+    public void logStats() {
+        log.info("Profile embedding store stats: storedHits={} liveEmbeddings={}",
+                storedHits.get(), liveEmbeddings.get());
+    }
+
+    private static UserProfileEmbeddingEntity toEntity(Long userId,
+                                                       String contentHash,
+                                                       String modelVersion,
+                                                       EmbeddingVector embedding) {
+        UserProfileEmbeddingEntity entity = new UserProfileEmbeddingEntity();
+        entity.setUserId(userId);
+        entity.setContentHash(contentHash);
+        entity.setModelVersion(modelVersion);
+        entity.setDimension(embedding.dimension());
+        entity.setEmbedding(embedding.toBytes());
+        return entity;
+    }
+}
@@ -11,6 +11,7 @@ import com.mentoai.mentoai.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +28,7 @@ public class UserProfileService {
     private final UserRepository userRepository;
     private final TargetRoleRepository targetRoleRepository;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserProfileResponse getProfile(Long userId) {
         UserEntity user = userRepository.findById(userId)
@@ -115,7 +117,9 @@ public class UserProfileService {
             // 엔티티를 다시 로드하여 최신 상태 보장
             UserProfileEntity saved = userProfileRepository.findById(userId)
                     .orElseThrow(() -> new IllegalStateException("Failed to save profile"));
-            
+
+            // 커밋 후 프로필 임베딩 갱신
+            eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
             return UserProfileMapper.toResponse(saved);
         } catch (Exception e) {
             log.error("Error saving profile for user: {}", userId, e);
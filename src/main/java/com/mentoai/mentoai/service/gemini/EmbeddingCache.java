@@ -0,0 +1,98 @@
+package com.mentoai.mentoai.service.gemini;
+
+import com.mentoai.mentoai.config.EmbeddingCacheProperties;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import com.mentoai.mentoai.support.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+
+/**
+ * (모델, 정규화된 텍스트) 해시를 키로 사용하는 임베딩 캐시.
+ * 동일한 역할/프로필/검색어 문서를 반복 임베딩할 때 Gemini 호출을 생략합니다.
+ */
+@Slf4j
+@Component
+public class EmbeddingCache {
+
+    private final EmbeddingCacheProperties properties;
+    private final BoundedTtlCache<String, EmbeddingVector> cache;
+
+    public EmbeddingCache(EmbeddingCacheProperties properties) {
+        this.properties = properties;
+        int maxEntries = properties.getMaxEntries() != null ? properties.getMaxEntries() : 2000;
+        long ttlSeconds = properties.getTtlSeconds() != null ? properties.getTtlSeconds() : 0L;
+        this.cache = new BoundedTtlCache<>(maxEntries, ttlSeconds * 1000L);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public EmbeddingVector get(String model, String normalizedText) {
+        if (!isEnabled()) {
+            return null;
+        }
+        return cache.get(key(model, normalizedText));
+    }
+
+    public void put(String model, String normalizedText, EmbeddingVector embedding) {
+        if (!isEnabled() || embedding == null || embedding.isEmpty()) {
+            return;
+        }
+        cache.put(key(model, normalizedText), embedding);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public BoundedTtlCache.CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 임베딩 입력 텍스트 정규화 (NFC, 공백 축약, trim).
+     * 캐시 키와 실제 요청 본문에 동일하게 사용합니다.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    /**
+     * 모델명과 정규화된 텍스트의 SHA-256 해시.
+     */
+    public static String key(String model, String normalizedText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(model.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalizedText.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats-log-interval-ms:300000}")
+    public void logStats() {
+        if (!isEnabled()) {
+            return;
+        }
+        BoundedTtlCache.CacheStats stats = stats();
+        log.info("Embedding cache stats: size={} hits={} misses={} evictions={} hitRate={}",
+                stats.size(), stats.hits(), stats.misses(), stats.evictions(),
+                String.format("%.3f", stats.hitRate()));
+    }
+}
@@ -0,0 +1,157 @@
+package com.mentoai.mentoai.service.gemini;
+
+import com.mentoai.mentoai.config.GeminiCircuitBreakerProperties;
+import com.mentoai.mentoai.support.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 엔드포인트별 서킷 브레이커. 임베딩과 텍스트 생성은 장애 양상이 달라 상태를 따로 관리합니다.
+ * OPEN 상태에서는 업스트림 타임아웃을 기다리지 않고 GeminiUnavailableException으로 즉시 실패합니다.
+ */
+@Slf4j
+@Component
+public class GeminiCircuitBreakers {
+
+    public enum Endpoint {
+        EMBEDDING,
+        TEXT
+    }
+
+    private final GeminiCircuitBreakerProperties properties;
+    private final Map<Endpoint, CircuitBreaker> breakers = new EnumMap<>(Endpoint.class);
+
+    public GeminiCircuitBreakers(GeminiCircuitBreakerProperties properties) {
+        this.properties = properties;
+        for (Endpoint endpoint : Endpoint.values()) {
+            breakers.put(endpoint, new CircuitBreaker(
+                    "gemini-" + endpoint.name().toLowerCase(),
+                    orDefault(properties.getWindowSize(), 20),
+                    orDefault(properties.getMinimumCalls(), 10),
+                    Math.min(100, Math.max(1, orDefault(properties.getFailureRateThreshold(), 50))) / 100.0,
+                    orDefault(properties.getOpenDurationMs(), 30000),
+                    orDefault(properties.getHalfOpenProbes(), 2)
+            ));
+        }
+    }
+
+    public <T> T execute(Endpoint endpoint, Supplier<T> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        CircuitBreaker breaker = acquire(endpoint);
+        try {
+            T result = call.get();
+            breaker.onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            recordError(breaker, e);
+            throw e;
+        }
+    }
+
+    public <T> Mono<T> executeAsync(Endpoint endpoint, Mono<T> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            CircuitBreaker breaker = acquire(endpoint);
+            return call
+                    .doOnSuccess(result -> breaker.onSuccess())
+                    .doOnError(e -> recordError(breaker, e))
+                    .doOnCancel(breaker::onIgnored);
+        });
+    }
+
+    public <T> Flux<T> executeStream(Endpoint endpoint, Flux<T> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        return Flux.defer(() -> {
+            CircuitBreaker breaker = acquire(endpoint);
+            return call
+                    .doOnComplete(breaker::onSuccess)
+                    .doOnError(e -> recordError(breaker, e))
+                    .doOnCancel(breaker::onIgnored);
+        });
+    }
+
+    public CircuitBreaker.State state(Endpoint endpoint) {
+        return breakers.get(endpoint).state();
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats-log-interval-ms:300000}")
+    public void logStats() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        breakers.values().forEach(breaker ->
+                log.info("Circuit breaker '{}': state={} failureRate={} rejected={}",
+                        breaker.name(), breaker.state(),
+                        String.format("%.2f", breaker.failureRate()), breaker.rejectedCalls()));
+    }
+
+    private CircuitBreaker acquire(Endpoint endpoint) {
+        CircuitBreaker breaker = breakers.get(endpoint);
+        if (!breaker.tryAcquirePermission()) {
+            throw new GeminiUnavailableException("Gemini " + endpoint.name().toLowerCase()
+                    + " circuit is open; failing fast");
+        }
+        return breaker;
+    }
+
+    private void recordError(CircuitBreaker breaker, Throwable error) {
+        if (isUpstreamFailure(error)) {
+            breaker.onFailure();
+        } else {
+            breaker.onIgnored();
+        }
+    }
+
+    /**
+     * 업스트림 장애로 볼 오류인지 판단합니다. 5xx/408, 타임아웃, 연결 오류는 장애이고
+     * 429(요청률 제한, 별도 처리)와 그 밖의 4xx, 로컬에서 거절한 호출은 집계하지 않습니다.
+     */
+    static boolean isUpstreamFailure(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof GeminiThrottledException || current instanceof IllegalArgumentException) {
+                return false;
+            }
+            if (current instanceof RestClientResponseException restError) {
+                return isFailureStatus(restError.getStatusCode().value());
+            }
+            if (current instanceof WebClientResponseException webError) {
+                return isFailureStatus(webError.getStatusCode().value());
+            }
+            if (current instanceof TimeoutException || current instanceof IOException
+                    || current instanceof ResourceAccessException || current instanceof WebClientRequestException) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFailureStatus(int status) {
+        return status >= 500 || status == 408;
+    }
+
+    private static int orDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,42 @@
+package com.mentoai.mentoai.service.gemini;
+
+import com.mentoai.mentoai.integration.embedding.EmbeddingProvider;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import com.mentoai.mentoai.service.GeminiService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gemini embedding-001 원격 임베딩 제공자 (캐시/배칭은 GeminiService가 처리).
+ */
+@Component
+@RequiredArgsConstructor
+public class GeminiEmbeddingProvider implements EmbeddingProvider {
+
+    public static final String NAME = "gemini";
+
+    private final GeminiService geminiService;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String modelVersion() {
+        return NAME + ":" + GeminiService.EMBEDDING_MODEL;
+    }
+
+    @Override
+    public EmbeddingVector embed(String text) {
+        return geminiService.generateEmbedding(text);
+    }
+
+    @Override
+    public Map<String, EmbeddingVector> embedAll(List<String> texts) {
+        return geminiService.generateEmbeddings(texts);
+    }
+}
@@ -0,0 +1,11 @@
+package com.mentoai.mentoai.service.gemini;
+
+/**
+ * 동시 호출 한도나 요청/토큰 한도 때문에 허용 대기 시간 안에 Gemini를 호출할 수 없을 때 발생합니다.
+ */
+public class GeminiThrottledException extends RuntimeException {
+
+    public GeminiThrottledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,43 @@
+package com.mentoai.mentoai.service.gemini;
+
+import java.util.function.Supplier;
+
+/**
+ * Gemini 호출의 트래픽 구분. 사용자 요청(INTERACTIVE)과 적재/색인 작업(BACKGROUND)이
+ * 서로 다른 동시 호출 한도를 사용하도록 현재 스레드에 구분을 기록합니다.
+ */
+public enum GeminiTrafficClass {
+    INTERACTIVE,
+    BACKGROUND;
+
+    private static final ThreadLocal<GeminiTrafficClass> CURRENT = new ThreadLocal<>();
+
+    public static GeminiTrafficClass current() {
+        GeminiTrafficClass current = CURRENT.get();
+        return current != null ? current : INTERACTIVE;
+    }
+
+    /**
+     * action 안에서 발생하는 Gemini 호출을 BACKGROUND로 분류합니다.
+     */
+    public static <T> T callAsBackground(Supplier<T> action) {
+        GeminiTrafficClass previous = CURRENT.get();
+        CURRENT.set(BACKGROUND);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static void runAsBackground(Runnable action) {
+        callAsBackground(() -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,355 @@
+package com.mentoai.mentoai.service.gemini;
+
+import com.mentoai.mentoai.config.GeminiTrafficProperties;
+import com.mentoai.mentoai.support.TokenBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Gemini 외부 호출 보호막.
+ * 트래픽 구분별 bulkhead(동시 호출 permit)와 요청/토큰 버킷으로 호출량을 제한하고,
+ * 429 응답을 받으면 Retry-After(또는 지수 백오프)만큼 전체 호출을 멈춘 뒤 충전 속도를 낮췄다가 성공할 때마다 서서히 회복합니다.
+ */
+@Slf4j
+@Component
+public class GeminiTrafficGuard {
+
+    private static final double MIN_RATE_SCALE = 0.1;
+    private static final double RATE_RECOVERY_STEP = 0.05;
+    private static final Pattern RETRY_DELAY_PATTERN = Pattern.compile("\"retryDelay\"\\s*:\\s*\"(\\d+(?:\\.\\d+)?)s\"");
+
+    private final GeminiTrafficProperties properties;
+    private final Map<GeminiTrafficClass, Semaphore> bulkheads = new EnumMap<>(GeminiTrafficClass.class);
+    private final Map<GeminiTrafficClass, TrafficStats> stats = new EnumMap<>(GeminiTrafficClass.class);
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+    private final AtomicInteger consecutiveThrottles = new AtomicInteger();
+    private final AtomicLong throttledResponses = new AtomicLong();
+    private final LongSupplier nanoClock;
+    private final LongConsumer sleeper;
+    private volatile long pausedUntilNanos;
+
+    @Autowired
+    public GeminiTrafficGuard(GeminiTrafficProperties properties) {
+        this(properties, System::nanoTime, GeminiTrafficGuard::sleepNanos);
+    }
+
+    /**
+     * @param nanoClock 대기/버킷 충전 계산에 쓰는 시계
+     * @param sleeper   예약한 대기 시간(ns)만큼 기다리는 함수
+     */
+    GeminiTrafficGuard(GeminiTrafficProperties properties, LongSupplier nanoClock, LongConsumer sleeper) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        this.pausedUntilNanos = nanoClock.getAsLong();
+        bulkheads.put(GeminiTrafficClass.INTERACTIVE,
+                new Semaphore(Math.max(1, orDefault(properties.getInteractiveConcurrency(), 16)), true));
+        bulkheads.put(GeminiTrafficClass.BACKGROUND,
+                new Semaphore(Math.max(1, orDefault(properties.getBackgroundConcurrency(), 4)), true));
+        for (GeminiTrafficClass trafficClass : GeminiTrafficClass.values()) {
+            stats.put(trafficClass, new TrafficStats());
+        }
+        this.requestBucket = new TokenBucket(Math.max(1, orDefault(properties.getRequestsPerMinute(), 600)), nanoClock);
+        this.tokenBucket = new TokenBucket(Math.max(1, orDefault(properties.getTokensPerMinute(), 1000000)), nanoClock);
+    }
+
+    /**
+     * permit을 얻은 뒤 call을 실행합니다. 429를 받으면 백오프를 기록하고,
+     * BACKGROUND 호출은 설정된 횟수만큼 재시도합니다.
+     */
+    public <T> T execute(int estimatedTokens, Supplier<T> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        GeminiTrafficClass trafficClass = GeminiTrafficClass.current();
+        int maxRetries = trafficClass == GeminiTrafficClass.BACKGROUND
+                ? Math.max(0, orDefault(properties.getBackgroundMaxRetries(), 3)) : 0;
+        for (int attempt = 0; ; attempt++) {
+            try (Permit ignored = acquire(trafficClass, estimatedTokens)) {
+                T result = call.get();
+                onSuccess();
+                return result;
+            } catch (RuntimeException e) {
+                Duration retryAfter = throttleDelay(e);
+                if (retryAfter == null) {
+                    throw e;
+                }
+                onThrottled(retryAfter);
+                if (attempt >= maxRetries) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    public <T> Mono<T> executeAsync(int estimatedTokens, Mono<T> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        GeminiTrafficClass trafficClass = GeminiTrafficClass.current();
+        return Mono.usingWhen(
+                        acquireAsync(trafficClass, estimatedTokens),
+                        permit -> call,
+                        permit -> Mono.fromRunnable(permit::close))
+                .doOnSuccess(result -> onSuccess())
+                .doOnError(this::recordIfThrottled);
+    }
+
+    /**
+     * 스트리밍 호출용. 스트림이 끝날 때까지 permit을 유지합니다.
+     */
+    public <T> Flux<T> executeStream(int estimatedTokens, Flux<T> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        GeminiTrafficClass trafficClass = GeminiTrafficClass.current();
+        return Flux.usingWhen(
+                        acquireAsync(trafficClass, estimatedTokens),
+                        permit -> call,
+                        permit -> Mono.fromRunnable(permit::close))
+                .doOnComplete(this::onSuccess)
+                .doOnError(this::recordIfThrottled);
+    }
+
+    /**
+     * 입력 길이로 토큰 수를 대략 추정합니다. 한글 비중이 높아 글자 3개당 1토큰보다 보수적으로 잡습니다.
+     */
+    public static int estimateTokens(String text) {
+        return text == null ? 0 : text.length() / 2 + 1;
+    }
+
+    public int expectedOutputTokens() {
+        return Math.max(0, orDefault(properties.getExpectedOutputTokens(), 1024));
+    }
+
+    double rateScale() {
+        return requestBucket.rateScale();
+    }
+
+    public Map<GeminiTrafficClass, TrafficSnapshot> snapshot() {
+        Map<GeminiTrafficClass, TrafficSnapshot> snapshot = new EnumMap<>(GeminiTrafficClass.class);
+        for (GeminiTrafficClass trafficClass : GeminiTrafficClass.values()) {
+            snapshot.put(trafficClass, stats.get(trafficClass).snapshot(bulkheads.get(trafficClass).availablePermits()));
+        }
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats-log-interval-ms:300000}")
+    public void logStats() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        snapshot().forEach((trafficClass, snapshot) ->
+                log.info("Gemini traffic stats [{}]: acquired={} rejected={} avgWaitMs={} maxWaitMs={} availablePermits={}",
+                        trafficClass, snapshot.acquired(), snapshot.rejected(),
+                        String.format("%.1f", snapshot.averageWaitMs()), snapshot.maxWaitMs(), snapshot.availablePermits()));
+        log.info("Gemini rate limiter: throttled429={} rateScale={}",
+                throttledResponses.get(), String.format("%.2f", requestBucket.rateScale()));
+    }
+
+    private Mono<Permit> acquireAsync(GeminiTrafficClass trafficClass, int estimatedTokens) {
+        // 대기가 필요한 경우 sleep하므로 이벤트 루프가 아닌 boundedElastic에서 획득
+        return Mono.fromCallable(() -> acquire(trafficClass, estimatedTokens))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Permit acquire(GeminiTrafficClass trafficClass, int estimatedTokens) {
+        TrafficStats trafficStats = stats.get(trafficClass);
+        Semaphore bulkhead = bulkheads.get(trafficClass);
+        long start = nanoClock.getAsLong();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxWaitMs(trafficClass));
+
+        try {
+            if (!bulkhead.tryAcquire(Math.max(0L, deadline - nanoClock.getAsLong()), TimeUnit.NANOSECONDS)) {
+                trafficStats.rejected.incrementAndGet();
+                throw new GeminiThrottledException("Gemini " + trafficClass + " bulkhead is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeminiThrottledException("Interrupted while waiting for Gemini permit");
+        }
+
+        try {
+            long pauseNanos = pausedUntilNanos - nanoClock.getAsLong();
+            long remaining = deadline - nanoClock.getAsLong();
+            if (pauseNanos > remaining) {
+                throw new GeminiThrottledException("Gemini calls are paused after 429 responses");
+            }
+
+            long requestWait = requestBucket.tryReserve(1, Math.max(0L, remaining));
+            if (requestWait < 0) {
+                throw new GeminiThrottledException("Gemini request rate limit exceeded");
+            }
+            long tokenWait = tokenBucket.tryReserve(Math.max(1, estimatedTokens), Math.max(0L, remaining));
+            if (tokenWait < 0) {
+                requestBucket.refund(1);
+                throw new GeminiThrottledException("Gemini token rate limit exceeded");
+            }
+
+            long waitNanos = Math.max(pauseNanos, Math.max(requestWait, tokenWait));
+            if (waitNanos > 0) {
+                sleeper.accept(waitNanos);
+            }
+            trafficStats.recordAcquired(nanoClock.getAsLong() - start);
+            return bulkhead::release;
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            if (e instanceof GeminiThrottledException) {
+                trafficStats.rejected.incrementAndGet();
+            }
+            throw e;
+        }
+    }
+
+    private void onSuccess() {
+        consecutiveThrottles.set(0);
+        double scale = requestBucket.rateScale();
+        if (scale < 1.0) {
+            double recovered = Math.min(1.0, scale + RATE_RECOVERY_STEP);
+            requestBucket.setRateScale(recovered);
+            tokenBucket.setRateScale(recovered);
+        }
+    }
+
+    private void recordIfThrottled(Throwable error) {
+        Duration retryAfter = throttleDelay(error);
+        if (retryAfter != null) {
+            onThrottled(retryAfter);
+        }
+    }
+
+    private void onThrottled(Duration retryAfter) {
+        throttledResponses.incrementAndGet();
+        int throttles = consecutiveThrottles.incrementAndGet();
+        long pauseMs = retryAfter.isZero() ? backoffMs(throttles) : retryAfter.toMillis();
+        long until = nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(pauseMs);
+        synchronized (this) {
+            if (until - pausedUntilNanos > 0) {
+                pausedUntilNanos = until;
+            }
+        }
+        double scale = Math.max(MIN_RATE_SCALE, requestBucket.rateScale() * 0.5);
+        requestBucket.setRateScale(scale);
+        tokenBucket.setRateScale(scale);
+        log.warn("Gemini returned 429 ({} in a row). Pausing calls for {}ms, rateScale={}",
+                throttles, pauseMs, String.format("%.2f", scale));
+    }
+
+    private long backoffMs(int throttles) {
+        long initial = Math.max(1, orDefault(properties.getBackoffInitialMs(), 1000));
+        long max = Math.max(initial, orDefault(properties.getBackoffMaxMs(), 60000));
+        int shift = Math.min(20, Math.max(0, throttles - 1));
+        return Math.min(max, initial << shift);
+    }
+
+    /**
+     * 429 응답이면 대기 시간을 반환합니다(힌트가 없으면 Duration.ZERO). 429가 아니면 null.
+     */
+    static Duration throttleDelay(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof RestClientResponseException restError && restError.getStatusCode().value() == 429) {
+                return parseRetryAfter(restError.getResponseHeaders(), restError.getResponseBodyAsString());
+            }
+            if (current instanceof WebClientResponseException webError && webError.getStatusCode().value() == 429) {
+                return parseRetryAfter(webError.getHeaders(), webError.getResponseBodyAsString());
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    private static Duration parseRetryAfter(HttpHeaders headers, String body) {
+        String header = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (header != null) {
+            try {
+                return Duration.ofSeconds(Math.max(0L, Long.parseLong(header.trim())));
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 지원하지 않고 백오프 사용
+            }
+        }
+        if (body != null) {
+            // Gemini는 RetryInfo.retryDelay("12s")로 대기 시간을 알려줌
+            Matcher matcher = RETRY_DELAY_PATTERN.matcher(body);
+            if (matcher.find()) {
+                return Duration.ofMillis((long) (Double.parseDouble(matcher.group(1)) * 1000));
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    private long maxWaitMs(GeminiTrafficClass trafficClass) {
+        return trafficClass == GeminiTrafficClass.BACKGROUND
+                ? Math.max(0, orDefault(properties.getBackgroundMaxWaitMs(), 120000))
+                : Math.max(0, orDefault(properties.getInteractiveMaxWaitMs(), 3000));
+    }
+
+    private static void sleepNanos(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeminiThrottledException("Interrupted while waiting for Gemini rate limit");
+        }
+    }
+
+    private static int orDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * 획득한 bulkhead permit. close 시 반환합니다.
+     */
+    @FunctionalInterface
+    private interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class TrafficStats {
+        private final AtomicLong acquired = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        void recordAcquired(long waitNanos) {
+            acquired.incrementAndGet();
+            totalWaitNanos.addAndGet(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        TrafficSnapshot snapshot(int availablePermits) {
+            long count = acquired.get();
+            double averageWaitMs = count == 0 ? 0.0 : totalWaitNanos.get() / (double) count / 1_000_000.0;
+            return new TrafficSnapshot(count, rejected.get(), averageWaitMs,
+                    TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()), availablePermits);
+        }
+    }
+
+    public record TrafficSnapshot(long acquired, long rejected, double averageWaitMs, long maxWaitMs,
+                                  int availablePermits) {
+    }
+}
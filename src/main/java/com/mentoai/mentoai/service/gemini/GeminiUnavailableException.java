@@ -0,0 +1,12 @@
+package com.mentoai.mentoai.service.gemini;
+
+/**
+ * 서킷 브레이커가 열려 있어 Gemini 호출을 시도하지 않고 즉시 실패할 때 발생합니다.
+ * 호출부의 기존 fallback(점수 기반 추천, 키워드 검색 등)이 그대로 동작합니다.
+ */
+public class GeminiUnavailableException extends RuntimeException {
+
+    public GeminiUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,185 @@
+package com.mentoai.mentoai.service.gemini;
+
+import com.mentoai.mentoai.config.ResponseCacheProperties;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProviders;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import com.mentoai.mentoai.support.BoundedTtlCache;
+import com.mentoai.mentoai.support.ContentHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * generateText 응답 캐시.
+ * 1단계는 (모델, namespace, 프롬프트) 해시의 정확 일치, 2단계(선택)는 namespace 안에서
+ * 사용자 질의 임베딩의 코사인 유사도가 임계값 이상인 기존 응답을 재사용합니다.
+ */
+@Slf4j
+@Component
+public class GenerationResponseCache {
+
+    private final ResponseCacheProperties properties;
+    private final EmbeddingProviders embeddingProviders;
+    private final BoundedTtlCache<String, String> exactCache;
+    private final Map<String, SemanticTier> semanticTiers = new ConcurrentHashMap<>();
+    private final AtomicLong semanticHits = new AtomicLong();
+    private final AtomicLong semanticMisses = new AtomicLong();
+
+    // EmbeddingProviders -> GeminiEmbeddingProvider -> GeminiService -> 이 캐시 순환을 끊기 위해 지연 주입
+    public GenerationResponseCache(ResponseCacheProperties properties, @Lazy EmbeddingProviders embeddingProviders) {
+        this.properties = properties;
+        this.embeddingProviders = embeddingProviders;
+        int maxEntries = properties.getMaxEntries() != null ? properties.getMaxEntries() : 1000;
+        this.exactCache = new BoundedTtlCache<>(maxEntries, ttlMillis());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 캐시된 응답을 반환합니다. 없으면 null.
+     */
+    public String get(TextCacheOptions options, String model, String prompt) {
+        if (!isEnabled() || options == null || prompt == null) {
+            return null;
+        }
+        String exact = exactCache.get(exactKey(options, model, prompt));
+        if (exact != null || !isSemanticApplicable(options)) {
+            return exact;
+        }
+
+        try {
+            EmbeddingVector embedding = semanticEmbedding(options);
+            String similar = semanticTier(options, model).find(embedding, semanticThreshold());
+            if (similar != null) {
+                semanticHits.incrementAndGet();
+                return similar;
+            }
+            semanticMisses.incrementAndGet();
+        } catch (Exception e) {
+            log.warn("Semantic response cache lookup failed ({}): {}", options.namespace(), e.getMessage());
+        }
+        return null;
+    }
+
+    public void put(TextCacheOptions options, String model, String prompt, String response) {
+        if (!isEnabled() || options == null || prompt == null || response == null || response.isBlank()) {
+            return;
+        }
+        exactCache.put(exactKey(options, model, prompt), response);
+        if (!isSemanticApplicable(options)) {
+            return;
+        }
+        try {
+            semanticTier(options, model).add(semanticEmbedding(options), response);
+        } catch (Exception e) {
+            log.warn("Failed to store semantic response cache entry ({}): {}", options.namespace(), e.getMessage());
+        }
+    }
+
+    public void invalidateAll() {
+        exactCache.invalidateAll();
+        semanticTiers.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats-log-interval-ms:300000}")
+    public void logStats() {
+        if (!isEnabled()) {
+            return;
+        }
+        BoundedTtlCache.CacheStats stats = exactCache.stats();
+        log.info("Response cache stats: exact size={} hits={} misses={} hitRate={}, semantic hits={} misses={}",
+                stats.size(), stats.hits(), stats.misses(), String.format("%.3f", stats.hitRate()),
+                semanticHits.get(), semanticMisses.get());
+    }
+
+    private boolean isSemanticApplicable(TextCacheOptions options) {
+        return properties.isSemanticEnabled() && options.hasSemanticText();
+    }
+
+    private EmbeddingVector semanticEmbedding(TextCacheOptions options) {
+        return embeddingProviders.byName(properties.getSemanticProvider())
+                .embed(EmbeddingCache.normalize(options.semanticText()))
+                .normalized();
+    }
+
+    private SemanticTier semanticTier(TextCacheOptions options, String model) {
+        int maxEntries = properties.getSemanticMaxEntries() != null ? properties.getSemanticMaxEntries() : 500;
+        return semanticTiers.computeIfAbsent(model + ":" + options.namespace(),
+                key -> new SemanticTier(Math.max(1, maxEntries), ttlMillis()));
+    }
+
+    private double semanticThreshold() {
+        return properties.getSemanticThreshold() != null ? properties.getSemanticThreshold() : 0.95;
+    }
+
+    private long ttlMillis() {
+        long ttlSeconds = properties.getTtlSeconds() != null ? properties.getTtlSeconds() : 0L;
+        return ttlSeconds * 1000L;
+    }
+
+    private static String exactKey(TextCacheOptions options, String model, String prompt) {
+        return ContentHash.sha256Hex(model, options.namespace(), prompt);
+    }
+
+    /**
+     * namespace 하나의 의미 캐시. 항목 수가 적으므로 선형 탐색합니다.
+     */
+    private static final class SemanticTier {
+
+        private final int maxEntries;
+        private final long ttlNanos;
+        private final ArrayDeque<SemanticEntry> entries = new ArrayDeque<>();
+
+        private SemanticTier(int maxEntries, long ttlMillis) {
+            this.maxEntries = maxEntries;
+            this.ttlNanos = ttlMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(ttlMillis) : Long.MAX_VALUE;
+        }
+
+        synchronized String find(EmbeddingVector embedding, double threshold) {
+            long now = System.nanoTime();
+            SemanticEntry best = null;
+            double bestScore = threshold;
+            Iterator<SemanticEntry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                SemanticEntry entry = iterator.next();
+                if (entry.isExpired(now)) {
+                    iterator.remove();
+                    continue;
+                }
+                if (entry.embedding().dimension() != embedding.dimension()) {
+                    continue;
+                }
+                double score = entry.embedding().dot(embedding);
+                if (score >= bestScore) {
+                    best = entry;
+                    bestScore = score;
+                }
+            }
+            return best != null ? best.response() : null;
+        }
+
+        synchronized void add(EmbeddingVector embedding, String response) {
+            long expiresAt = ttlNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + ttlNanos;
+            entries.addLast(new SemanticEntry(embedding, response, expiresAt));
+            while (entries.size() > maxEntries) {
+                entries.pollFirst();
+            }
+        }
+    }
+
+    private record SemanticEntry(EmbeddingVector embedding, String response, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return expiresAtNanos != Long.MAX_VALUE && now - expiresAtNanos >= 0;
+        }
+    }
+}
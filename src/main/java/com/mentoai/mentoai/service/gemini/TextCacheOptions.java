@@ -0,0 +1,22 @@
+package com.mentoai.mentoai.service.gemini;
+
+/**
+ * generateText 응답 캐시 옵션. 호출부마다 namespace를 달리해 서로 다른 프롬프트 용도끼리 섞이지 않게 합니다.
+ *
+ * @param namespace    호출부 구분 (예: intent, summary)
+ * @param semanticText 의미 캐시에서 비교할 텍스트(보통 사용자 질의). null이면 정확 일치 캐시만 사용
+ */
+public record TextCacheOptions(String namespace, String semanticText) {
+
+    public static TextCacheOptions exact(String namespace) {
+        return new TextCacheOptions(namespace, null);
+    }
+
+    public static TextCacheOptions semantic(String namespace, String semanticText) {
+        return new TextCacheOptions(namespace, semanticText);
+    }
+
+    public boolean hasSemanticText() {
+        return semanticText != null && !semanticText.isBlank();
+    }
+}
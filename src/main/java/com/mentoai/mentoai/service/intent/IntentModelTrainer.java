@@ -0,0 +1,251 @@
+package com.mentoai.mentoai.service.intent;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentoai.mentoai.config.IntentClassifierProperties;
+import com.mentoai.mentoai.entity.RecommendChatLogEntity;
+import com.mentoai.mentoai.repository.RecommendChatLogRepository;
+import com.mentoai.mentoai.service.RecommendChatLogService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 초기 예시 파일, 추천 키워드, recommend_chat_logs 이력으로 추천 의도 모델을 재학습합니다.
+ * 채팅 로그는 LLM이 명시한 판정(단일 호출 응답의 recommendationIntent, 2단계 호출 모드에서 request_payload에
+ * 기록한 불확실 구간 YES/NO)이 있는 경우만 라벨로 사용하고,
+ * 로컬 분류기가 스스로 확정한 요청은 자기 판정을 다시 학습하지 않도록 제외합니다.
+ * 추천 경로 로그가 대부분이므로 클래스 비율이 historyMaxClassRatio를 넘지 않게 이력 예시를 줄입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntentModelTrainer {
+
+    private final IntentClassifierProperties properties;
+    private final RecommendIntentClassifier classifier;
+    private final RecommendChatLogRepository recommendChatLogRepository;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+
+    @Scheduled(cron = "${recommend.intent-classifier.retrain-cron:-}")
+    public void scheduledRetrain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            retrain();
+        } catch (Exception e) {
+            log.warn("Scheduled intent model retraining failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 모델을 재학습해 분류기에 반영하고, modelOutputPath가 있으면 파일로 저장합니다.
+     */
+    @Transactional(readOnly = true)
+    public NaiveBayesIntentModel retrain() throws IOException {
+        List<NaiveBayesIntentModel.Example> examples = new ArrayList<>(loadSeedExamples());
+        examples.addAll(keywordExamples());
+        double maxClassRatio = properties.getHistoryMaxClassRatio() != null
+                ? Math.max(1.0, properties.getHistoryMaxClassRatio()) : 3.0;
+        List<NaiveBayesIntentModel.Example> history = balanceHistory(examples, loadHistoryExamples(), maxClassRatio);
+        examples.addAll(history);
+
+        NaiveBayesIntentModel model = NaiveBayesIntentModel.train(
+                examples,
+                properties.getMinGram() != null ? properties.getMinGram() : 2,
+                properties.getMaxGram() != null ? properties.getMaxGram() : 3,
+                properties.getAlpha() != null ? properties.getAlpha() : 1.0
+        );
+        if (StringUtils.hasText(properties.getModelOutputPath())) {
+            writeModel(model, Path.of(properties.getModelOutputPath()));
+        }
+        classifier.replaceModel(model);
+        log.info("Retrained intent model (examples={}, fromHistory={}, vocabulary={})",
+                examples.size(), history.size(), model.vocabularySize());
+        return model;
+    }
+
+    /**
+     * 키워드 하나와 흔한 요청 표현을 조합한 추천 예시.
+     */
+    static List<NaiveBayesIntentModel.Example> keywordExamples() {
+        List<NaiveBayesIntentModel.Example> examples = new ArrayList<>();
+        for (String keyword : RecommendIntentClassifier.RECOMMENDATION_KEYWORDS) {
+            examples.add(new NaiveBayesIntentModel.Example(keyword, true));
+            examples.add(new NaiveBayesIntentModel.Example(keyword + " 추천해줘", true));
+        }
+        return examples;
+    }
+
+    static List<NaiveBayesIntentModel.Example> readExamples(Reader source) throws IOException {
+        List<NaiveBayesIntentModel.Example> examples = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            int tab = line.indexOf('\t');
+            if (tab <= 0) {
+                continue;
+            }
+            String label = line.substring(0, tab).trim();
+            String text = line.substring(tab + 1).trim();
+            examples.add(new NaiveBayesIntentModel.Example(text, "RECOMMEND".equalsIgnoreCase(label)));
+        }
+        return examples;
+    }
+
+    private List<NaiveBayesIntentModel.Example> loadSeedExamples() throws IOException {
+        Resource resource = resourceLoader.getResource(properties.getSeedLocation());
+        if (!resource.exists()) {
+            log.warn("Intent seed examples not found at {}", properties.getSeedLocation());
+            return List.of();
+        }
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            return readExamples(reader);
+        }
+    }
+
+    /**
+     * 기본 예시와 합쳤을 때 어느 클래스도 다른 클래스의 maxClassRatio배를 넘지 않도록 이력 예시를 앞(최신)에서부터 남깁니다.
+     */
+    static List<NaiveBayesIntentModel.Example> balanceHistory(List<NaiveBayesIntentModel.Example> base,
+                                                              List<NaiveBayesIntentModel.Example> history,
+                                                              double maxClassRatio) {
+        long basePositives = base.stream().filter(NaiveBayesIntentModel.Example::recommendation).count();
+        long baseNegatives = base.size() - basePositives;
+        long historyPositives = history.stream().filter(NaiveBayesIntentModel.Example::recommendation).count();
+        long historyNegatives = history.size() - historyPositives;
+        // 비율이 1 이상이면 두 한도가 동시에 걸리지 않으므로 상대 클래스는 전부 사용한다고 보고 계산
+        long positiveLimit = Math.max(0L, (long) (maxClassRatio * (baseNegatives + historyNegatives)) - basePositives);
+        long negativeLimit = Math.max(0L, (long) (maxClassRatio * (basePositives + historyPositives)) - baseNegatives);
+
+        List<NaiveBayesIntentModel.Example> balanced = new ArrayList<>();
+        long positives = 0;
+        long negatives = 0;
+        for (NaiveBayesIntentModel.Example example : history) {
+            if (example.recommendation()) {
+                if (positives < positiveLimit) {
+                    balanced.add(example);
+                    positives++;
+                }
+            } else if (negatives < negativeLimit) {
+                balanced.add(example);
+                negatives++;
+            }
+        }
+        if (balanced.size() < history.size()) {
+            log.info("Balanced intent history examples: kept {}/{} (positives {}/{}, negatives {}/{})",
+                    balanced.size(), history.size(), positives, historyPositives, negatives, historyNegatives);
+        }
+        return balanced;
+    }
+
+    private List<NaiveBayesIntentModel.Example> loadHistoryExamples() {
+        int limit = properties.getHistoryLimit() != null ? Math.max(0, properties.getHistoryLimit()) : 5000;
+        if (limit == 0) {
+            return List.of();
+        }
+        List<RecommendChatLogEntity> logs = recommendChatLogRepository.findByUserQueryIsNotNull(
+                PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt")));
+        return historyExamples(logs);
+    }
+
+    /**
+     * LLM이 명시한 판정이 있고 로컬 분류기가 확정하지 않은 로그만 학습 예시로 변환합니다.
+     */
+    List<NaiveBayesIntentModel.Example> historyExamples(List<RecommendChatLogEntity> logs) {
+        List<NaiveBayesIntentModel.Example> examples = new ArrayList<>();
+        for (RecommendChatLogEntity chatLog : logs) {
+            if (!StringUtils.hasText(chatLog.getUserQuery()) || isDecidedByClassifier(chatLog)) {
+                continue;
+            }
+            Boolean intent = llmIntentVerdict(chatLog);
+            if (intent != null) {
+                examples.add(new NaiveBayesIntentModel.Example(chatLog.getUserQuery(), intent));
+            }
+        }
+        return examples;
+    }
+
+    /**
+     * request_payload의 불확실 구간 LLM 판정, 없으면 단일 호출 응답의 recommendationIntent. 둘 다 없으면 null.
+     */
+    private Boolean llmIntentVerdict(RecommendChatLogEntity chatLog) {
+        Boolean recorded = recordedIntentVerdict(chatLog);
+        if (recorded != null) {
+            return recorded;
+        }
+        String response = chatLog.getGeminiResponse();
+        if (response == null || !response.contains("recommendationIntent") || response.indexOf('{') < 0) {
+            return null;
+        }
+        try {
+            JsonNode intent = objectMapper.readTree(response.substring(response.indexOf('{')))
+                    .path("recommendationIntent");
+            return intent.isBoolean() ? intent.asBoolean() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private Boolean recordedIntentVerdict(RecommendChatLogEntity chatLog) {
+        String payload = chatLog.getRequestPayload();
+        if (payload == null || !payload.contains(RecommendChatLogService.LLM_INTENT_VERDICT_FIELD)) {
+            return null;
+        }
+        try {
+            JsonNode verdict = objectMapper.readTree(payload).path(RecommendChatLogService.LLM_INTENT_VERDICT_FIELD);
+            return verdict.isBoolean() ? verdict.asBoolean() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private boolean isDecidedByClassifier(RecommendChatLogEntity chatLog) {
+        String payload = chatLog.getRequestPayload();
+        if (payload == null || !payload.contains(RecommendChatLogService.INTENT_FROM_CLASSIFIER_FIELD)) {
+            return false;
+        }
+        try {
+            return objectMapper.readTree(payload).path(RecommendChatLogService.INTENT_FROM_CLASSIFIER_FIELD).asBoolean(false);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void writeModel(NaiveBayesIntentModel model, Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        // 다시 로드하는 쪽이 쓰다 만 파일을 읽지 않도록 임시 파일에 쓴 뒤 교체
+        Path temp = Files.createTempFile(parent, "intent-model", ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            model.write(writer);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
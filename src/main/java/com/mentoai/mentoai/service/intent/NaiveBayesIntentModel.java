@@ -0,0 +1,197 @@
+package com.mentoai.mentoai.service.intent;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 추천 의도(RECOMMEND/OTHER) 이진 분류용 다항 나이브 베이즈 모델.
+ * 특징은 질의의 단어와 단어 경계를 표시한 문자 n-gram이며, 한글은 음절 단위로 잘리므로
+ * "공모전추천", "공모전 좀 추천해줘"처럼 띄어쓰기가 달라도 같은 n-gram을 공유합니다.
+ * 모델은 불변이며 탭 구분 텍스트로 저장/로드합니다.
+ */
+public final class NaiveBayesIntentModel {
+
+    private static final String HEADER = "# mentoai recommend-intent naive-bayes model";
+    private static final int RECOMMEND = 0;
+    private static final int OTHER = 1;
+
+    private final int minGram;
+    private final int maxGram;
+    private final double alpha;
+    private final long[] docCounts;
+    private final long[] featureTotals;
+    private final Map<String, long[]> featureCounts;
+
+    private NaiveBayesIntentModel(int minGram,
+                                  int maxGram,
+                                  double alpha,
+                                  long[] docCounts,
+                                  Map<String, long[]> featureCounts) {
+        this.minGram = minGram;
+        this.maxGram = maxGram;
+        this.alpha = alpha;
+        this.docCounts = docCounts;
+        this.featureCounts = featureCounts;
+        this.featureTotals = new long[2];
+        for (long[] counts : featureCounts.values()) {
+            featureTotals[RECOMMEND] += counts[RECOMMEND];
+            featureTotals[OTHER] += counts[OTHER];
+        }
+    }
+
+    public static NaiveBayesIntentModel train(List<Example> examples, int minGram, int maxGram, double alpha) {
+        if (minGram < 1 || maxGram < minGram) {
+            throw new IllegalArgumentException("Invalid n-gram range: " + minGram + ".." + maxGram);
+        }
+        if (alpha <= 0) {
+            throw new IllegalArgumentException("Smoothing alpha must be positive.");
+        }
+        long[] docCounts = new long[2];
+        Map<String, long[]> featureCounts = new HashMap<>();
+        for (Example example : examples) {
+            if (example.text() == null || example.text().isBlank()) {
+                continue;
+            }
+            int label = example.recommendation() ? RECOMMEND : OTHER;
+            docCounts[label]++;
+            for (String feature : features(example.text(), minGram, maxGram)) {
+                featureCounts.computeIfAbsent(feature, key -> new long[2])[label]++;
+            }
+        }
+        if (docCounts[RECOMMEND] == 0 || docCounts[OTHER] == 0) {
+            throw new IllegalArgumentException("Training data must contain both recommendation and other examples.");
+        }
+        return new NaiveBayesIntentModel(minGram, maxGram, alpha, docCounts, featureCounts);
+    }
+
+    /**
+     * 질의가 추천 요청일 사후 확률 P(RECOMMEND | query).
+     */
+    public double recommendationProbability(String query) {
+        double vocabulary = Math.max(1, featureCounts.size());
+        double recommendDenominator = Math.log(featureTotals[RECOMMEND] + alpha * vocabulary);
+        double otherDenominator = Math.log(featureTotals[OTHER] + alpha * vocabulary);
+
+        double logRecommend = Math.log(docCounts[RECOMMEND]);
+        double logOther = Math.log(docCounts[OTHER]);
+        for (String feature : features(query, minGram, maxGram)) {
+            long[] counts = featureCounts.get(feature);
+            if (counts == null) {
+                // 학습에 없던 특징은 두 클래스에 거의 같은 영향을 주므로 무시
+                continue;
+            }
+            logRecommend += Math.log(counts[RECOMMEND] + alpha) - recommendDenominator;
+            logOther += Math.log(counts[OTHER] + alpha) - otherDenominator;
+        }
+        // 로그 공간에서 바로 로지스틱 변환해 언더플로 방지
+        return 1.0 / (1.0 + Math.exp(logOther - logRecommend));
+    }
+
+    public int vocabularySize() {
+        return featureCounts.size();
+    }
+
+    public long documentCount() {
+        return docCounts[RECOMMEND] + docCounts[OTHER];
+    }
+
+    public void write(Writer writer) throws IOException {
+        writer.write(HEADER + "\n");
+        writer.write("gram\t" + minGram + "\t" + maxGram + "\n");
+        writer.write("alpha\t" + alpha + "\n");
+        writer.write("docs\t" + docCounts[RECOMMEND] + "\t" + docCounts[OTHER] + "\n");
+        // 정렬해서 저장해 같은 학습 데이터면 같은 파일이 되도록 함
+        for (Map.Entry<String, long[]> entry : new TreeMap<>(featureCounts).entrySet()) {
+            long[] counts = entry.getValue();
+            writer.write("f\t" + entry.getKey() + "\t" + counts[RECOMMEND] + "\t" + counts[OTHER] + "\n");
+        }
+        writer.flush();
+    }
+
+    public static NaiveBayesIntentModel read(Reader source) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        int minGram = 2;
+        int maxGram = 3;
+        double alpha = 1.0;
+        long[] docCounts = new long[2];
+        Map<String, long[]> featureCounts = new HashMap<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\t");
+            try {
+                switch (parts[0]) {
+                    case "gram" -> {
+                        minGram = Integer.parseInt(parts[1]);
+                        maxGram = Integer.parseInt(parts[2]);
+                    }
+                    case "alpha" -> alpha = Double.parseDouble(parts[1]);
+                    case "docs" -> {
+                        docCounts[RECOMMEND] = Long.parseLong(parts[1]);
+                        docCounts[OTHER] = Long.parseLong(parts[2]);
+                    }
+                    case "f" -> featureCounts.put(parts[1],
+                            new long[]{Long.parseLong(parts[2]), Long.parseLong(parts[3])});
+                    default -> throw new IOException("Unknown record type '" + parts[0] + "' at line " + lineNumber);
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("Malformed intent model at line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        if (docCounts[RECOMMEND] == 0 || docCounts[OTHER] == 0) {
+            throw new IOException("Intent model has no documents for one of the classes.");
+        }
+        return new NaiveBayesIntentModel(minGram, maxGram, alpha, docCounts, featureCounts);
+    }
+
+    /**
+     * 단어 자체와 "<단어>"의 문자 n-gram을 특징으로 사용합니다.
+     */
+    static List<String> features(String text, int minGram, int maxGram) {
+        List<String> features = new ArrayList<>();
+        if (text == null) {
+            return features;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                addTokenFeatures(features, normalized.substring(start, i), minGram, maxGram);
+                start = -1;
+            }
+        }
+        return features;
+    }
+
+    private static void addTokenFeatures(List<String> features, String token, int minGram, int maxGram) {
+        features.add("w:" + token);
+        String bounded = "<" + token + ">";
+        for (int n = minGram; n <= maxGram; n++) {
+            for (int i = 0; i + n <= bounded.length(); i++) {
+                features.add(bounded.substring(i, i + n));
+            }
+        }
+    }
+
+    /**
+     * 학습 예시. recommendation=true면 활동 추천 요청.
+     */
+    public record Example(String text, boolean recommendation) {
+    }
+}
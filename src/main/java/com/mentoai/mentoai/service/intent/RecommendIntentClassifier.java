@@ -0,0 +1,143 @@
+package com.mentoai.mentoai.service.intent;
+
+import com.mentoai.mentoai.config.IntentClassifierProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 나이브 베이즈 모델로 추천 의도를 판별합니다.
+ * 추천 확률이 불확실 구간(lowerThreshold, upperThreshold) 안에 있으면 null을 반환해
+ * 호출 측이 LLM 판별로 넘어가도록 합니다. 모델은 시작 시 로드하고, 파일이 바뀌면 다시 로드합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendIntentClassifier {
+
+    /**
+     * 추천 의도 키워드. 분류기 학습 예시와 LLM/분류기 모두 실패할 때의 규칙 판별에 함께 사용.
+     */
+    public static final List<String> RECOMMENDATION_KEYWORDS = List.of(
+            "공모전", "대회", "콘테스트", "대외활동",
+            "채용", "취업", "공고", "잡", "모집", "지원", "인턴",
+            "해커톤", "ai", "데이터", "데이터사이언스"
+    );
+
+    private final IntentClassifierProperties properties;
+    private final ResourceLoader resourceLoader;
+
+    private volatile NaiveBayesIntentModel model;
+    private volatile long loadedModelTimestamp = -1L;
+
+    private final AtomicLong confidentDecisions = new AtomicLong();
+    private final AtomicLong uncertainDecisions = new AtomicLong();
+
+    @PostConstruct
+    void loadModel() {
+        if (properties.isEnabled()) {
+            reload();
+        }
+    }
+
+    /**
+     * 추천 의도가 확실하면 true/false, 불확실하거나 모델이 없으면 null.
+     */
+    public Boolean classify(String query) {
+        NaiveBayesIntentModel current = model;
+        if (!properties.isEnabled() || current == null || query == null || query.isBlank()) {
+            return null;
+        }
+        double probability = current.recommendationProbability(query);
+        double lower = properties.getLowerThreshold() != null ? properties.getLowerThreshold() : 0.2;
+        double upper = properties.getUpperThreshold() != null ? properties.getUpperThreshold() : 0.8;
+        if (probability >= upper) {
+            confidentDecisions.incrementAndGet();
+            return true;
+        }
+        if (probability <= lower) {
+            confidentDecisions.incrementAndGet();
+            return false;
+        }
+        uncertainDecisions.incrementAndGet();
+        log.debug("[intent] uncertain probability={} query='{}'", String.format("%.3f", probability), query);
+        return null;
+    }
+
+    public boolean isModelLoaded() {
+        return model != null;
+    }
+
+    /**
+     * 모델 파일을 다시 읽습니다. 실패하면 기존 모델을 유지합니다.
+     */
+    public synchronized boolean reload() {
+        Resource resource = resourceLoader.getResource(properties.getModelLocation());
+        if (!resource.exists()) {
+            log.warn("Intent model not found at {}; intent detection falls back to LLM.", properties.getModelLocation());
+            return false;
+        }
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            NaiveBayesIntentModel loaded = NaiveBayesIntentModel.read(reader);
+            model = loaded;
+            loadedModelTimestamp = lastModified(resource);
+            log.info("Loaded intent model from {} (documents={}, vocabulary={})",
+                    properties.getModelLocation(), loaded.documentCount(), loaded.vocabularySize());
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to load intent model from {}: {}", properties.getModelLocation(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 재학습한 모델로 교체합니다.
+     */
+    public void replaceModel(NaiveBayesIntentModel newModel) {
+        model = newModel;
+    }
+
+    @Scheduled(fixedDelayString = "${recommend.intent-classifier.reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Resource resource = resourceLoader.getResource(properties.getModelLocation());
+        long modified = resource.exists() ? lastModified(resource) : -1L;
+        // jar 안의 classpath 리소스처럼 수정 시각을 알 수 없으면 다시 읽지 않음
+        if (modified > 0 && modified != loadedModelTimestamp) {
+            reload();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats-log-interval-ms:300000}")
+    public void logStats() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long confident = confidentDecisions.get();
+        long uncertain = uncertainDecisions.get();
+        long total = confident + uncertain;
+        log.info("Intent classifier stats: confident={} uncertain(LLM)={} localRate={}",
+                confident, uncertain, String.format("%.3f", total == 0 ? 0.0 : (double) confident / total));
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.mentoai.mentoai.support;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 크기(LRU)와 TTL 기준으로 항목을 제거하는 단순 인메모리 캐시.
+ * 외부 캐시 라이브러리 없이 서비스 내부 캐시 용도로 사용합니다.
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public BoundedTtlCache(int maxEntries, long ttlMillis) {
+        this(maxEntries, ttlMillis, System::nanoTime);
+    }
+
+    public BoundedTtlCache(int maxEntries, long ttlMillis, LongSupplier nanoClock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(ttlMillis) : Long.MAX_VALUE;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 캐시된 값을 반환합니다. 없거나 만료된 경우 null.
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.isExpired(nanoClock.getAsLong())) {
+            entries.remove(key);
+            evictions.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        if (key == null || value == null) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        long expiresAt = ttlNanos == Long.MAX_VALUE ? Long.MAX_VALUE : now + ttlNanos;
+        entries.put(key, new Entry<>(value, expiresAt));
+        evictOverflow();
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 조건에 맞는 키를 모두 제거합니다.
+     */
+    public synchronized int invalidateIf(Predicate<K> predicate) {
+        int removed = 0;
+        Iterator<K> iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (predicate.test(iterator.next())) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.get(), misses.get(), evictions.get(), size());
+    }
+
+    private void evictOverflow() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        // 만료 항목을 먼저 정리하고, 그래도 넘치면 가장 오래 사용되지 않은 항목부터 제거
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && entries.size() > maxEntries) {
+            if (iterator.next().getValue().isExpired(now)) {
+                iterator.remove();
+                evictions.incrementAndGet();
+            }
+        }
+        iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && entries.size() > maxEntries) {
+            iterator.next();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return expiresAtNanos != Long.MAX_VALUE && now - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * 캐시 적중/미스 통계.
+     */
+    public record CacheStats(long hits, long misses, long evictions, int size) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
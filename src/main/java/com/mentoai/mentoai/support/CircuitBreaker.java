@@ -0,0 +1,177 @@
+package com.mentoai.mentoai.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 N건 호출의 실패율로 동작하는 서킷 브레이커.
+ * CLOSED에서 실패율이 임계값을 넘으면 OPEN이 되어 호출을 즉시 거절하고,
+ * openDuration이 지나면 HALF_OPEN에서 제한된 수의 시험 호출로 회복 여부를 판단합니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과 링 버퍼 (true = 실패)
+    private final boolean[] outcomes;
+    private int nextIndex;
+    private int recordedCalls;
+    private int recordedFailures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    public CircuitBreaker(String name,
+                          int windowSize,
+                          int minimumCalls,
+                          double failureRateThreshold,
+                          long openDurationMillis,
+                          int halfOpenProbes) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, openDurationMillis, halfOpenProbes, System::nanoTime);
+    }
+
+    CircuitBreaker(String name,
+                   int windowSize,
+                   int minimumCalls,
+                   double failureRateThreshold,
+                   long openDurationMillis,
+                   int halfOpenProbes,
+                   LongSupplier nanoClock) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive");
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]");
+        }
+        this.name = name;
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, openDurationMillis));
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출을 시작해도 되는지 확인합니다. true를 받은 호출자는 결과를
+     * onSuccess/onFailure/onIgnored 중 하나로 반드시 알려야 합니다.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+                rejectedCalls.incrementAndGet();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                rejectedCalls.incrementAndGet();
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            probeSuccesses++;
+            if (probeSuccesses >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recordedCalls >= minimumCalls && failureRate() >= failureRateThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 상대 서비스 상태와 무관하게 끝난 호출(잘못된 요청, 취소 등). 집계하지 않고 시험 호출 자리만 돌려줍니다.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return recordedCalls == 0 ? 0.0 : recordedFailures / (double) recordedCalls;
+    }
+
+    public long rejectedCalls() {
+        return rejectedCalls.get();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    private void record(boolean failure) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[nextIndex]) {
+                recordedFailures--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextIndex] = failure;
+        if (failure) {
+            recordedFailures++;
+        }
+        nextIndex = (nextIndex + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        switch (next) {
+            case OPEN -> {
+                openedAtNanos = nanoClock.getAsLong();
+                log.warn("Circuit breaker '{}' opened ({} -> OPEN, failureRate={})",
+                        name, previous, String.format("%.2f", failureRate()));
+            }
+            case HALF_OPEN -> log.info("Circuit breaker '{}' half-open, probing with {} calls", name, halfOpenProbes);
+            case CLOSED -> {
+                nextIndex = 0;
+                recordedCalls = 0;
+                recordedFailures = 0;
+                log.info("Circuit breaker '{}' closed", name);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.mentoai.mentoai.support;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 여러 문자열 조각을 0 바이트로 구분해 SHA-256(hex)으로 해시합니다.
+ * DB에 저장되는 콘텐츠 해시에도 쓰이므로, 출력 형식을 바꾸면 저장된 값이 모두 달라집니다.
+ * 캐시 키처럼 바뀌어도 되는 용도와 분리해 이 형식을 고정합니다.
+ */
+public final class ContentHash {
+
+    private ContentHash() {
+    }
+
+    public static String sha256Hex(String... parts) {
+        return sha256Hex(List.of(parts));
+    }
+
+    public static String sha256Hex(List<String> parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (int i = 0; i < parts.size(); i++) {
+                if (i > 0) {
+                    digest.update((byte) 0);
+                }
+                String part = parts.get(i);
+                digest.update((part != null ? part : "").getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
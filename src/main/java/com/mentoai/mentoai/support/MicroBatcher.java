@@ -0,0 +1,188 @@
+package com.mentoai.mentoai.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 동시에 들어오는 단건 요청을 짧은 시간 동안 모아 한 번의 배치 호출로 처리합니다.
+ * 배치 함수는 입력과 같은 순서, 같은 크기의 결과 리스트를 반환해야 합니다.
+ * 단건 함수가 있으면 배치가 실패했을 때 항목별로 다시 호출해, 한 항목의 오류가 같은 배치의 다른 요청에 번지지 않게 합니다.
+ * close()는 새 요청을 받지 않고 이미 들어온 요청을 모두 처리한 뒤 종료합니다.
+ */
+@Slf4j
+public class MicroBatcher<T, R> implements AutoCloseable {
+
+    private final String name;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Function<List<T>, List<R>> batchFunction;
+    private final Function<T, R> itemFunction;
+    private final Executor executor;
+    private final BlockingQueue<Pending<T, R>> queue = new LinkedBlockingQueue<>();
+    private final Thread collector;
+    private volatile boolean running = true;
+
+    public MicroBatcher(String name,
+                        int maxBatchSize,
+                        long maxWaitMillis,
+                        Function<List<T>, List<R>> batchFunction,
+                        Executor executor) {
+        this(name, maxBatchSize, maxWaitMillis, batchFunction, null, executor);
+    }
+
+    /**
+     * @param itemFunction 배치 실패 시 항목별로 다시 호출할 단건 함수 (null이면 배치 오류를 모든 요청에 전달)
+     */
+    public MicroBatcher(String name,
+                        int maxBatchSize,
+                        long maxWaitMillis,
+                        Function<List<T>, List<R>> batchFunction,
+                        Function<T, R> itemFunction,
+                        Executor executor) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, maxWaitMillis));
+        this.batchFunction = batchFunction;
+        this.itemFunction = itemFunction;
+        this.executor = executor;
+        this.collector = new Thread(this::collectLoop, name + "-batcher");
+        this.collector.setDaemon(true);
+        this.collector.start();
+    }
+
+    public CompletableFuture<R> submit(T item) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(closedException());
+            return future;
+        }
+        Pending<T, R> pending = new Pending<>(item, future);
+        queue.add(pending);
+        // close()와 경합해 수집 스레드가 이미 끝났다면 직접 실패 처리
+        if (!running && queue.remove(pending)) {
+            future.completeExceptionally(closedException());
+        }
+        return future;
+    }
+
+    private void collectLoop() {
+        while (running) {
+            List<Pending<T, R>> batch = new ArrayList<>(maxBatchSize);
+            try {
+                Pending<T, R> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending<T, R> next = remaining > 0
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                // close() 중 모으던 항목도 버리지 않고 처리
+                if (!batch.isEmpty()) {
+                    dispatch(batch);
+                }
+                break;
+            } catch (Exception e) {
+                log.error("{} batcher loop failed", name, e);
+            }
+        }
+        drainQueue();
+    }
+
+    private void drainQueue() {
+        List<Pending<T, R>> batch = new ArrayList<>(maxBatchSize);
+        Pending<T, R> pending;
+        while ((pending = queue.poll()) != null) {
+            batch.add(pending);
+            if (batch.size() >= maxBatchSize) {
+                dispatch(batch);
+                batch = new ArrayList<>(maxBatchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(List<Pending<T, R>> batch) {
+        try {
+            executor.execute(() -> execute(batch));
+        } catch (Exception e) {
+            // executor 포화 시 수집 스레드에서 직접 처리
+            execute(batch);
+        }
+    }
+
+    private void execute(List<Pending<T, R>> batch) {
+        List<T> inputs = batch.stream().map(Pending::item).toList();
+        try {
+            List<R> results = batchFunction.apply(inputs);
+            if (results == null || results.size() != inputs.size()) {
+                throw new IllegalStateException(name + " batch returned "
+                        + (results == null ? "null" : results.size()) + " results for " + inputs.size() + " inputs");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+        } catch (Exception e) {
+            if (itemFunction == null || batch.size() == 1) {
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+                return;
+            }
+            log.warn("{} batch of {} failed, retrying items individually: {}", name, batch.size(), e.getMessage());
+            batch.forEach(this::executeItem);
+        }
+    }
+
+    private void executeItem(Pending<T, R> pending) {
+        try {
+            pending.future().complete(itemFunction.apply(pending.item()));
+        } catch (Exception e) {
+            pending.future().completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        collector.interrupt();
+        try {
+            collector.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 수집 스레드가 제시간에 끝나지 않은 경우 남은 요청은 실패 처리
+        Pending<T, R> pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future().completeExceptionally(closedException());
+        }
+    }
+
+    private IllegalStateException closedException() {
+        return new IllegalStateException(name + " batcher is closed");
+    }
+
+    private record Pending<T, R>(T item, CompletableFuture<R> future) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.mentoai.mentoai.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나의 실행으로 합칩니다.
+ * 먼저 들어온 호출이 실제 작업을 수행하고, 진행 중에 들어온 호출은 같은 결과(또는 예외)를 공유합니다.
+ * 결과는 보관하지 않으므로 완료 이후의 호출은 다시 실행됩니다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong sharedCalls = new AtomicLong();
+
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            sharedCalls.incrementAndGet();
+            return await(existing);
+        }
+
+        executions.incrementAndGet();
+        try {
+            V value = supplier.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * execute의 비동기 버전. 동기 호출과 같은 진행 중 목록을 사용하므로 두 경로의 호출도 서로 합쳐집니다.
+     * 호출자마다 결과의 복사본을 반환하므로 한 호출자가 취소해도 다른 호출자에게 영향을 주지 않습니다.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> supplier) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            sharedCalls.incrementAndGet();
+            return existing.copy();
+        }
+
+        executions.incrementAndGet();
+        created.whenComplete((value, error) -> inFlight.remove(key, created));
+        try {
+            supplier.get().whenComplete((value, error) -> {
+                if (error != null) {
+                    created.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                } else {
+                    created.complete(value);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+        }
+        return created.copy();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    public long executions() {
+        return executions.get();
+    }
+
+    public long sharedCalls() {
+        return sharedCalls.get();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause.getMessage(), cause);
+        }
+    }
+}
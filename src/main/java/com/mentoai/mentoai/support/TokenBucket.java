@@ -0,0 +1,79 @@
+package com.mentoai.mentoai.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 분당 허용량 기준의 토큰 버킷. 예약 방식이라 대기가 필요한 호출은 기다릴 시간을 돌려받고,
+ * 허용 대기 시간을 넘기면 아무것도 차감하지 않습니다.
+ * rateScale로 충전 속도를 일시적으로 낮출 수 있습니다(429 대응).
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final LongSupplier nanoClock;
+    private double available;
+    private double rateScale = 1.0;
+    private long lastRefillNanos;
+
+    public TokenBucket(long permitsPerMinute) {
+        this(permitsPerMinute, System::nanoTime);
+    }
+
+    public TokenBucket(long permitsPerMinute, LongSupplier nanoClock) {
+        if (permitsPerMinute <= 0) {
+            throw new IllegalArgumentException("permitsPerMinute must be positive");
+        }
+        this.capacity = permitsPerMinute;
+        this.refillPerNano = permitsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.available = permitsPerMinute;
+        this.nanoClock = nanoClock;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * permits를 예약하고 사용 가능해질 때까지 기다려야 하는 시간(ns)을 반환합니다.
+     * 대기 시간이 maxWaitNanos를 넘으면 예약하지 않고 -1을 반환합니다.
+     */
+    public synchronized long tryReserve(double permits, long maxWaitNanos) {
+        refill(nanoClock.getAsLong());
+        double requested = Math.min(permits, capacity);
+        double deficit = requested - available;
+        long waitNanos = deficit <= 0 ? 0L : (long) Math.ceil(deficit / (refillPerNano * rateScale));
+        if (waitNanos > maxWaitNanos) {
+            return -1L;
+        }
+        available -= requested;
+        return waitNanos;
+    }
+
+    /**
+     * 예약했지만 사용하지 않은 permits를 돌려놓습니다.
+     */
+    public synchronized void refund(double permits) {
+        available = Math.min(capacity, available + Math.min(permits, capacity));
+    }
+
+    public synchronized void setRateScale(double rateScale) {
+        refill(nanoClock.getAsLong());
+        this.rateScale = Math.max(0.01, Math.min(1.0, rateScale));
+    }
+
+    public synchronized double rateScale() {
+        return rateScale;
+    }
+
+    public synchronized double available() {
+        refill(nanoClock.getAsLong());
+        return available;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            available = Math.min(capacity, available + elapsed * refillPerNano * rateScale);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- RAG 프롬프트 토큰 사용량 / 생성 지연 시간 기록
+ALTER TABLE recommend_chat_logs
+    ADD COLUMN IF NOT EXISTS prompt_token_estimate INTEGER,
+    ADD COLUMN IF NOT EXISTS prompt_tokens         INTEGER,
+    ADD COLUMN IF NOT EXISTS output_tokens         INTEGER,
+    ADD COLUMN IF NOT EXISTS generation_latency_ms BIGINT;
@@ -0,0 +1,10 @@
+-- 직무(target role) 임베딩 사전 계산 결과. 역할 문서 해시와 임베딩 모델이 같으면 재사용
+CREATE TABLE IF NOT EXISTS target_role_embeddings (
+    role_id       TEXT PRIMARY KEY REFERENCES target_roles(role_id) ON DELETE CASCADE,
+    content_hash  VARCHAR(64)  NOT NULL,
+    model_version VARCHAR(100) NOT NULL,
+    dimension     INTEGER      NOT NULL,
+    embedding     BYTEA        NOT NULL,
+    created_at    TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    updated_at    TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,10 @@
+-- 사용자 프로필 임베딩. 프로필 문서 해시와 임베딩 모델이 같으면 재사용
+CREATE TABLE IF NOT EXISTS user_profile_embeddings (
+    user_id       BIGINT PRIMARY KEY REFERENCES users(user_id) ON DELETE CASCADE,
+    content_hash  VARCHAR(64)  NOT NULL,
+    model_version VARCHAR(100) NOT NULL,
+    dimension     INTEGER      NOT NULL,
+    embedding     BYTEA        NOT NULL,
+    created_at    TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    updated_at    TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,45 @@
+package com.mentoai.mentoai.integration.embedding;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * JDK Vector API(incubator) 기반 SIMD 내적 커널.
+ * jdk.incubator.vector 모듈이 로드된 경우에만 VectorSimilarity가 리플렉션으로 생성합니다.
+ * 인큐베이터 모듈 경고가 전체 컴파일에 번지지 않도록 별도 소스셋(src/simd/java)에서 컴파일합니다.
+ * float 값을 double 레인으로 넓혀 누산하므로 스칼라 커널과 같은 정밀도를 가집니다.
+ */
+final class SimdDotProductKernel implements DotProductKernel {
+
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+    // double 레인 수와 같은 개수의 float를 읽어 한 번에 변환
+    private static final VectorSpecies<Float> FLOAT_SPECIES = VectorSpecies.of(
+            float.class, VectorShape.forBitSize(DOUBLE_SPECIES.length() * Float.SIZE));
+
+    @Override
+    public double dot(float[] a, float[] b) {
+        DoubleVector acc = DoubleVector.zero(DOUBLE_SPECIES);
+        int i = 0;
+        int bound = FLOAT_SPECIES.loopBound(a.length);
+        for (; i < bound; i += FLOAT_SPECIES.length()) {
+            DoubleVector va = (DoubleVector) FloatVector.fromArray(FLOAT_SPECIES, a, i)
+                    .convertShape(VectorOperators.F2D, DOUBLE_SPECIES, 0);
+            DoubleVector vb = (DoubleVector) FloatVector.fromArray(FLOAT_SPECIES, b, i)
+                    .convertShape(VectorOperators.F2D, DOUBLE_SPECIES, 0);
+            acc = va.fma(vb, acc);
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            sum += (double) a[i] * b[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public String name() {
+        return "simd-" + DOUBLE_SPECIES.vectorBitSize() + "bit";
+    }
+}
@@ -0,0 +1,53 @@
+package com.mentoai.mentoai.integration.embedding;
+
+import com.mentoai.mentoai.config.EmbeddingProviderProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashingEmbeddingProviderTest {
+
+    private HashingEmbeddingProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new HashingEmbeddingProvider(new EmbeddingProviderProperties());
+    }
+
+    @Test
+    @DisplayName("같은 텍스트는 항상 같은 단위 벡터로 임베딩된다")
+    void embed_Deterministic() {
+        // When
+        EmbeddingVector first = provider.embed("데이터 분석 공모전");
+        EmbeddingVector second = provider.embed("데이터  분석   공모전");
+
+        // Then
+        assertEquals(768, first.dimension());
+        assertTrue(first.isUnit());
+        assertEquals(1.0, first.norm(), 1e-6);
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 한글 단어도 원래 단어와 가깝게 표현된다")
+    void embed_KoreanParticles() {
+        // Given
+        EmbeddingVector query = provider.embed("데이터분석 스터디");
+
+        // When
+        double withParticle = VectorSimilarity.cosine(query, provider.embed("데이터분석을 함께하는 스터디"));
+        double unrelated = VectorSimilarity.cosine(query, provider.embed("백엔드 개발자 채용"));
+
+        // Then
+        assertTrue(withParticle > unrelated);
+        assertTrue(withParticle > 0.3);
+    }
+
+    @Test
+    @DisplayName("빈 텍스트는 임베딩할 수 없다")
+    void embed_BlankText() {
+        assertThrows(IllegalArgumentException.class, () -> provider.embed("  "));
+    }
+}
@@ -0,0 +1,133 @@
+package com.mentoai.mentoai.integration.embedding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorSimilarityTest {
+
+    @Test
+    @DisplayName("정규화된 벡터의 내적은 코사인 유사도와 같다")
+    void cosine_UnitVectors() {
+        // Given
+        EmbeddingVector a = EmbeddingVector.of(new float[]{3f, 4f, 0f});
+        EmbeddingVector b = EmbeddingVector.of(new float[]{4f, 3f, 0f});
+
+        // When
+        double raw = VectorSimilarity.cosine(a, b);
+        double unit = VectorSimilarity.cosine(a.normalized(), b.normalized());
+
+        // Then
+        assertTrue(a.normalized().isUnit());
+        assertEquals(1.0, a.normalized().norm(), 1e-6);
+        assertEquals(24.0 / 25.0, raw, 1e-6);
+        assertEquals(raw, unit, 1e-6);
+    }
+
+    @Test
+    @DisplayName("크기가 0인 벡터와의 코사인 유사도는 0")
+    void cosine_ZeroVector() {
+        // Given
+        EmbeddingVector zero = EmbeddingVector.of(new float[]{0f, 0f, 0f});
+        EmbeddingVector other = EmbeddingVector.of(new float[]{1f, 2f, 3f});
+
+        // When & Then
+        assertSame(zero, zero.normalized());
+        assertEquals(0.0, VectorSimilarity.cosine(zero, other));
+    }
+
+    @Test
+    @DisplayName("차원이 다른 벡터는 비교할 수 없다")
+    void cosine_DimensionMismatch() {
+        EmbeddingVector a = EmbeddingVector.of(new float[]{1f, 2f});
+        EmbeddingVector b = EmbeddingVector.of(new float[]{1f, 2f, 3f});
+
+        assertThrows(IllegalArgumentException.class, () -> VectorSimilarity.cosine(a, b));
+    }
+
+    @Test
+    @DisplayName("topK - 전체 정렬 결과의 상위 K개와 일치")
+    void topK_MatchesFullSort() {
+        // Given
+        Random random = new Random(42);
+        int dimension = 37; // SIMD 레인 수의 배수가 아닌 길이로 꼬리 처리까지 확인
+        List<EmbeddingVector> candidates = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            candidates.add(randomVector(random, dimension).normalized());
+        }
+        EmbeddingVector query = randomVector(random, dimension);
+
+        // When
+        List<VectorSimilarity.ScoredIndex> top = VectorSimilarity.topK(query, candidates, 5, -1.0);
+
+        // Then
+        Integer[] order = new Integer[candidates.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> Double.compare(
+                query.cosineSimilarity(candidates.get(y)),
+                query.cosineSimilarity(candidates.get(x))));
+
+        assertEquals(5, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(order[i], top.get(i).index());
+            assertEquals(query.cosineSimilarity(candidates.get(order[i])), top.get(i).score(), 1e-5);
+        }
+    }
+
+    @Test
+    @DisplayName("topK - 최소 점수 미만과 null 후보는 제외")
+    void topK_FiltersByMinScore() {
+        // Given
+        EmbeddingVector query = EmbeddingVector.of(new float[]{1f, 0f});
+        List<EmbeddingVector> candidates = new ArrayList<>();
+        candidates.add(EmbeddingVector.of(new float[]{1f, 0f}));
+        candidates.add(null);
+        candidates.add(EmbeddingVector.of(new float[]{0f, 1f}));
+        candidates.add(EmbeddingVector.of(new float[]{1f, 1f}));
+
+        // When
+        List<VectorSimilarity.ScoredIndex> top = VectorSimilarity.topK(query, candidates, 10, 0.3);
+
+        // Then
+        assertEquals(2, top.size());
+        assertEquals(0, top.get(0).index());
+        assertEquals(3, top.get(1).index());
+    }
+
+    @Test
+    @DisplayName("내적은 double 누산 기준값과 1e-9 이내로 일치 (768차원)")
+    void dot_MatchesDoubleAccumulation() {
+        // Given
+        Random random = new Random(7);
+        float[] a = randomVector(random, 768).values();
+        float[] b = randomVector(random, 768).values();
+        double expected = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            expected += (double) a[i] * b[i];
+        }
+
+        // When
+        double active = VectorSimilarity.dot(a, b);
+        double scalar = new ScalarDotProductKernel().dot(a, b);
+
+        // Then: 현재 커널(SIMD 또는 스칼라)과 스칼라 커널 모두 float 누산 오차(1e-5 수준) 없이 일치
+        assertEquals(expected, active, 1e-9);
+        assertEquals(expected, scalar, 1e-9);
+    }
+
+    private EmbeddingVector randomVector(Random random, int dimension) {
+        float[] values = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            values[i] = (float) random.nextGaussian();
+        }
+        return EmbeddingVector.of(values);
+    }
+}
@@ -0,0 +1,109 @@
+package com.mentoai.mentoai.integration.qdrant;
+
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.qdrant.client.QdrantGrpcClient;
+import io.qdrant.client.grpc.JsonWithInt;
+import io.qdrant.client.grpc.Points;
+import io.qdrant.client.grpc.PointsGrpc;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrpcQdrantTransportTest {
+
+    private final AtomicReference<Points.SearchPoints> lastSearch = new AtomicReference<>();
+    private Server server;
+    private GrpcQdrantTransport transport;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new FakePointsService())
+                .build()
+                .start();
+        ManagedChannel channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        transport = new GrpcQdrantTransport(QdrantGrpcClient.newBuilder(channel, true).build(), 64, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("gRPC 검색은 벡터를 float로 보내고 결과를 REST와 같은 형식으로 변환한다")
+    void searchConvertsRequestAndResults() {
+        // Given
+        EmbeddingVector embedding = EmbeddingVector.of(new float[]{0.6f, 0.8f});
+
+        // When
+        List<QdrantSearchResult> results = transport
+                .search("activities", new QdrantSearchRequest(embedding, 5, null))
+                .block();
+
+        // Then
+        Points.SearchPoints sent = lastSearch.get();
+        assertEquals("activities", sent.getCollectionName());
+        assertEquals(List.of(0.6f, 0.8f), sent.getVectorList());
+        assertEquals(5, sent.getLimit());
+
+        assertNotNull(results);
+        assertEquals(1, results.size());
+        assertEquals("42", results.get(0).pointId());
+        assertEquals(0.9, results.get(0).score(), 1e-6);
+        assertEquals(Map.of("activityId", 42L, "title", "데이터 분석 공모전"), results.get(0).payload());
+    }
+
+    @Test
+    @DisplayName("REST JSON 필터를 protobuf 필터로 변환한다")
+    void convertsJsonFilter() {
+        // Given
+        Map<String, Object> filter = Map.of(
+                "must", List.of(
+                        Map.of("key", "type", "match", Map.of("value", "CONTEST")),
+                        Map.of("key", "tags", "match", Map.of("any", List.of("AI", "데이터")))
+                ),
+                "must_not", List.of(Map.of("key", "score", "range", Map.of("lt", 0.5)))
+        );
+
+        // When
+        Points.Filter converted = GrpcQdrantTransport.toFilter(filter);
+
+        // Then
+        assertEquals(2, converted.getMustCount());
+        assertEquals("CONTEST", converted.getMust(0).getField().getMatch().getKeyword());
+        assertEquals(List.of("AI", "데이터"), converted.getMust(1).getField().getMatch().getKeywords().getStringsList());
+        assertEquals(0.5, converted.getMustNot(0).getField().getRange().getLt());
+    }
+
+    private class FakePointsService extends PointsGrpc.PointsImplBase {
+
+        @Override
+        public void search(Points.SearchPoints request, StreamObserver<Points.SearchResponse> responseObserver) {
+            lastSearch.set(request);
+            responseObserver.onNext(Points.SearchResponse.newBuilder()
+                    .addResult(Points.ScoredPoint.newBuilder()
+                            .setId(Points.PointId.newBuilder().setNum(42))
+                            .setScore(0.9f)
+                            .putPayload("activityId", JsonWithInt.Value.newBuilder().setIntegerValue(42).build())
+                            .putPayload("title", JsonWithInt.Value.newBuilder().setStringValue("데이터 분석 공모전").build()))
+                    .build());
+            responseObserver.onCompleted();
+        }
+    }
+}
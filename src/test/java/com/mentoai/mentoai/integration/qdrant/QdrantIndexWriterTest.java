@@ -0,0 +1,271 @@
+package com.mentoai.mentoai.integration.qdrant;
+
+import com.mentoai.mentoai.config.QdrantProperties;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class QdrantIndexWriterTest {
+
+    private QdrantClient qdrantClient;
+    private ApplicationEventPublisher eventPublisher;
+    private QdrantProperties properties;
+    private QdrantIndexWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        qdrantClient = mock(QdrantClient.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        when(qdrantClient.deletePointsAsync(anyList(), anyString())).thenReturn(Mono.empty());
+        properties = new QdrantProperties();
+        // 주기 플러시와 크기 플러시가 끼어들지 않도록 크게 설정하고 flush()를 직접 호출
+        properties.setIndexFlushIntervalMs(60_000);
+        properties.setIndexBatchSize(10);
+        properties.setIndexQueueCapacity(100);
+        properties.setIndexRetryBackoffMs(1);
+        writer = new QdrantIndexWriter(qdrantClient, properties, eventPublisher);
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("같은 포인트는 마지막 요청만 보내고 큐가 비는 배치는 wait=true로 확인한다")
+    @SuppressWarnings("unchecked")
+    void sendsLatestPointsAndConfirmsDrainedBatch() {
+        // Given
+        AtomicInteger operationIds = new AtomicInteger();
+        when(qdrantClient.upsertVectorsAsync(anyList(), eq("activities"), eq(768), anyBoolean()))
+                .thenAnswer(invocation -> Mono.just((long) operationIds.incrementAndGet()));
+        writer.enqueue("activities", 768, List.of(point("1"), point("2")));
+        writer.enqueue("activities", 768, List.of(point("1"), point("3")));
+        writer.delete("activities", "2");
+
+        // When
+        writer.flush();
+
+        // Then
+        ArgumentCaptor<List<ActivityVectorPayload>> batches = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Boolean> waits = ArgumentCaptor.forClass(Boolean.class);
+        verify(qdrantClient, times(1)).upsertVectorsAsync(batches.capture(), eq("activities"), eq(768), waits.capture());
+        assertEquals(List.of("1", "3"), batches.getValue().stream().map(ActivityVectorPayload::pointId).toList());
+        assertTrue(waits.getValue());
+        verify(qdrantClient).deletePointsAsync(List.of("2"), "activities");
+        assertEquals(0, writer.pendingCount());
+        assertTrue(writer.unconfirmedOperations().isEmpty());
+    }
+
+    @Test
+    @DisplayName("실패한 배치는 백오프 후 재시도한다")
+    void retriesFailedBatch() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        when(qdrantClient.upsertVectorsAsync(anyList(), eq("activities"), eq(768), anyBoolean()))
+                .thenReturn(Mono.defer(() -> attempts.incrementAndGet() == 1
+                        ? Mono.error(new IllegalStateException("unavailable"))
+                        : Mono.just(7L)));
+        writer.enqueue("activities", 768, List.of(point("1")));
+
+        // When
+        writer.flush();
+
+        // Then
+        assertEquals(2, attempts.get());
+        assertEquals(0, writer.pendingCount());
+        assertTrue(writer.unconfirmedOperations().isEmpty());
+    }
+
+    @Test
+    @DisplayName("전송 중인 업서트 뒤에 들어온 삭제는 업서트가 끝난 뒤에 보낸다")
+    void deleteDuringFlushIsSentAfterInFlightUpsert() throws Exception {
+        // Given
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(qdrantClient.upsertVectorsAsync(anyList(), eq("activities"), eq(768), anyBoolean()))
+                .thenReturn(Mono.fromCallable(() -> {
+                    inFlight.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return 1L;
+                }));
+        writer.enqueue("activities", 768, List.of(point("1")));
+        CompletableFuture<Void> flushing = CompletableFuture.runAsync(writer::flush);
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+
+        // When
+        writer.delete("activities", "1");
+        verify(qdrantClient, never()).deletePointsAsync(anyList(), anyString());
+        release.countDown();
+        flushing.get(5, TimeUnit.SECONDS);
+        writer.flush();
+
+        // Then
+        InOrder inOrder = inOrder(qdrantClient);
+        inOrder.verify(qdrantClient).upsertVectorsAsync(anyList(), eq("activities"), eq(768), anyBoolean());
+        inOrder.verify(qdrantClient).deletePointsAsync(List.of("1"), "activities");
+        assertEquals(0, writer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 직접 쓰지 않고 플러시를 기다려, 전송 중인 이전 값보다 나중에 보낸다")
+    void overflowWaitsForFlushInsteadOfWritingDirectly() throws Exception {
+        // Given
+        properties.setIndexQueueCapacity(10);
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> sent = new CopyOnWriteArrayList<>();
+        when(qdrantClient.upsertVectorsAsync(anyList(), eq("activities"), eq(768), anyBoolean()))
+                .thenAnswer(invocation -> {
+                    List<ActivityVectorPayload> batch = invocation.getArgument(0);
+                    return Mono.fromCallable(() -> {
+                        inFlight.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                        batch.forEach(payload -> sent.add(payload.pointId() + ":" + payload.payload().get("version")));
+                        return 1L;
+                    });
+                });
+        // 배치 크기가 차서 플러셔가 포인트 0~9(v1)를 보내는 중
+        writer.enqueue("activities", 768, points(0, 10, "v1"));
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+        writer.enqueue("activities", 768, points(10, 20, "v1"));
+
+        // When
+        CompletableFuture<Void> overflowing = CompletableFuture.runAsync(
+                () -> writer.enqueue("activities", 768, List.of(point("0", "v2"))));
+        for (int i = 0; i < 5_000 && writer.pendingCount() < 11; i++) {
+            Thread.sleep(1);
+        }
+        assertEquals(11, writer.pendingCount());
+        assertFalse(overflowing.isDone());
+        release.countDown();
+        overflowing.get(5, TimeUnit.SECONDS);
+
+        // Then
+        verify(qdrantClient, never()).upsertVectors(anyList(), anyString(), any());
+        assertEquals(List.of("0:v1", "0:v2"), sent.stream().filter(entry -> entry.startsWith("0:")).toList());
+        assertEquals(21, sent.size());
+        assertEquals(0, writer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("재시도까지 실패한 배치는 큐에 다시 넣되, 그 사이 들어온 새 값은 덮어쓰지 않는다")
+    void requeuesFailedBatchWithoutOverwritingNewerWrite() {
+        // Given
+        properties.setIndexMaxRetries(0);
+        AtomicInteger attempts = new AtomicInteger();
+        List<String> sent = new CopyOnWriteArrayList<>();
+        when(qdrantClient.upsertVectorsAsync(anyList(), eq("activities"), eq(768), anyBoolean()))
+                .thenAnswer(invocation -> {
+                    List<ActivityVectorPayload> batch = invocation.getArgument(0);
+                    if (attempts.incrementAndGet() == 1) {
+                        // 실패한 배치가 전송되는 동안 같은 포인트의 새 값이 들어옴
+                        writer.enqueue("activities", 768, List.of(point("1", "v2")));
+                        return Mono.error(new IllegalStateException("unavailable"));
+                    }
+                    batch.forEach(payload -> sent.add(payload.pointId() + ":" + payload.payload().get("version")));
+                    return Mono.just(1L);
+                });
+        writer.enqueue("activities", 768, List.of(point("1", "v1"), point("2", "v1")));
+
+        // When
+        writer.flush();
+        int pendingAfterFailure = writer.pendingCount();
+        writer.flush();
+
+        // Then
+        assertEquals(2, pendingAfterFailure);
+        assertEquals(List.of("1:v2", "2:v1"), sent);
+        assertEquals(0, writer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("재큐잉 한도를 넘긴 요청은 dead-letter로 옮겼다가 같은 컬렉션 전송이 성공하면 다시 보낸다")
+    void deadLettersAfterMaxRequeuesAndRevivesOnSuccess() {
+        // Given
+        properties.setIndexMaxRetries(0);
+        properties.setIndexMaxRequeues(1);
+        AtomicBoolean available = new AtomicBoolean();
+        List<String> sent = new CopyOnWriteArrayList<>();
+        when(qdrantClient.upsertVectorsAsync(anyList(), eq("activities"), eq(768), anyBoolean()))
+                .thenAnswer(invocation -> {
+                    if (!available.get()) {
+                        return Mono.error(new IllegalStateException("unavailable"));
+                    }
+                    List<ActivityVectorPayload> batch = invocation.getArgument(0);
+                    batch.forEach(payload -> sent.add(payload.pointId()));
+                    return Mono.just(1L);
+                });
+        writer.enqueue("activities", 768, List.of(point("1")));
+        writer.flush();
+        writer.flush();
+        assertEquals(0, writer.pendingCount());
+        assertEquals(1, writer.deadLetterCount());
+
+        // When
+        available.set(true);
+        writer.enqueue("activities", 768, List.of(point("2")));
+        writer.flush();
+        writer.flush();
+
+        // Then
+        assertEquals(List.of("2", "1"), sent);
+        assertEquals(0, writer.deadLetterCount());
+        assertEquals(0, writer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("전송에 성공한 컬렉션에만 색인 완료 이벤트를 발행한다")
+    void publishesWrittenEventOnlyAfterSuccessfulSend() {
+        // Given
+        properties.setIndexMaxRetries(0);
+        when(qdrantClient.upsertVectorsAsync(anyList(), eq("activities"), eq(768), anyBoolean()))
+                .thenReturn(Mono.just(1L));
+        when(qdrantClient.upsertVectorsAsync(anyList(), eq("jobs"), eq(768), anyBoolean()))
+                .thenReturn(Mono.error(new IllegalStateException("unavailable")));
+        writer.enqueue("activities", 768, List.of(point("1")));
+        writer.enqueue("jobs", 768, List.of(point("job-1")));
+
+        // When
+        writer.flush();
+
+        // Then
+        verify(eventPublisher).publishEvent(new QdrantPointsWrittenEvent("activities"));
+        verify(eventPublisher, never()).publishEvent(new QdrantPointsWrittenEvent("jobs"));
+    }
+
+    private ActivityVectorPayload point(String pointId) {
+        return new ActivityVectorPayload(pointId, EmbeddingVector.of(new float[]{1f, 0f}), Map.of());
+    }
+
+    private ActivityVectorPayload point(String pointId, String version) {
+        return new ActivityVectorPayload(pointId, EmbeddingVector.of(new float[]{1f, 0f}), Map.of("version", version));
+    }
+
+    private List<ActivityVectorPayload> points(int fromInclusive, int toExclusive, String version) {
+        return IntStream.range(fromInclusive, toExclusive)
+                .mapToObj(i -> point(String.valueOf(i), version))
+                .toList();
+    }
+}
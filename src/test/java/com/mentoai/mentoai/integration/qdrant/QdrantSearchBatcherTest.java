@@ -0,0 +1,175 @@
+package com.mentoai.mentoai.integration.qdrant;
+
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QdrantSearchBatcherTest {
+
+    // 대기 시간으로는 전송되지 않도록 충분히 길게 두고, 크기 제한으로만 배치를 전송
+    private static final long LONG_WINDOW_MS = 60_000;
+
+    private final Map<String, List<List<Integer>>> batchCalls = new LinkedHashMap<>();
+    private final AtomicInteger singleCalls = new AtomicInteger();
+
+    @Test
+    @DisplayName("함께 묶을 검색이 없으면 대기 시간 없이 단건 검색으로 바로 보낸다")
+    void loneSearchBypassesWindow() {
+        // Given
+        QdrantSearchBatcher batcher = new QdrantSearchBatcher(
+                (collection, request) -> {
+                    singleCalls.incrementAndGet();
+                    return Mono.just(List.of(result(request)));
+                },
+                this::recordBatch,
+                LONG_WINDOW_MS,
+                16);
+
+        // When
+        List<QdrantSearchResult> first = batcher.submit("activities", request(1)).block(Duration.ofSeconds(1));
+        List<QdrantSearchResult> second = batcher.submit("activities", request(2)).block(Duration.ofSeconds(1));
+
+        // Then
+        assertEquals("p1", first.get(0).pointId());
+        assertEquals("p2", second.get(0).pointId());
+        assertEquals(2, singleCalls.get());
+        assertTrue(batchCalls.isEmpty());
+    }
+
+    @Test
+    @DisplayName("전송 중인 검색이 있으면 이후 검색을 배치로 묶고 결과를 요청 순서대로 돌려준다")
+    void batchesConcurrentSearchesAndFansBackInOrder() throws Exception {
+        // Given
+        Sinks.One<List<QdrantSearchResult>> held = Sinks.one();
+        QdrantSearchBatcher batcher = new QdrantSearchBatcher(
+                (collection, request) -> held.asMono(),
+                this::recordBatch,
+                LONG_WINDOW_MS,
+                3);
+        CompletableFuture<List<QdrantSearchResult>> inFlight = batcher.submit("activities", request(0)).toFuture();
+
+        // When
+        List<CompletableFuture<List<QdrantSearchResult>>> waiters = new ArrayList<>();
+        for (int topK = 1; topK <= 3; topK++) {
+            waiters.add(batcher.submit("activities", request(topK)).toFuture());
+        }
+
+        // Then
+        assertEquals(Map.of("activities", List.of(List.of(1, 2, 3))), batchCalls);
+        for (int i = 0; i < waiters.size(); i++) {
+            assertEquals("p" + (i + 1), waiters.get(i).get(1, TimeUnit.SECONDS).get(0).pointId());
+        }
+        assertFalse(inFlight.isDone());
+        held.tryEmitValue(List.of());
+        assertEquals(List.of(), inFlight.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("배치는 컬렉션별로 따로 모은다")
+    void groupsBatchesPerCollection() throws Exception {
+        // Given
+        Sinks.One<List<QdrantSearchResult>> held = Sinks.one();
+        QdrantSearchBatcher batcher = new QdrantSearchBatcher(
+                (collection, request) -> held.asMono(),
+                this::recordBatch,
+                LONG_WINDOW_MS,
+                2);
+        batcher.submit("activities", request(0)).toFuture();
+        batcher.submit("linkareer", request(0)).toFuture();
+
+        // When
+        List<CompletableFuture<List<QdrantSearchResult>>> waiters = List.of(
+                batcher.submit("activities", request(1)).toFuture(),
+                batcher.submit("linkareer", request(2)).toFuture(),
+                batcher.submit("activities", request(3)).toFuture(),
+                batcher.submit("linkareer", request(4)).toFuture());
+
+        // Then
+        assertEquals(List.of(List.of(1, 3)), batchCalls.get("activities"));
+        assertEquals(List.of(List.of(2, 4)), batchCalls.get("linkareer"));
+        for (int i = 0; i < waiters.size(); i++) {
+            assertEquals("p" + (i + 1), waiters.get(i).get(1, TimeUnit.SECONDS).get(0).pointId());
+        }
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 묶인 모든 호출이 같은 오류를 받는다")
+    void propagatesBatchFailureToEveryWaiter() {
+        // Given
+        IllegalStateException failure = new IllegalStateException("qdrant down");
+        Sinks.One<List<QdrantSearchResult>> held = Sinks.one();
+        QdrantSearchBatcher batcher = new QdrantSearchBatcher(
+                (collection, request) -> held.asMono(),
+                (collection, requests) -> Mono.error(failure),
+                LONG_WINDOW_MS,
+                3);
+        batcher.submit("activities", request(0)).toFuture();
+
+        // When
+        List<CompletableFuture<List<QdrantSearchResult>>> waiters = new ArrayList<>();
+        for (int topK = 1; topK <= 3; topK++) {
+            waiters.add(batcher.submit("activities", request(topK)).toFuture());
+        }
+
+        // Then
+        for (CompletableFuture<List<QdrantSearchResult>> waiter : waiters) {
+            ExecutionException thrown = assertThrows(ExecutionException.class,
+                    () -> waiter.get(1, TimeUnit.SECONDS));
+            assertSame(failure, thrown.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("크기 제한에 못 미친 배치는 대기 시간이 지나면 전송한다")
+    void flushesPartialBatchAfterWindow() throws Exception {
+        // Given
+        Sinks.One<List<QdrantSearchResult>> held = Sinks.one();
+        QdrantSearchBatcher batcher = new QdrantSearchBatcher(
+                (collection, request) -> held.asMono(),
+                this::recordBatch,
+                10,
+                16);
+        batcher.submit("activities", request(0)).toFuture();
+
+        // When
+        CompletableFuture<List<QdrantSearchResult>> first = batcher.submit("activities", request(1)).toFuture();
+        CompletableFuture<List<QdrantSearchResult>> second = batcher.submit("activities", request(2)).toFuture();
+
+        // Then
+        assertEquals("p1", first.get(1, TimeUnit.SECONDS).get(0).pointId());
+        assertEquals("p2", second.get(1, TimeUnit.SECONDS).get(0).pointId());
+        synchronized (batchCalls) {
+            assertEquals(List.of(List.of(1, 2)), batchCalls.get("activities"));
+        }
+    }
+
+    private Mono<List<List<QdrantSearchResult>>> recordBatch(String collection, List<QdrantSearchRequest> requests) {
+        synchronized (batchCalls) {
+            batchCalls.computeIfAbsent(collection, key -> new ArrayList<>())
+                    .add(requests.stream().map(QdrantSearchRequest::topK).toList());
+        }
+        return Mono.just(requests.stream().map(request -> List.of(result(request))).toList());
+    }
+
+    private static QdrantSearchRequest request(int topK) {
+        return new QdrantSearchRequest(EmbeddingVector.of(new float[]{1f, 0f}), topK, null);
+    }
+
+    private static QdrantSearchResult result(QdrantSearchRequest request) {
+        return new QdrantSearchResult("p" + request.topK(), 1.0, Map.of());
+    }
+}
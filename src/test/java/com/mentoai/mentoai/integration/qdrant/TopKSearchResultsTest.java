@@ -0,0 +1,88 @@
+package com.mentoai.mentoai.integration.qdrant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKSearchResultsTest {
+
+    @Test
+    @DisplayName("여러 컬렉션 결과를 점수 상위 K개로 내림차순 병합한다")
+    void mergesTopKAcrossCollections() {
+        // Given
+        TopKSearchResults topK = new TopKSearchResults(3);
+
+        // When
+        topK.addAll("activities", List.of(result("a", 0.9), result("b", 0.4), result("c", 0.7)));
+        topK.addAll("linkareer", List.of(result("d", 0.8), result("e", 0.1)));
+
+        // Then
+        assertEquals(List.of("a", "d", "c"), pointIds(topK.toList()));
+    }
+
+    @Test
+    @DisplayName("같은 컬렉션의 같은 포인트는 점수가 가장 높은 결과 하나만 남긴다")
+    void keepsBestScoreForDuplicatePoint() {
+        // Given
+        TopKSearchResults topK = new TopKSearchResults(2);
+
+        // When
+        topK.addAll("activities", List.of(result("a", 0.5), result("b", 0.6)));
+        topK.addAll("activities", List.of(result("a", 0.9), result("b", 0.3)));
+
+        // Then
+        List<QdrantSearchResult> merged = topK.toList();
+        assertEquals(List.of("a", "b"), pointIds(merged));
+        assertEquals(0.9, merged.get(0).score());
+        assertEquals(0.6, merged.get(1).score());
+    }
+
+    @Test
+    @DisplayName("다른 컬렉션에서 포인트 ID만 같은 결과는 서로 다른 항목으로 남긴다")
+    void keepsSamePointIdFromDifferentCollections() {
+        // Given
+        TopKSearchResults topK = new TopKSearchResults(3);
+
+        // When
+        topK.addAll("activities", List.of(result("1", 0.9)));
+        topK.addAll("linkareer", List.of(result("1", 0.8)));
+
+        // Then
+        List<QdrantSearchResult> merged = topK.toList();
+        assertEquals(2, merged.size());
+        assertEquals(0.9, merged.get(0).score());
+        assertEquals(0.8, merged.get(1).score());
+    }
+
+    @Test
+    @DisplayName("activityId가 같으면 컬렉션과 포인트 ID가 달라도 점수가 높은 결과 하나만 남긴다")
+    void dedupesByActivityIdAcrossCollections() {
+        // Given
+        TopKSearchResults topK = new TopKSearchResults(3);
+
+        // When
+        topK.addAll("activities", List.of(result("10", 0.7, Map.of("activityId", 42))));
+        topK.addAll("linkareer", List.of(
+                result("99", 0.85, Map.of("activity_id", "42")),
+                result("100", 0.6, Map.of("activityId", 43L))));
+
+        // Then
+        assertEquals(List.of("99", "100"), pointIds(topK.toList()));
+    }
+
+    private static QdrantSearchResult result(String pointId, double score) {
+        return result(pointId, score, Map.of());
+    }
+
+    private static QdrantSearchResult result(String pointId, double score, Map<String, Object> payload) {
+        return new QdrantSearchResult(pointId, score, payload);
+    }
+
+    private static List<String> pointIds(List<QdrantSearchResult> results) {
+        return results.stream().map(QdrantSearchResult::pointId).toList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.mentoai.mentoai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentoai.mentoai.config.QdrantProperties;
+import com.mentoai.mentoai.entity.ActivityEntity.ActivityType;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProviders;
+import com.mentoai.mentoai.integration.qdrant.QdrantClient;
+import com.mentoai.mentoai.integration.qdrant.QdrantIndexWriter;
+import com.mentoai.mentoai.repository.ActivityRepository;
+import com.mentoai.mentoai.repository.ActivityTargetRoleRepository;
+import com.mentoai.mentoai.repository.TargetRoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ActivityRoleMatchServiceTest {
+
+    private static final ActivityVectorFilter CONTEST_ONLY = ActivityVectorFilter.of(ActivityType.CONTEST, null);
+
+    private QdrantClient qdrantClient;
+    private QdrantIndexWriter qdrantIndexWriter;
+    private ActivityTargetRoleRepository activityTargetRoleRepository;
+    private QdrantProperties qdrantProperties;
+    private ActivityRoleMatchService service;
+
+    @BeforeEach
+    void setUp() {
+        qdrantClient = mock(QdrantClient.class);
+        qdrantIndexWriter = mock(QdrantIndexWriter.class);
+        activityTargetRoleRepository = mock(ActivityTargetRoleRepository.class);
+        qdrantProperties = new QdrantProperties();
+        qdrantProperties.setCollection("activities");
+        qdrantProperties.setLinkareerContest("linkareer_contest");
+        service = new ActivityRoleMatchService(
+                mock(EmbeddingProviders.class),
+                qdrantClient,
+                qdrantIndexWriter,
+                qdrantProperties,
+                activityTargetRoleRepository,
+                mock(TargetRoleRepository.class),
+                mock(ActivityRepository.class),
+                new ObjectMapper(),
+                mock(UserProfileService.class),
+                mock(TargetRoleEmbeddingService.class),
+                mock(UserProfileEmbeddingService.class));
+    }
+
+    @Test
+    @DisplayName("필터 필드가 없는 컬렉션이 검색 대상에 있으면 기존 배수만큼 과다 조회한다")
+    void candidateFetchSize_KeepsOverFetchForUnindexedCollections() {
+        // Given
+        qdrantProperties.setPayloadIndexedCollections(List.of("activities"));
+
+        // When
+        int fetchSize = service.candidateFetchSize(20, CONTEST_ONLY, 3);
+
+        // Then
+        assertEquals(60, fetchSize);
+    }
+
+    @Test
+    @DisplayName("모든 활동 컬렉션에 필터 필드가 채워져 있으면 여유분만 더한다")
+    void candidateFetchSize_AddsSlackWhenAllCollectionsIndexed() {
+        // Given
+        qdrantProperties.setPayloadIndexedCollections(List.of("activities", "linkareer_contest"));
+
+        // When
+        int fetchSize = service.candidateFetchSize(20, CONTEST_ONLY, 3);
+
+        // Then
+        assertEquals(25, fetchSize);
+    }
+
+    @Test
+    @DisplayName("payload 필터를 끄면 컬렉션 색인 여부와 관계없이 과다 조회한다")
+    void candidateFetchSize_OverFetchesWhenPayloadFilterDisabled() {
+        // Given
+        qdrantProperties.setPayloadIndexedCollections(List.of("activities", "linkareer_contest"));
+        qdrantProperties.setPayloadFilterEnabled(false);
+
+        // When
+        int fetchSize = service.candidateFetchSize(20, CONTEST_ONLY, 2);
+
+        // Then
+        assertEquals(40, fetchSize);
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 걸러질 후보가 없으므로 여유분만 더한다")
+    void candidateFetchSize_AddsSlackWithoutFilter() {
+        assertEquals(25, service.candidateFetchSize(20, ActivityVectorFilter.NONE, 3));
+    }
+
+    @Test
+    @DisplayName("활동 벡터 삭제는 색인 큐를 거쳐 먼저 들어간 업서트 뒤에 적용된다")
+    void deleteActivityVector_GoesThroughIndexQueue() {
+        // When
+        service.deleteActivityVector(42L);
+
+        // Then
+        verify(qdrantIndexWriter).delete("activities", "42");
+        verify(qdrantClient, never()).deletePoint(anyString());
+        verify(activityTargetRoleRepository).deleteByActivityId(42L);
+    }
+}
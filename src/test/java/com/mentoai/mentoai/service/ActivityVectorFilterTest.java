@@ -0,0 +1,49 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.ActivityEntity.ActivityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActivityVectorFilterTest {
+
+    @Test
+    @DisplayName("조건이 없으면 Qdrant 필터를 만들지 않는다")
+    void emptyFilter() {
+        assertNull(ActivityVectorFilter.NONE.toQdrantFilter());
+        assertNull(ActivityVectorFilter.of(null, null).toQdrantFilter());
+    }
+
+    @Test
+    @DisplayName("각 조건은 값 일치 또는 필드 없음으로 변환된다")
+    void conditionToleratesMissingPayload() {
+        // Given
+        ActivityVectorFilter filter = ActivityVectorFilter.of(ActivityType.CONTEST, true);
+
+        // When
+        Map<String, Object> qdrantFilter = filter.toQdrantFilter();
+
+        // Then
+        List<?> must = (List<?>) qdrantFilter.get("must");
+        assertEquals(2, must.size());
+        assertEquals(Map.of("should", List.of(
+                Map.of("key", "type", "match", Map.of("value", "CONTEST")),
+                Map.of("is_empty", Map.of("key", "type"))
+        )), must.get(0));
+        assertEquals(Map.of("should", List.of(
+                Map.of("key", "campus", "match", Map.of("value", true)),
+                Map.of("is_empty", Map.of("key", "campus"))
+        )), must.get(1));
+    }
+
+    @Test
+    @DisplayName("태그는 색인 payload와 요청 필터 모두 같은 규칙으로 정규화된다")
+    void normalizeTag() {
+        assertEquals("java", ActivityVectorFilter.normalizeTag(" Java "));
+        assertEquals("spring boot", ActivityVectorFilter.normalizeTag("Spring Boot\t"));
+    }
+}
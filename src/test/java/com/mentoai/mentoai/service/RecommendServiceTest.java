@@ -1,5 +1,6 @@
 package com.mentoai.mentoai.service;
 
+import com.mentoai.mentoai.controller.dto.ActivityRecommendationResponse;
 import com.mentoai.mentoai.controller.dto.UserProfileResponse;
 import com.mentoai.mentoai.entity.ActivityEntity;
 import com.mentoai.mentoai.entity.ActivityEntity.ActivityType;
@@ -16,10 +17,12 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -54,6 +57,9 @@ class RecommendServiceTest {
     @Mock
     private CalendarEventService calendarEventService;
 
+    @Mock
+    private RecommendationResultCache resultCache;
+
     @InjectMocks
     private RecommendService recommendService;
 
@@ -182,6 +188,67 @@ class RecommendServiceTest {
             recommendService.getSimilarActivities(999L, 5);
         });
     }
+
+    @Test
+    @DisplayName("점수 포함 추천 - 벡터 검색 장애로 DB 목록을 대신 쓰면 결과를 캐시하지 않는다")
+    void getRecommendationsWithScores_DoesNotCacheFallback() {
+        // Given
+        ReflectionTestUtils.setField(recommendService, "vectorSearchEnabled", true);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userProfileService.getProfile(1L)).thenReturn(dummyProfile());
+        when(activityRoleMatchService.searchRoleMatches(eq("backend-engineer"), anyInt(), any()))
+            .thenReturn(RetrievalResult.failed());
+        when(activityRepository.findByFilters(any(), any(), any(), any(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(testActivity)));
+
+        // When
+        List<ActivityRecommendationResponse> results =
+                recommendService.getRecommendationsWithScores(1L, null, null, null, null);
+
+        // Then
+        assertEquals(1, results.size());
+        verify(resultCache, never()).put(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("점수 포함 추천 - 정상 결과는 보정한 limit과 공백 제거한 직무로 만든 키에 캐시한다")
+    void getRecommendationsWithScores_CachesWithNormalizedKey() {
+        // Given
+        ReflectionTestUtils.setField(recommendService, "vectorSearchEnabled", true);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userProfileService.getProfile(1L)).thenReturn(dummyProfile());
+        when(activityRoleMatchService.searchRoleMatches(eq("data-engineer"), anyInt(), any()))
+            .thenReturn(RetrievalResult.of(List.of(new ActivityRoleMatchService.RoleMatch(1L, 0.9, Map.of()))));
+        when(activityRepository.findAllById(List.of(1L))).thenReturn(List.of(testActivity));
+
+        // When
+        List<ActivityRecommendationResponse> results =
+                recommendService.getRecommendationsWithScores(1L, -1, null, null, "  data-engineer ");
+
+        // Then
+        assertEquals(1, results.size());
+        verify(resultCache).put(eq(RecommendationResultCache.key(
+                RecommendationResultCache.Namespace.SCORED_ACTIVITIES, 1L, 10, null, null, "data-engineer")), eq(results), eq(0L));
+    }
+
+    @Test
+    @DisplayName("사용자 맞춤 추천 - 벡터 검색 장애로 빈 결과가 되면 캐시하지 않는다")
+    void getRecommendations_DoesNotCacheDegradedResult() {
+        // Given
+        ReflectionTestUtils.setField(recommendService, "vectorSearchEnabled", true);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userProfileService.getProfile(1L)).thenReturn(dummyProfile());
+        when(activityRoleMatchService.searchRoleMatches(eq("backend-engineer"), anyInt(), any()))
+            .thenReturn(RetrievalResult.failed());
+
+        // When
+        List<ActivityEntity> results = recommendService.getRecommendations(1L, 10, null, null);
+
+        // Then
+        assertTrue(results.isEmpty());
+        verify(resultCache, never()).put(any(), any(), anyLong());
+    }
+
     private UserProfileResponse dummyProfile() {
         return new UserProfileResponse(
                 1L,
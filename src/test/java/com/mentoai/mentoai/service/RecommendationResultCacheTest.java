@@ -0,0 +1,131 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.config.QdrantProperties;
+import com.mentoai.mentoai.config.RecommendationCacheProperties;
+import com.mentoai.mentoai.integration.qdrant.QdrantPointsWrittenEvent;
+import com.mentoai.mentoai.service.RecommendationResultCache.Key;
+import com.mentoai.mentoai.service.RecommendationResultCache.Namespace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecommendationResultCacheTest {
+
+    private RecommendationResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        QdrantProperties qdrantProperties = new QdrantProperties();
+        qdrantProperties.setCollection("activities");
+        qdrantProperties.setJobCollection("jobs");
+        cache = new RecommendationResultCache(new RecommendationCacheProperties(), qdrantProperties);
+    }
+
+    @Test
+    @DisplayName("조회와 저장 사이에 무효화가 없으면 계산 결과를 저장한다")
+    void putStoresWhenGenerationUnchanged() {
+        // Given
+        Key key = RecommendationResultCache.key(Namespace.ACTIVITIES, 1L, 10, null, null);
+        long generation = cache.generation(key);
+        assertNull(cache.get(key));
+
+        // When
+        cache.put(key, List.of(3L, 1L), generation);
+
+        // Then
+        assertEquals(List.of(3L, 1L), cache.<List<Long>>get(key));
+    }
+
+    @Test
+    @DisplayName("조회와 저장 사이에 종류 전체가 무효화되면 계산 결과를 저장하지 않는다")
+    void putSkipsAfterNamespaceInvalidation() {
+        // Given
+        Key key = RecommendationResultCache.key(Namespace.JOBS, 1L, 20, null);
+        long generation = cache.generation(key);
+        assertNull(cache.get(key));
+
+        // When
+        cache.invalidate(EnumSet.of(Namespace.JOBS));
+        cache.put(key, List.of("stale"), generation);
+
+        // Then
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    @DisplayName("조회와 저장 사이에 사용자가 무효화되면 그 사용자의 결과만 저장하지 않는다")
+    void putSkipsAfterUserInvalidation() {
+        // Given
+        Key staleKey = RecommendationResultCache.key(Namespace.SCORED_ACTIVITIES, 1L, 10, null, null, null);
+        Key otherKey = RecommendationResultCache.key(Namespace.SCORED_ACTIVITIES, 2L, 10, null, null, null);
+        long staleGeneration = cache.generation(staleKey);
+        long otherGeneration = cache.generation(otherKey);
+
+        // When
+        cache.invalidateUser(1L);
+        cache.put(staleKey, List.of("stale"), staleGeneration);
+        cache.put(otherKey, List.of("fresh"), otherGeneration);
+
+        // Then
+        assertNull(cache.get(staleKey));
+        assertEquals(List.of("fresh"), cache.<List<String>>get(otherKey));
+    }
+
+    @Test
+    @DisplayName("무효화 이후 새로 읽은 세대로는 다시 저장할 수 있다")
+    void putStoresWithGenerationReadAfterInvalidation() {
+        // Given
+        Key key = RecommendationResultCache.key(Namespace.ACTIVITIES, 1L, 10, null, null);
+        cache.invalidate(EnumSet.of(Namespace.ACTIVITIES));
+        long generation = cache.generation(key);
+
+        // When
+        cache.put(key, List.of(5L), generation);
+
+        // Then
+        assertEquals(List.of(5L), cache.<List<Long>>get(key));
+    }
+
+    @Test
+    @DisplayName("활동 생성 커밋 후 색인 전송 전에 캐시된 추천은 색인 전송이 끝나면 무효화된다")
+    void createRecommendFlushInvalidatesResultComputedFromOldIndex() {
+        // Given: 활동 생성 커밋 직후 무효화
+        cache.invalidateAfterCommit(Namespace.ACTIVITIES);
+        Key key = RecommendationResultCache.key(Namespace.ACTIVITIES, 1L, 10, null, null);
+        Key jobKey = RecommendationResultCache.key(Namespace.JOBS, 1L, 20, null);
+
+        // 색인 전송 전 추천 요청은 이전 색인으로 계산되어 캐시됨
+        cache.put(key, List.of(3L), cache.generation(key));
+        cache.put(jobKey, List.of("job"), cache.generation(jobKey));
+        assertEquals(List.of(3L), cache.<List<Long>>get(key));
+
+        // When: 색인 전송 완료
+        cache.onQdrantPointsWritten(new QdrantPointsWrittenEvent("activities"));
+
+        // Then
+        assertNull(cache.get(key));
+        assertEquals(List.of("job"), cache.<List<String>>get(jobKey));
+    }
+
+    @Test
+    @DisplayName("채용 컬렉션 색인 전송이 끝나면 채용 추천만 무효화된다")
+    void jobCollectionWriteInvalidatesJobs() {
+        // Given
+        Key key = RecommendationResultCache.key(Namespace.ACTIVITIES, 1L, 10, null, null);
+        Key jobKey = RecommendationResultCache.key(Namespace.JOBS, 1L, 20, null);
+        cache.put(key, List.of(3L), cache.generation(key));
+        cache.put(jobKey, List.of("job"), cache.generation(jobKey));
+
+        // When
+        cache.onQdrantPointsWritten(new QdrantPointsWrittenEvent("jobs"));
+
+        // Then
+        assertNull(cache.get(jobKey));
+        assertEquals(List.of(3L), cache.<List<Long>>get(key));
+    }
+}
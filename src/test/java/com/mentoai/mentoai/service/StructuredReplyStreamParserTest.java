@@ -0,0 +1,78 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.service.StructuredReplyStreamParser.Fragment;
+import com.mentoai.mentoai.service.StructuredReplyStreamParser.Intent;
+import com.mentoai.mentoai.service.StructuredReplyStreamParser.Text;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructuredReplyStreamParserTest {
+
+    private static final String REPLY = "{\"recommendationIntent\": true, \"answer\": \"추천 \\\"활동\\\"입니다\", "
+            + "\"items\": [{\"activityIndex\": 1, \"score\": 87.5, \"reason\": \"백엔드\\n경험\"}, "
+            + "{\"activityIndex\": 2, \"score\": 70, \"reason\": \"\\uD83D\\uDE80 성장\"}], "
+            + "\"summary\": \"요약\"}";
+
+    @Test
+    @DisplayName("JSON 구조는 버리고 answer/reason 내용만 텍스트로 꺼낸다")
+    void emitsOnlyAnswerAndReason() {
+        // Given
+        StructuredReplyStreamParser parser = new StructuredReplyStreamParser();
+
+        // When
+        List<Fragment> fragments = new ArrayList<>(parser.feed(REPLY));
+        fragments.addAll(parser.finish());
+
+        // Then
+        assertEquals(new Intent(true), fragments.get(0));
+        assertEquals("추천 \"활동\"입니다\n백엔드\n경험\n🚀 성장", text(fragments));
+    }
+
+    @Test
+    @DisplayName("한 글자씩 나뉘어 도착해도 같은 텍스트와 의도를 얻는다")
+    void splitAcrossChunks() {
+        // Given
+        StructuredReplyStreamParser parser = new StructuredReplyStreamParser();
+        List<Fragment> fragments = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < REPLY.length(); i++) {
+            fragments.addAll(parser.feed(REPLY.substring(i, i + 1)));
+        }
+        fragments.addAll(parser.finish());
+
+        // Then
+        assertEquals(new Intent(true), fragments.get(0));
+        assertEquals(1, fragments.stream().filter(Intent.class::isInstance).count());
+        assertEquals("추천 \"활동\"입니다\n백엔드\n경험\n🚀 성장", text(fragments));
+        assertTrue(fragments.stream().noneMatch(fragment -> fragment instanceof Text text && text.text().isEmpty()));
+    }
+
+    @Test
+    @DisplayName("추천 의도가 아니라는 판별과 일반 답변을 구분해 전달한다")
+    void nonRecommendationIntent() {
+        // Given
+        StructuredReplyStreamParser parser = new StructuredReplyStreamParser();
+
+        // When
+        List<Fragment> fragments = parser.feed("{\"recommendationIntent\":false,\"answer\":\"안녕하세요\",\"items\":[],\"summary\":\"\"}");
+
+        // Then
+        assertEquals(List.of(new Intent(false), new Text("안녕하세요")), fragments);
+    }
+
+    private String text(List<Fragment> fragments) {
+        StringBuilder text = new StringBuilder();
+        for (Fragment fragment : fragments) {
+            if (fragment instanceof Text piece) {
+                text.append(piece.text());
+            }
+        }
+        return text.toString();
+    }
+}
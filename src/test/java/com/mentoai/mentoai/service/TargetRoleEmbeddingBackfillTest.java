@@ -0,0 +1,84 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.repository.TargetRoleRepository;
+import com.mentoai.mentoai.service.gemini.GeminiTrafficClass;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TargetRoleEmbeddingBackfillTest {
+
+    private ActivityRoleMatchService activityRoleMatchService;
+    private TargetRoleRepository targetRoleRepository;
+    private TargetRoleEmbeddingBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        activityRoleMatchService = mock(ActivityRoleMatchService.class);
+        targetRoleRepository = mock(TargetRoleRepository.class);
+        backfill = new TargetRoleEmbeddingBackfill(activityRoleMatchService, targetRoleRepository);
+        ReflectionTestUtils.setField(backfill, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("직무를 배치 단위로 나눠 BACKGROUND 트래픽으로 계산하고, 실패한 배치가 있어도 나머지를 계속한다")
+    @SuppressWarnings("unchecked")
+    void backfillAll_ChunksRolesAndContinuesAfterFailure() {
+        // Given
+        when(targetRoleRepository.findAllRoleIds()).thenReturn(List.of("r1", "r2", "r3", "r4", "r5"));
+        List<List<String>> chunks = new ArrayList<>();
+        List<GeminiTrafficClass> trafficClasses = new ArrayList<>();
+        when(activityRoleMatchService.precomputeRoleEmbeddings(anyList())).thenAnswer(invocation -> {
+            List<String> chunk = List.copyOf((List<String>) invocation.getArgument(0));
+            chunks.add(chunk);
+            trafficClasses.add(GeminiTrafficClass.current());
+            if (chunk.contains("r3")) {
+                throw new IllegalStateException("embedding failed");
+            }
+            return chunk.size();
+        });
+
+        // When
+        int computed = backfill.backfillAll();
+
+        // Then
+        assertEquals(3, computed);
+        assertEquals(List.of(List.of("r1", "r2"), List.of("r3", "r4"), List.of("r5")), chunks);
+        assertEquals(List.of(GeminiTrafficClass.BACKGROUND, GeminiTrafficClass.BACKGROUND, GeminiTrafficClass.BACKGROUND),
+                trafficClasses);
+        assertEquals(GeminiTrafficClass.INTERACTIVE, GeminiTrafficClass.current());
+    }
+
+    @Test
+    @DisplayName("직무가 수정되면 해당 직무만 다시 계산한다")
+    void onTargetRoleChanged_RecomputesOnlyChangedRole() {
+        // Given
+        when(activityRoleMatchService.precomputeRoleEmbeddings(List.of("backend"))).thenReturn(1);
+
+        // When
+        backfill.onTargetRoleChanged(new TargetRoleChangedEvent("backend"));
+
+        // Then
+        verify(activityRoleMatchService).precomputeRoleEmbeddings(List.of("backend"));
+        verifyNoInteractions(targetRoleRepository);
+    }
+
+    @Test
+    @DisplayName("재계산이 실패해도 이벤트 처리에서 예외를 던지지 않는다")
+    void onTargetRoleChanged_SwallowsFailure() {
+        // Given
+        when(activityRoleMatchService.precomputeRoleEmbeddings(anyList()))
+                .thenThrow(new IllegalStateException("unavailable"));
+
+        // When / Then
+        assertDoesNotThrow(() -> backfill.onTargetRoleChanged(new TargetRoleChangedEvent("backend")));
+    }
+}
@@ -0,0 +1,134 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.TargetRoleEmbeddingEntity;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProvider;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import com.mentoai.mentoai.repository.TargetRoleEmbeddingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TargetRoleEmbeddingServiceTest {
+
+    private static final String MODEL = "gemini-embedding-001";
+
+    private TargetRoleEmbeddingRepository repository;
+    private EmbeddingProvider provider;
+    private TargetRoleEmbeddingService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TargetRoleEmbeddingRepository.class);
+        provider = mock(EmbeddingProvider.class);
+        when(provider.modelVersion()).thenReturn(MODEL);
+        service = new TargetRoleEmbeddingService(repository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("콘텐츠 해시는 (모델 버전, 문서)의 고정 형식 SHA-256이다")
+    void contentHash_IsStable() {
+        assertEquals("c105456fc0163129d7a55b414785521ec07ba53c3c959caa95ee1fe0501ec24a",
+                PersistedEmbeddingStore.contentHash(provider, "백엔드 개발자"));
+    }
+
+    @Test
+    @DisplayName("저장된 해시가 같으면 제공자를 호출하지 않고 저장된 임베딩을 쓴다")
+    void getOrCompute_ReusesStoredEmbedding() {
+        // Given
+        EmbeddingVector stored = vector(0.6f, 0.8f);
+        when(repository.findById("backend")).thenReturn(Optional.of(
+                entity("backend", PersistedEmbeddingStore.contentHash(provider, "백엔드 개발자"), stored)));
+
+        // When
+        EmbeddingVector result = service.getOrCompute("backend", "백엔드 개발자", provider);
+        service.getOrCompute("backend", "백엔드 개발자", provider);
+
+        // Then
+        assertArrayEquals(stored.toArray(), result.toArray());
+        verify(provider, never()).embed(anyString());
+        verify(repository, times(1)).findById("backend");
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("문서나 모델 버전이 바뀌어 해시가 다르면 다시 임베딩해 새 해시로 저장한다")
+    void getOrCompute_RecomputesStaleEmbedding() {
+        // Given
+        EmbeddingProvider oldModel = mock(EmbeddingProvider.class);
+        when(oldModel.modelVersion()).thenReturn("text-embedding-004");
+        when(repository.findById("backend")).thenReturn(Optional.of(
+                entity("backend", PersistedEmbeddingStore.contentHash(oldModel, "백엔드 개발자"), vector(1f, 0f))));
+        EmbeddingVector fresh = vector(0f, 1f);
+        when(provider.embed("백엔드 개발자")).thenReturn(fresh);
+
+        // When
+        EmbeddingVector result = service.getOrCompute("backend", "백엔드 개발자", provider);
+
+        // Then
+        assertSame(fresh, result);
+        ArgumentCaptor<TargetRoleEmbeddingEntity> saved = ArgumentCaptor.forClass(TargetRoleEmbeddingEntity.class);
+        verify(repository).save(saved.capture());
+        assertEquals(PersistedEmbeddingStore.contentHash(provider, "백엔드 개발자"), saved.getValue().getContentHash());
+        assertEquals(MODEL, saved.getValue().getModelVersion());
+        assertEquals(2, saved.getValue().getDimension());
+    }
+
+    @Test
+    @DisplayName("배치 계산은 없거나 오래된 역할만 임베딩한다")
+    @SuppressWarnings("unchecked")
+    void computeMissing_EmbedsOnlyStaleRoles() {
+        // Given
+        when(repository.findById("backend")).thenReturn(Optional.of(
+                entity("backend", PersistedEmbeddingStore.contentHash(provider, "백엔드 개발자"), vector(1f, 0f))));
+        when(repository.findById("frontend")).thenReturn(Optional.of(entity("frontend", "old-hash", vector(1f, 0f))));
+        when(repository.findById("data")).thenReturn(Optional.empty());
+        when(provider.embedAll(List.of("프론트엔드 개발자", "데이터 엔지니어"))).thenReturn(Map.of(
+                "프론트엔드 개발자", vector(0f, 1f),
+                "데이터 엔지니어", vector(0.6f, 0.8f)));
+        Map<String, String> documents = new LinkedHashMap<>();
+        documents.put("backend", "백엔드 개발자");
+        documents.put("frontend", "프론트엔드 개발자");
+        documents.put("data", "데이터 엔지니어");
+
+        // When
+        int computed = service.computeMissing(documents, provider);
+
+        // Then
+        assertEquals(2, computed);
+        ArgumentCaptor<Iterable<TargetRoleEmbeddingEntity>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(repository).saveAll(saved.capture());
+        List<String> savedRoles = new ArrayList<>();
+        saved.getValue().forEach(entity -> savedRoles.add(entity.getRoleId()));
+        assertEquals(List.of("frontend", "data"), savedRoles);
+
+        // 새로 계산한 역할은 메모리 캐시로 바로 재사용
+        service.getOrCompute("frontend", "프론트엔드 개발자", provider);
+        verify(provider, never()).embed(anyString());
+    }
+
+    private static EmbeddingVector vector(float... values) {
+        return EmbeddingVector.of(values);
+    }
+
+    private static TargetRoleEmbeddingEntity entity(String roleId, String contentHash, EmbeddingVector embedding) {
+        TargetRoleEmbeddingEntity entity = new TargetRoleEmbeddingEntity();
+        entity.setRoleId(roleId);
+        entity.setContentHash(contentHash);
+        entity.setModelVersion(MODEL);
+        entity.setDimension(embedding.dimension());
+        entity.setEmbedding(embedding.toBytes());
+        return entity;
+    }
+}
@@ -0,0 +1,51 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.service.gemini.GeminiTrafficClass;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserProfileEmbeddingRefresherTest {
+
+    private ActivityRoleMatchService activityRoleMatchService;
+    private UserProfileEmbeddingRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        activityRoleMatchService = mock(ActivityRoleMatchService.class);
+        refresher = new UserProfileEmbeddingRefresher(activityRoleMatchService);
+    }
+
+    @Test
+    @DisplayName("프로필 변경 이벤트를 받으면 해당 사용자의 임베딩을 BACKGROUND 트래픽으로 갱신한다")
+    void onUserProfileChanged_RefreshesAsBackground() {
+        // Given
+        AtomicReference<GeminiTrafficClass> trafficClass = new AtomicReference<>();
+        when(activityRoleMatchService.refreshProfileEmbedding(7L)).thenAnswer(invocation -> {
+            trafficClass.set(GeminiTrafficClass.current());
+            return true;
+        });
+
+        // When
+        refresher.onUserProfileChanged(new UserProfileChangedEvent(7L));
+
+        // Then
+        verify(activityRoleMatchService).refreshProfileEmbedding(7L);
+        assertEquals(GeminiTrafficClass.BACKGROUND, trafficClass.get());
+    }
+
+    @Test
+    @DisplayName("갱신이 실패해도 예외를 던지지 않는다")
+    void onUserProfileChanged_SwallowsFailure() {
+        // Given
+        when(activityRoleMatchService.refreshProfileEmbedding(7L)).thenThrow(new IllegalStateException("unavailable"));
+
+        // When / Then
+        assertDoesNotThrow(() -> refresher.onUserProfileChanged(new UserProfileChangedEvent(7L)));
+    }
+}
@@ -0,0 +1,100 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.UserProfileEmbeddingEntity;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProvider;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import com.mentoai.mentoai.repository.UserProfileEmbeddingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserProfileEmbeddingServiceTest {
+
+    private static final String MODEL = "gemini-embedding-001";
+
+    private UserProfileEmbeddingRepository repository;
+    private EmbeddingProvider provider;
+    private UserProfileEmbeddingService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UserProfileEmbeddingRepository.class);
+        provider = mock(EmbeddingProvider.class);
+        when(provider.modelVersion()).thenReturn(MODEL);
+        service = new UserProfileEmbeddingService(repository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("프로필 문서가 그대로면 갱신하지 않는다")
+    void refresh_SkipsUnchangedProfile() {
+        // Given
+        when(repository.findById(1L)).thenReturn(Optional.of(
+                entity(PersistedEmbeddingStore.contentHash(provider, "백엔드 / Java, Spring"), EmbeddingVector.of(new float[]{1f, 0f}))));
+
+        // When
+        boolean recomputed = service.refresh(1L, "백엔드 / Java, Spring", provider);
+
+        // Then
+        assertFalse(recomputed);
+        verify(provider, never()).embed(anyString());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("프로필이 바뀌면 다시 임베딩해 새 해시로 저장하고, 이후 검색은 저장된 벡터를 쓴다")
+    void refresh_RecomputesChangedProfile() {
+        // Given
+        when(repository.findById(1L)).thenReturn(Optional.of(
+                entity(PersistedEmbeddingStore.contentHash(provider, "백엔드 / Java"), EmbeddingVector.of(new float[]{1f, 0f}))));
+        EmbeddingVector updated = EmbeddingVector.of(new float[]{0f, 1f});
+        when(provider.embed("백엔드 / Java, Spring")).thenReturn(updated);
+
+        // When
+        boolean recomputed = service.refresh(1L, "백엔드 / Java, Spring", provider);
+        EmbeddingVector searched = service.getOrCompute(1L, "백엔드 / Java, Spring", provider);
+
+        // Then
+        assertTrue(recomputed);
+        assertSame(updated, searched);
+        verify(provider, times(1)).embed(anyString());
+        ArgumentCaptor<UserProfileEmbeddingEntity> saved = ArgumentCaptor.forClass(UserProfileEmbeddingEntity.class);
+        verify(repository).save(saved.capture());
+        assertEquals(1L, saved.getValue().getUserId());
+        assertEquals(PersistedEmbeddingStore.contentHash(provider, "백엔드 / Java, Spring"), saved.getValue().getContentHash());
+        assertEquals(MODEL, saved.getValue().getModelVersion());
+    }
+
+    @Test
+    @DisplayName("저장에 실패해도 검색에는 바로 계산한 임베딩을 사용한다")
+    void getOrCompute_UsesLiveEmbeddingWhenSaveFails() {
+        // Given
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+        when(repository.save(any())).thenThrow(new IllegalStateException("db down"));
+        EmbeddingVector live = EmbeddingVector.of(new float[]{0.6f, 0.8f});
+        when(provider.embed("데이터 엔지니어")).thenReturn(live);
+
+        // When
+        EmbeddingVector result = service.getOrCompute(1L, "데이터 엔지니어", provider);
+
+        // Then
+        assertSame(live, result);
+    }
+
+    private static UserProfileEmbeddingEntity entity(String contentHash, EmbeddingVector embedding) {
+        UserProfileEmbeddingEntity entity = new UserProfileEmbeddingEntity();
+        entity.setUserId(1L);
+        entity.setContentHash(contentHash);
+        entity.setModelVersion(MODEL);
+        entity.setDimension(embedding.dimension());
+        entity.setEmbedding(embedding.toBytes());
+        return entity;
+    }
+}
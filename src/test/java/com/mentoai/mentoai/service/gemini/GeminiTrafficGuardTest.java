@@ -0,0 +1,167 @@
+package com.mentoai.mentoai.service.gemini;
+
+import com.mentoai.mentoai.config.GeminiTrafficProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeminiTrafficGuardTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+    private GeminiTrafficProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiTrafficProperties();
+        properties.setInteractiveMaxWaitMs(3000);
+        properties.setBackoffInitialMs(1000);
+    }
+
+    @Test
+    @DisplayName("429 응답에서 Retry-After 헤더와 본문의 retryDelay를 대기 시간으로 읽는다")
+    void parsesThrottleDelay() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "12");
+
+        assertEquals(Duration.ofSeconds(12), GeminiTrafficGuard.throttleDelay(tooManyRequests(headers, "")));
+        assertEquals(Duration.ofMillis(1500), GeminiTrafficGuard.throttleDelay(
+                tooManyRequests(new HttpHeaders(), "{\"details\":[{\"retryDelay\": \"1.5s\"}]}")));
+        assertEquals(Duration.ZERO, GeminiTrafficGuard.throttleDelay(tooManyRequests(new HttpHeaders(), "{}")));
+        assertEquals(Duration.ofSeconds(12), GeminiTrafficGuard.throttleDelay(
+                new IllegalStateException("wrapped", tooManyRequests(headers, ""))));
+        assertNull(GeminiTrafficGuard.throttleDelay(HttpClientErrorException.create(
+                HttpStatus.BAD_REQUEST, "Bad Request", new HttpHeaders(), new byte[0], StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("429를 받으면 충전 속도를 절반으로 낮추고 성공할 때마다 조금씩 회복한다")
+    void halvesRateScaleOnThrottleAndRecoversOnSuccess() {
+        // Given
+        GeminiTrafficGuard guard = newGuard();
+
+        // When
+        assertThrows(HttpClientErrorException.class,
+                () -> guard.execute(10, () -> { throw tooManyRequests(new HttpHeaders(), ""); }));
+        double throttledScale = guard.rateScale();
+        guard.execute(10, () -> "ok");
+
+        // Then
+        assertEquals(0.5, throttledScale, 1e-9);
+        assertEquals(0.55, guard.rateScale(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Retry-After만큼 다음 호출을 멈추고, 허용 대기 시간보다 길면 바로 거절한다")
+    void pausesCallsForRetryAfter() {
+        // Given
+        GeminiTrafficGuard guard = newGuard();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "2");
+        assertThrows(HttpClientErrorException.class,
+                () -> guard.execute(10, () -> { throw tooManyRequests(headers, ""); }));
+
+        // When
+        String result = guard.execute(10, () -> "ok");
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(List.of(TimeUnit.SECONDS.toNanos(2)), sleeps);
+
+        // Given
+        headers.set(HttpHeaders.RETRY_AFTER, "10");
+        assertThrows(HttpClientErrorException.class,
+                () -> guard.execute(10, () -> { throw tooManyRequests(headers, ""); }));
+
+        // When / Then
+        AtomicInteger calls = new AtomicInteger();
+        assertThrows(GeminiThrottledException.class, () -> guard.execute(10, calls::incrementAndGet));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    @DisplayName("BACKGROUND 호출은 429 후 지수 백오프만큼 기다렸다가 재시도한다")
+    void retriesBackgroundCallsWithBackoff() {
+        // Given
+        GeminiTrafficGuard guard = newGuard();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = GeminiTrafficClass.callAsBackground(() -> guard.execute(10, () -> {
+            if (attempts.incrementAndGet() <= 2) {
+                throw tooManyRequests(new HttpHeaders(), "");
+            }
+            return "ok";
+        }));
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(List.of(TimeUnit.SECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(2)), sleeps);
+    }
+
+    @Test
+    @DisplayName("bulkhead permit을 얻지 못하면 호출하지 않고 거절한다")
+    void rejectsWhenBulkheadIsFull() {
+        // Given
+        properties.setInteractiveConcurrency(1);
+        properties.setInteractiveMaxWaitMs(0);
+        GeminiTrafficGuard guard = newGuard();
+        AtomicInteger innerCalls = new AtomicInteger();
+
+        // When
+        assertThrows(GeminiThrottledException.class,
+                () -> guard.execute(10, () -> guard.execute(10, innerCalls::incrementAndGet)));
+
+        // Then
+        assertEquals(0, innerCalls.get());
+        GeminiTrafficGuard.TrafficSnapshot snapshot = guard.snapshot().get(GeminiTrafficClass.INTERACTIVE);
+        assertEquals(1, snapshot.rejected());
+        assertEquals(1, snapshot.availablePermits());
+    }
+
+    @Test
+    @DisplayName("토큰 한도로 거절되면 먼저 예약한 요청 permit을 돌려놓는다")
+    void refundsRequestPermitWhenTokenLimitRejects() {
+        // Given
+        properties.setRequestsPerMinute(2);
+        properties.setTokensPerMinute(100);
+        properties.setInteractiveMaxWaitMs(0);
+        GeminiTrafficGuard guard = newGuard();
+        guard.execute(100, () -> "first");
+
+        // When
+        assertThrows(GeminiThrottledException.class, () -> guard.execute(100, () -> "second"));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        String third = guard.execute(1, () -> "third");
+
+        // Then
+        assertEquals("third", third);
+        assertTrue(sleeps.isEmpty());
+    }
+
+    private GeminiTrafficGuard newGuard() {
+        return new GeminiTrafficGuard(properties, now::get, nanos -> {
+            sleeps.add(nanos);
+            now.addAndGet(nanos);
+        });
+    }
+
+    private static HttpClientErrorException tooManyRequests(HttpHeaders headers, String body) {
+        return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers,
+                body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,107 @@
+package com.mentoai.mentoai.service.gemini;
+
+import com.mentoai.mentoai.config.ResponseCacheProperties;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProvider;
+import com.mentoai.mentoai.integration.embedding.EmbeddingProviders;
+import com.mentoai.mentoai.integration.embedding.EmbeddingVector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GenerationResponseCacheTest {
+
+    private static final String MODEL = "gemini-2.5-flash";
+
+    // 의미 캐시용 고정 임베딩: 앞의 두 질의는 거의 같은 방향, 마지막 질의는 직교
+    private static final Map<String, EmbeddingVector> EMBEDDINGS = Map.of(
+            "공모전 추천해줘", EmbeddingVector.of(new float[]{1f, 0f, 0f}),
+            "공모전 추천 부탁해", EmbeddingVector.of(new float[]{0.99f, 0.1f, 0f}),
+            "점심 메뉴 골라줘", EmbeddingVector.of(new float[]{0f, 0f, 1f})
+    );
+
+    private ResponseCacheProperties properties;
+    private GenerationResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResponseCacheProperties();
+        properties.setSemanticProvider("fixed");
+        EmbeddingProviders providers = mock(EmbeddingProviders.class);
+        when(providers.byName("fixed")).thenReturn(new FixedEmbeddingProvider());
+        cache = new GenerationResponseCache(properties, providers);
+    }
+
+    @Test
+    @DisplayName("정확 일치 캐시는 모델, namespace, 프롬프트가 모두 같을 때만 적중한다")
+    void exactTier() {
+        // Given
+        cache.put(TextCacheOptions.exact("summary"), MODEL, "프롬프트", "응답");
+
+        // When / Then
+        assertEquals("응답", cache.get(TextCacheOptions.exact("summary"), MODEL, "프롬프트"));
+        assertNull(cache.get(TextCacheOptions.exact("intent"), MODEL, "프롬프트"));
+        assertNull(cache.get(TextCacheOptions.exact("summary"), "other-model", "프롬프트"));
+        assertNull(cache.get(TextCacheOptions.exact("summary"), MODEL, "다른 프롬프트"));
+    }
+
+    @Test
+    @DisplayName("namespace와 프롬프트 경계가 달라지면 같은 문자열로 이어져도 다른 키가 된다")
+    void exactTier_SeparatesParts() {
+        // Given
+        cache.put(TextCacheOptions.exact("chat:a"), MODEL, "b", "첫 번째");
+
+        // When / Then
+        assertNull(cache.get(TextCacheOptions.exact("chat"), MODEL, "a:b"));
+        assertEquals("첫 번째", cache.get(TextCacheOptions.exact("chat:a"), MODEL, "b"));
+    }
+
+    @Test
+    @DisplayName("의미 캐시는 같은 namespace에서 유사도가 임계값 이상인 질의의 응답을 재사용한다")
+    void semanticTier() {
+        // Given
+        properties.setSemanticEnabled(true);
+        properties.setSemanticThreshold(0.95);
+        cache.put(TextCacheOptions.semantic("chat", "공모전 추천해줘"), MODEL, "프롬프트 1", "공모전 응답");
+
+        // When / Then
+        assertEquals("공모전 응답",
+                cache.get(TextCacheOptions.semantic("chat", "공모전 추천 부탁해"), MODEL, "프롬프트 2"));
+        assertNull(cache.get(TextCacheOptions.semantic("chat", "점심 메뉴 골라줘"), MODEL, "프롬프트 3"));
+        assertNull(cache.get(TextCacheOptions.semantic("intent", "공모전 추천 부탁해"), MODEL, "프롬프트 2"));
+    }
+
+    @Test
+    @DisplayName("의미 캐시가 꺼져 있으면 유사한 질의라도 정확 일치만 사용한다")
+    void semanticTierDisabled() {
+        // Given
+        cache.put(TextCacheOptions.semantic("chat", "공모전 추천해줘"), MODEL, "프롬프트 1", "공모전 응답");
+
+        // When / Then
+        assertNull(cache.get(TextCacheOptions.semantic("chat", "공모전 추천 부탁해"), MODEL, "프롬프트 2"));
+        assertEquals("공모전 응답",
+                cache.get(TextCacheOptions.semantic("chat", "공모전 추천해줘"), MODEL, "프롬프트 1"));
+    }
+
+    private static final class FixedEmbeddingProvider implements EmbeddingProvider {
+
+        @Override
+        public String name() {
+            return "fixed";
+        }
+
+        @Override
+        public EmbeddingVector embed(String text) {
+            EmbeddingVector embedding = EMBEDDINGS.get(text);
+            if (embedding == null) {
+                throw new IllegalArgumentException("Unexpected text: " + text);
+            }
+            return embedding;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.mentoai.mentoai.service.intent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentoai.mentoai.config.IntentClassifierProperties;
+import com.mentoai.mentoai.entity.RecommendChatLogEntity;
+import com.mentoai.mentoai.repository.RecommendChatLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ResourceLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class IntentModelTrainerTest {
+
+    private final IntentModelTrainer trainer = new IntentModelTrainer(
+            new IntentClassifierProperties(),
+            mock(RecommendIntentClassifier.class),
+            mock(RecommendChatLogRepository.class),
+            mock(ResourceLoader.class),
+            new ObjectMapper());
+
+    @Test
+    @DisplayName("LLM이 명시한 판정만 라벨로 쓰고 분류기가 확정한 로그와 판정 없는 로그는 제외한다")
+    void historyExamples_UsesOnlyExplicitLlmVerdicts() {
+        // Given
+        List<RecommendChatLogEntity> logs = List.of(
+                chatLog("공모전 추천", "{\"recommendationIntent\":true,\"items\":[]}", false),
+                chatLog("오늘 기분 어때", "```json\n{\"recommendationIntent\":false,\"answer\":\"좋아요\"}", false),
+                chatLog("해커톤 알려줘", "{\"recommendationIntent\":true}", true),
+                chatLog("인턴 공고", "[{\"activityId\":1}]", false),
+                chatLog("대회 찾아줘", null, false)
+        );
+
+        // When
+        List<NaiveBayesIntentModel.Example> examples = trainer.historyExamples(logs);
+
+        // Then
+        assertEquals(List.of(
+                new NaiveBayesIntentModel.Example("공모전 추천", true),
+                new NaiveBayesIntentModel.Example("오늘 기분 어때", false)
+        ), examples);
+    }
+
+    @Test
+    @DisplayName("2단계 호출 모드에서 request_payload에 기록된 불확실 구간 LLM 판정도 라벨로 쓴다")
+    void historyExamples_UsesRecordedUncertainVerdicts() {
+        // Given
+        RecommendChatLogEntity recommended = chatLog("요즘 뭐 하면 좋을까", "[{\"activityId\":1}]", false);
+        recommended.setRequestPayload("{\"request\":{},\"intentFromClassifier\":false,\"llmIntentVerdict\":true}");
+        RecommendChatLogEntity chitchat = chatLog("점심 뭐 먹지", null, false);
+        chitchat.setRequestPayload("{\"request\":{},\"intentFromClassifier\":false,\"llmIntentVerdict\":false}");
+
+        // When
+        List<NaiveBayesIntentModel.Example> examples = trainer.historyExamples(List.of(recommended, chitchat));
+
+        // Then
+        assertEquals(List.of(
+                new NaiveBayesIntentModel.Example("요즘 뭐 하면 좋을까", true),
+                new NaiveBayesIntentModel.Example("점심 뭐 먹지", false)
+        ), examples);
+    }
+
+    @Test
+    @DisplayName("이력 예시는 클래스 비율 한도까지 최신 로그부터 남긴다")
+    void balanceHistory_CapsMajorityClass() {
+        // Given
+        List<NaiveBayesIntentModel.Example> base = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            base.add(new NaiveBayesIntentModel.Example("기타 " + i, false));
+        }
+        List<NaiveBayesIntentModel.Example> history = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            history.add(new NaiveBayesIntentModel.Example("추천 " + i, true));
+        }
+        history.add(new NaiveBayesIntentModel.Example("기타 이력", false));
+
+        // When
+        List<NaiveBayesIntentModel.Example> balanced = IntentModelTrainer.balanceHistory(base, history, 3.0);
+
+        // Then: 부정 5개의 3배인 긍정 15개까지만 사용
+        assertEquals(16, balanced.size());
+        assertEquals(15, balanced.stream().filter(NaiveBayesIntentModel.Example::recommendation).count());
+        assertEquals("추천 0", balanced.get(0).text());
+        assertTrue(balanced.contains(new NaiveBayesIntentModel.Example("기타 이력", false)));
+    }
+
+    @Test
+    @DisplayName("클래스가 균형을 이루면 이력 예시를 모두 사용한다")
+    void balanceHistory_KeepsBalancedHistory() {
+        // Given
+        List<NaiveBayesIntentModel.Example> base = List.of(
+                new NaiveBayesIntentModel.Example("추천", true),
+                new NaiveBayesIntentModel.Example("기타", false));
+        List<NaiveBayesIntentModel.Example> history = List.of(
+                new NaiveBayesIntentModel.Example("공모전", true),
+                new NaiveBayesIntentModel.Example("안녕", false));
+
+        // When / Then
+        assertEquals(history, IntentModelTrainer.balanceHistory(base, history, 3.0));
+    }
+
+    private RecommendChatLogEntity chatLog(String query, String geminiResponse, boolean intentFromClassifier) {
+        RecommendChatLogEntity chatLog = new RecommendChatLogEntity();
+        chatLog.setUserQuery(query);
+        chatLog.setGeminiResponse(geminiResponse);
+        chatLog.setRequestPayload("{\"request\":{},\"intentFromClassifier\":" + intentFromClassifier + "}");
+        return chatLog;
+    }
+}
@@ -0,0 +1,71 @@
+package com.mentoai.mentoai.service.intent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NaiveBayesIntentModelTest {
+
+    private NaiveBayesIntentModel model;
+
+    @BeforeEach
+    void setUp() {
+        model = NaiveBayesIntentModel.train(List.of(
+                new NaiveBayesIntentModel.Example("공모전 추천해줘", true),
+                new NaiveBayesIntentModel.Example("데이터 분석 대회 알려줘", true),
+                new NaiveBayesIntentModel.Example("백엔드 인턴 채용 공고", true),
+                new NaiveBayesIntentModel.Example("스터디 모임 추천", true),
+                new NaiveBayesIntentModel.Example("안녕하세요", false),
+                new NaiveBayesIntentModel.Example("오늘 날씨 어때", false),
+                new NaiveBayesIntentModel.Example("자바 문법 설명해줘", false),
+                new NaiveBayesIntentModel.Example("고마워", false)
+        ), 2, 3, 1.0);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기/조사가 달라도 추천 요청과 일반 대화를 구분한다")
+    void recommendationProbability_SeparatesIntents() {
+        // When
+        double recommend = model.recommendationProbability("AI 공모전좀 추천해 줄래?");
+        double other = model.recommendationProbability("안녕 오늘 날씨 좋다");
+
+        // Then
+        assertTrue(recommend > 0.8);
+        assertTrue(other < 0.2);
+    }
+
+    @Test
+    @DisplayName("학습에 없는 단어만 있으면 사전 확률을 따른다")
+    void recommendationProbability_UnknownQuery() {
+        assertEquals(0.5, model.recommendationProbability("xyz"), 1e-9);
+    }
+
+    @Test
+    @DisplayName("저장한 모델을 다시 읽으면 같은 확률을 낸다")
+    void writeAndRead_RoundTrip() throws Exception {
+        // Given
+        StringWriter writer = new StringWriter();
+        model.write(writer);
+
+        // When
+        NaiveBayesIntentModel loaded = NaiveBayesIntentModel.read(new StringReader(writer.toString()));
+
+        // Then
+        assertEquals(model.vocabularySize(), loaded.vocabularySize());
+        assertEquals(model.recommendationProbability("채용 공고 알려줘"),
+                loaded.recommendationProbability("채용 공고 알려줘"), 1e-12);
+    }
+
+    @Test
+    @DisplayName("한쪽 클래스 예시만으로는 학습할 수 없다")
+    void train_RequiresBothClasses() {
+        assertThrows(IllegalArgumentException.class, () -> NaiveBayesIntentModel.train(
+                List.of(new NaiveBayesIntentModel.Example("공모전", true)), 2, 3, 1.0));
+    }
+}
@@ -0,0 +1,80 @@
+package com.mentoai.mentoai.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedTtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("TTL이 지나면 항목을 반환하지 않고 제거한다")
+    void expiresAfterTtl() {
+        // Given
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10, 1000, now::get);
+        cache.put("key", "value");
+
+        // When
+        advanceMillis(999);
+        String beforeExpiry = cache.get("key");
+        advanceMillis(1);
+        String afterExpiry = cache.get("key");
+
+        // Then
+        assertEquals("value", beforeExpiry);
+        assertNull(afterExpiry);
+        assertEquals(0, cache.size());
+        BoundedTtlCache.CacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.evictions());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        // Given
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2, 0, now::get);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+
+        // When
+        cache.put("c", "3");
+
+        // Then
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("크기 초과 시 만료된 항목을 최근 항목보다 먼저 제거한다")
+    void evictsExpiredBeforeLive() {
+        // Given
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2, 1000, now::get);
+        cache.put("old", "1");
+        advanceMillis(500);
+        cache.put("recent", "2");
+        cache.get("old");
+        advanceMillis(600);
+
+        // When: old는 만료, recent는 유효
+        cache.put("new", "3");
+
+        // Then
+        assertEquals(2, cache.size());
+        assertEquals("2", cache.get("recent"));
+        assertEquals("3", cache.get("new"));
+    }
+
+    private void advanceMillis(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
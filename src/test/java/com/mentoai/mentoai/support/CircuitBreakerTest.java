@@ -0,0 +1,108 @@
+package com.mentoai.mentoai.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        // 최근 10건 중 최소 4건, 실패율 50% 이상이면 OPEN, 1초 후 시험 호출 2건
+        breaker = new CircuitBreaker("test", 10, 4, 0.5, 1000, 2, now::get);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계값을 넘으면 열리고 호출을 즉시 거절한다")
+    void opensAfterFailureRateThreshold() {
+        // Given
+        recordSuccess();
+        recordSuccess();
+        recordFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        // When
+        recordFailure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(1, breaker.rejectedCalls());
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 미만에서는 실패해도 열리지 않는다")
+    void staysClosedBelowMinimumCalls() {
+        recordFailure();
+        recordFailure();
+        recordFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 시험 호출이 모두 성공할 때 닫힌다")
+    void closesAfterSuccessfulProbes() {
+        // Given
+        openBreaker();
+        advanceMillis(1000);
+
+        // When
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission()); // 시험 호출 수 초과
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0.0, breaker.failureRate());
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열린다")
+    void reopensWhenProbeFails() {
+        // Given
+        openBreaker();
+        advanceMillis(1000);
+        assertTrue(breaker.tryAcquirePermission());
+
+        // When
+        breaker.onFailure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            recordFailure();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    private void recordSuccess() {
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onSuccess();
+    }
+
+    private void recordFailure() {
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure();
+    }
+
+    private void advanceMillis(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
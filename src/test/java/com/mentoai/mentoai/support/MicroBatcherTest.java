@@ -0,0 +1,109 @@
+package com.mentoai.mentoai.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicroBatcherTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private MicroBatcher<String, String> batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    @Test
+    @DisplayName("배치 결과를 입력 순서대로 각 요청에 돌려준다")
+    void completesInInputOrder() {
+        // Given
+        batcher = new MicroBatcher<>("test", 3, 1000, this::upperCase, Runnable::run);
+
+        // When
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+        CompletableFuture<String> c = batcher.submit("c");
+
+        // Then
+        assertEquals("A", a.join());
+        assertEquals("B", b.join());
+        assertEquals("C", c.join());
+        assertEquals(List.of(List.of("a", "b", "c")), batches);
+    }
+
+    @Test
+    @DisplayName("배치 결과 수가 입력 수와 다르면 묶인 요청 모두 실패한다")
+    void failsAllOnSizeMismatch() {
+        // Given
+        batcher = new MicroBatcher<>("test", 2, 1000, inputs -> List.of("only-one"), Runnable::run);
+
+        // When
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+
+        // Then
+        CompletionException error = assertThrows(CompletionException.class, a::join);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertThrows(CompletionException.class, b::join);
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 단건으로 다시 호출해 문제없는 요청은 성공시킨다")
+    void retriesItemsIndividuallyOnBatchFailure() {
+        // Given
+        batcher = new MicroBatcher<>("test", 2, 1000,
+                inputs -> {
+                    throw new IllegalArgumentException("400 from one input");
+                },
+                item -> {
+                    if (item.equals("bad")) {
+                        throw new IllegalArgumentException("bad input");
+                    }
+                    return item.toUpperCase();
+                },
+                Runnable::run);
+
+        // When
+        CompletableFuture<String> good = batcher.submit("good");
+        CompletableFuture<String> bad = batcher.submit("bad");
+
+        // Then
+        assertEquals("GOOD", good.join());
+        CompletionException error = assertThrows(CompletionException.class, bad::join);
+        assertEquals("bad input", error.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("close()는 모으던 요청을 처리한 뒤 종료하고 이후 요청은 거절한다")
+    void closeDrainsCollectedRequests() throws Exception {
+        // Given: 대기 시간이 길어 close() 전에는 전송되지 않음
+        batcher = new MicroBatcher<>("test", 10, 60_000, this::upperCase, Runnable::run);
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+
+        // When
+        batcher.close();
+
+        // Then
+        assertEquals("A", a.get(1, TimeUnit.SECONDS));
+        assertEquals("B", b.get(1, TimeUnit.SECONDS));
+        CompletionException error = assertThrows(CompletionException.class, () -> batcher.submit("c").join());
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+    }
+
+    private List<String> upperCase(List<String> inputs) {
+        batches.add(List.copyOf(inputs));
+        return inputs.stream().map(String::toUpperCase).toList();
+    }
+}
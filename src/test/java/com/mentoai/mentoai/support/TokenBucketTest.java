@@ -0,0 +1,108 @@
+package com.mentoai.mentoai.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+    private TokenBucket bucket;
+
+    @BeforeEach
+    void setUp() {
+        // 분당 60개 = 초당 1개 충전
+        bucket = new TokenBucket(60, now::get);
+    }
+
+    @Test
+    @DisplayName("남은 양 안에서는 기다리지 않고 예약한다")
+    void reservesWithoutWaitWithinCapacity() {
+        // When
+        long wait = bucket.tryReserve(10, 0);
+
+        // Then
+        assertEquals(0, wait);
+        assertEquals(50, bucket.available(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("부족한 만큼 충전될 때까지의 대기 시간을 돌려주고 미리 차감한다")
+    void returnsWaitForDeficit() {
+        // Given
+        bucket.tryReserve(60, 0);
+
+        // When
+        long wait = bucket.tryReserve(2, 5 * SECOND);
+
+        // Then
+        assertEquals(2 * SECOND, wait, 1_000);
+        assertEquals(-2, bucket.available(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("허용 대기 시간을 넘으면 -1을 반환하고 차감하지 않는다")
+    void rejectsWithoutReservingBeyondMaxWait() {
+        // Given
+        bucket.tryReserve(60, 0);
+
+        // When
+        long wait = bucket.tryReserve(5, SECOND);
+
+        // Then
+        assertEquals(-1, wait);
+        assertEquals(0, bucket.available(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("사용하지 않은 예약은 용량 한도 안에서 돌려놓는다")
+    void refundsUnusedPermits() {
+        // Given
+        bucket.tryReserve(30, 0);
+
+        // When
+        bucket.refund(10);
+        bucket.refund(100);
+
+        // Then
+        assertEquals(60, bucket.available(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 용량까지만 충전된다")
+    void refillsOverTime() {
+        // Given
+        bucket.tryReserve(60, 0);
+
+        // When
+        now.addAndGet(10 * SECOND);
+        double afterTenSeconds = bucket.available();
+        now.addAndGet(TimeUnit.MINUTES.toNanos(5));
+
+        // Then
+        assertEquals(10, afterTenSeconds, 1e-9);
+        assertEquals(60, bucket.available(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("rateScale을 낮추면 충전과 대기 시간이 그만큼 느려진다")
+    void rateScaleSlowsRefill() {
+        // Given
+        bucket.tryReserve(60, 0);
+        bucket.setRateScale(0.5);
+
+        // When
+        now.addAndGet(10 * SECOND);
+
+        // Then
+        assertEquals(5, bucket.available(), 1e-9);
+        assertEquals(2 * SECOND, bucket.tryReserve(6, 10 * SECOND), 1_000);
+    }
+}